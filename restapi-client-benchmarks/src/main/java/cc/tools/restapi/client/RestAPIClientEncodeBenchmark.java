@@ -0,0 +1,97 @@
+package cc.tools.restapi.client;
+
+import java.net.http.HttpRequest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks string building on the send path: url encoding of
+ * form data and logger message concatenation.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestAPIClientEncodeBenchmark {
+
+  /**
+   * Method builds the inputs once per trial.
+   */
+  @Setup
+  public void setup() {
+
+    _security = new RestAPIClientSecurity(new RestAPIClientConfig(new String[] {
+        "-protocol", "http",
+        "-hostname", "127.0.0.1",
+        "-port", "8080",
+        "-url", "/api",
+        "-entity", "item",
+        "-action", "get",
+        "-log", "off" }));
+
+    _data.put("name", "benchmark item");
+    _data.put("owner", "cc@example.com");
+    _data.put("query", "a=1&b=2");
+    _data.put("count", "3");
+  }
+
+  /**
+   * Url encoding of form data.
+   *
+   * @return HttpRequest.BodyPublisher encoded data.
+   */
+  @Benchmark
+  public HttpRequest.BodyPublisher encodeData() {
+
+    return _security.encodeData(_data);
+  }
+
+  /**
+   * Concatenation of a typical debug line.
+   *
+   * @return String concatenated line.
+   */
+  @Benchmark
+  public String concat() {
+
+    return _logger.concat("[", ++_i, "] post to url: ", "http://127.0.0.1:8080/api/item");
+  }
+
+  /**
+   * Security object.
+   */
+  private RestAPIClientSecurity _security;
+
+  /**
+   * Form data.
+   */
+  private final Map<String, String> _data = new LinkedHashMap<String, String>();
+
+  /**
+   * Logger implementation.
+   */
+  private final RestAPIClientLoggerImpl _logger = new RestAPIClientLoggerImpl();
+
+  /**
+   * Message number.
+   */
+  private long _i = 0;
+}
@@ -0,0 +1,65 @@
+package cc.tools.restapi.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks command line parameter loading.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestAPIClientParameterBenchmark {
+
+  /**
+   * Parameter loading of a typical command line.
+   *
+   * @return Map loaded name value pairs.
+   */
+  @Benchmark
+  public Map<String, String> load() {
+
+    Map<String, String> values = new HashMap<String, String>();
+
+    List<String> errors = new ArrayList<String>();
+
+    RestAPIClientParameterKeys.load(_ARGS, values, errors);
+
+    return values;
+  }
+
+  /**
+   * Typical command line.
+   */
+  private static final String[] _ARGS = new String[] {
+      "-protocol", "http",
+      "-hostname", "127.0.0.1",
+      "-port", "8080",
+      "-url", "/api",
+      "-entity", "item",
+      "-action", "post",
+      "-payload", "{\"name\":\"benchmark\"}",
+      "-count", "100000",
+      "-concurrency", "64",
+      "-log", "off" };
+}
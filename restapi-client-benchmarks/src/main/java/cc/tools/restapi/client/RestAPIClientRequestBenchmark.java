@@ -0,0 +1,174 @@
+package cc.tools.restapi.client;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks per-send request construction: get and post requests
+ * built from the request template, post with the payload rendered per send
+ * for -unique, and the payload render on its own. Nothing is sent.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestAPIClientRequestBenchmark {
+
+  /**
+   * Method builds the actions once per trial.
+   */
+  @Setup
+  public void setup() {
+
+    RestAPIClientConfig get = config("get", false);
+
+    RestAPIClientConfig post = config("post", false);
+
+    RestAPIClientConfig postUnique = config("post", true);
+
+    _get = new RestAPIClientActionGet(get, new RestAPIClientSecurity(get));
+
+    _post = new RestAPIClientActionPost(post, new RestAPIClientSecurity(post));
+
+    _postUnique = new RestAPIClientActionPost(postUnique, new RestAPIClientSecurity(postUnique));
+
+    if (!_get.isValid() || !_post.isValid() || !_postUnique.isValid()) {
+
+      throw new IllegalStateException("benchmark action invalid");
+    }
+
+    _payloadTemplate = RestAPIClientPayloadTemplate.compile(_PAYLOAD, new ArrayList<String>());
+  }
+
+  /**
+   * Get request from the request template.
+   *
+   * @return HttpRequest built.
+   */
+  @Benchmark
+  public HttpRequest get() {
+
+    return _get.request(++_i);
+  }
+
+  /**
+   * Post request from the request template with a fixed payload.
+   *
+   * @return HttpRequest built.
+   */
+  @Benchmark
+  public HttpRequest post() {
+
+    return _post.request(++_i);
+  }
+
+  /**
+   * Post request with the payload rendered for this send.
+   *
+   * @return HttpRequest built.
+   */
+  @Benchmark
+  public HttpRequest postUnique() {
+
+    return _postUnique.request(++_i);
+  }
+
+  /**
+   * Payload render on its own.
+   *
+   * @return byte[] rendered payload.
+   */
+  @Benchmark
+  public byte[] render() {
+
+    return _payloadTemplate.render(++_i);
+  }
+
+  /**
+   * Method returns configuration for an action.
+   *
+   * @param action get or post.
+   * @param unique whether -unique is set.
+   * @return RestAPIClientConfig configuration.
+   */
+  private static RestAPIClientConfig config(String action, boolean unique) {
+
+    ArrayList<String> args = new ArrayList<String>(List.of(
+        "-protocol", "http",
+        "-hostname", "127.0.0.1",
+        "-port", "8080",
+        "-url", "/api",
+        "-entity", "item",
+        "-action", action,
+        "-log", "off"));
+
+    if (action.equals("post")) {
+
+      args.add("-payload");
+      args.add(_PAYLOAD);
+    }
+
+    if (unique) {
+
+      args.add("-unique");
+    }
+
+    RestAPIClientConfig config = new RestAPIClientConfig(args.toArray(new String[args.size()]));
+
+    if (!config.isValid()) {
+
+      throw new IllegalStateException("benchmark configuration invalid " + args);
+    }
+
+    return config;
+  }
+
+  /**
+   * Payload used for post and render.
+   */
+  private static final String _PAYLOAD = "{\"id\":${seq},\"key\":\"${uuid}\",\"name\":\"benchmark\",\"count\":3}";
+
+  /**
+   * Get action.
+   */
+  private RestAPIClientActionGet _get;
+
+  /**
+   * Post action with fixed payload.
+   */
+  private RestAPIClientActionPost _post;
+
+  /**
+   * Post action with -unique.
+   */
+  private RestAPIClientActionPost _postUnique;
+
+  /**
+   * Payload template for render.
+   */
+  private RestAPIClientPayloadTemplate _payloadTemplate;
+
+  /**
+   * Message number.
+   */
+  private long _i = 0;
+}
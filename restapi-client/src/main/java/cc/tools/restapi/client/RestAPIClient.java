@@ -1,5 +1,10 @@
 package cc.tools.restapi.client;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * This is a REST command line utility.
  * 
@@ -41,6 +46,17 @@ public class RestAPIClient {
 
     RestAPIClient.logger(config).info("start pid " + RestAPIClient.getPid());
 
+    if (config.getAgent() > 0) {
+
+      new RestAPIClientAgent(config.getAgentBind(), config.getAgent(), config.getAgentToken()).run();
+
+      RestAPIClient.logger().info("stop");
+
+      RestAPIClient.logger().shutdown();
+
+      return;
+    }
+
     config.dump();
 
     RestAPIClient client = new RestAPIClient(config);
@@ -55,6 +71,8 @@ public class RestAPIClient {
     }
 
     RestAPIClient.logger().info("stop");
+    
+    RestAPIClient.logger().shutdown();
   }
 
   /**
@@ -95,6 +113,27 @@ public class RestAPIClient {
     return _pid;
   }
 
+  /**
+   * Method sets the wall clock time sending starts at, so that the agents of a
+   * -coordinator start together.
+   * 
+   * @param epochMillis start time in {@link System#currentTimeMillis()} units.
+   */
+  void startAt(long epochMillis) {
+    
+    _startAt = epochMillis;
+  }
+
+  /**
+   * Method returns the stats of the last send to server.
+   * 
+   * @return RestAPIClientStats stats, or null before sending.
+   */
+  RestAPIClientStats stats() {
+    
+    return _stats;
+  }
+
   /**
    * Method returns boolean indicating whether {@link RestAPIClient} object is in
    * a valid state.
@@ -127,6 +166,8 @@ public class RestAPIClient {
     if (config.isValid()) {
     
       _logger.unbuffer(config.getLog());
+      
+      _logger.async(config.getLogAsync());
     }
     
     return _logger;
@@ -139,14 +180,94 @@ public class RestAPIClient {
    */
   public boolean sendToServer() {
   
+    if (_config.getCoordinator() != null) {
+      
+      return new RestAPIClientCoordinator(_config).run();
+    }
+    
+    if (_config.getSelfTest()) {
+      
+      _stub = startStub();
+      
+      if (_stub == null) {
+        
+        return false;
+      }
+    }
+    
+    try {
+      
+      return sendAction();
+      
+    } finally {
+      
+      if (_stub != null) {
+        
+        _stub.stop();
+        
+        _stub = null;
+      }
+    }
+  }
+
+  /**
+   * Method binds and starts the -self-test stub and points -port at it.
+   * 
+   * @return RestAPIClientStub started stub, or null on error.
+   */
+  private RestAPIClientStub startStub() {
+    
+    List<String> errors = new ArrayList<String>();
+    
+    RestAPIClientStub stub = RestAPIClientStub.open(0, _config.getURL(), _config.getStubDelay(), _config.getStubSize(),
+        _config.getStubStatus(), errors);
+    
+    if (stub == null) {
+      
+      for (String error : errors) {
+        
+        _logger.error(error);
+      }
+      
+      return null;
+    }
+    
+    _config.setStubPort(stub.port());
+    
+    stub.start();
+    
+    return stub;
+  }
+
+  /**
+   * Method sends to server with the action for the configuration.
+   * 
+   * @return boolean if success, fail otherwise.
+   */
+  private boolean sendAction() {
+    
     String action = _config.getAction();
     
-    if (action.compareTo(RestAPIClientValues._ACTION_DELETE) == 0) {
+    if (_config.getScenario() != null) {
+      
+      if (send(new RestAPIClientActionScenario(_config, _security))) {
+        
+        return true;
+      }
+      
+    } else if (_config.getWorkflow() != null) {
+      
+      if (send(new RestAPIClientActionWorkflow(_config, _security))) {
+        
+        return true;
+      }
+      
+    } else if (action.compareTo(RestAPIClientValues._ACTION_DELETE) == 0) {
   
-      //if (send(new RestAPIClientActionDelete(_config, _security))) {
-      //
-      //  return true;
-      //}
+      if (send(new RestAPIClientActionDelete(_config, _security))) {
+        
+        return true;
+      }
   
     } else if (action.compareTo(RestAPIClientValues._ACTION_GET) == 0) {
       
@@ -164,10 +285,10 @@ public class RestAPIClient {
   
     } else if (action.compareTo(RestAPIClientValues._ACTION_PUT) == 0) {
       
-      //if (send(new RestAPIClientActionPut(_config, _security))) {
-      //
-      //  return true;
-      //}
+      if (send(new RestAPIClientActionPut(_config, _security))) {
+  
+        return true;
+      }
   
     } else {
     
@@ -179,21 +300,6 @@ public class RestAPIClient {
     return false;
   }
 
-  /**
-   * Method to sleep in production loop.
-   */
-  private void pause() {
-  
-    try {
-  
-      Thread.sleep(_config.getSleep());
-      
-    } catch (Exception e) {
-  
-      _logger.exception(e);
-    }
-  }
-
   /**
    * Method sends configured message to the server vis action parameter.
    * 
@@ -212,68 +318,129 @@ public class RestAPIClient {
     }
     
     sendToServerHeader(count);
-        
-    long i = 0;
     
-    if (i < count || count == 0) {
-  
-      while (true) {
-  
-        _logger.debug("[",
-            i + 1,
-            "] start");
-  
-        if (!actionI.send(i+1)) {
-  
-          _logger.error(actionI.action() + " to server failed");
-  
-          return false;
-        }
-  
-        sendToServerUpdate(i+1, count, "ok");
-        
-        if (++i >= count && count != 0) {
-          
-          break;
-        }
+    RestAPIClientProgress progress = new RestAPIClientProgress(count, _config.getReportInterval() == 0);
+    
+    RestAPIClientStats stats = new RestAPIClientStats();
+    
+    _stats = stats;
+    
+    if (_config.getScenario() != null) {
+      
+      stats.endpoints(_config.getScenario());
+    }
+    
+    RestAPIClientResults results = null;
+    
+    if (!_config.getResults().isEmpty()) {
+      
+      results = RestAPIClientResults.open(_config.getResults());
+      
+      if (results == null) {
         
-        pause();
+        return false;
       }
+      
+      stats.results(results);
+    }
+    
+    RestAPIClientReporter reporter = null;
+    
+    if (_config.getReportInterval() > 0) {
+      
+      reporter = new RestAPIClientReporter(_config.getReportInterval());
+      
+      stats.reporter(reporter);
+      
+      reporter.start();
+    }
+    
+    boolean result = false;
+    
+    waitUntil(_startAt);
+    
+    stats.start();
+    
+    if (_config.getFindMax()) {
+      
+      result = new RestAPIClientFindMax(_config, actionI, progress, stats).run();
+      
+    } else if (_config.getProfile() != null || _config.getRate() > 0) {
+    
+      result = new RestAPIClientScheduler(_config, actionI, progress, stats).run();
+      
+    } else if (_config.getInflight() > 0) {
+      
+      result = new RestAPIClientPipeline(_config, actionI, progress, stats).run();
+      
+    } else {
+      
+      result = new RestAPIClientWorkers(_config, actionI, progress, stats).run();
+    }
+    
+    stats.stop();
+    
+    long elapsed = stats.elapsed();
+    
+    if (reporter != null) {
+      
+      reporter.stop();
+    }
+    
+    if (results != null) {
+      
+      results.close();
+    }
+    
+    stats.dump();
+    
+    stats.dumpEndpoints(elapsed);
+    
+    if (actionI instanceof RestAPIClientActionWorkflow workflow) {
+      
+      workflow.dump(elapsed);
+    }
+    
+    if (_config.getUpload() != null) {
+      
+      _config.getUpload().dump(stats.latency().count(), elapsed);
+    }
+    
+    if (_config.getLimiter() != null) {
+      
+      _config.getLimiter().dump();
     }
     
-    return true;    
+    if (_config.getRetry() != null) {
+      
+      _config.getRetry().dump();
+    }
+    
+    if (_config.getHedge() != null) {
+      
+      _config.getHedge().dump();
+    }
+    
+    RestAPIClientHttp.dump();
+    
+    RestAPIClientBody.dump();
+    
+    return result;
   }
 
   /**
-   * Method prints footer for send server action.
+   * Method waits until a wall clock time.
    * 
-   * @param i send number.
-   * @param count target number of sends.
-   * @param status output string.
+   * @param epochMillis time in {@link System#currentTimeMillis()} units, 0 for
+   *                    now.
    */
-  private void sendToServerUpdate(long i, long count, String status) {
+  private void waitUntil(long epochMillis) {
     
-    if (_logger.isOn(RestAPIClientLoggerImpl._LOG_LEVEL._LOG_DEBUG)) { 
-        
-      if (count == 0) {
-  
-        _logger.debug("[",
-            i,
-            "] sent ",
-            status);
-  
-      } else {
-  
-        _logger.debug("[",
-            i,
-            "/",
-            count,
-            "] sent ",
-            status);
-      }      
-    } else {
+    long remaining;
+    
+    while ((remaining = epochMillis - System.currentTimeMillis()) > 0) {
       
-      _logger.info('.');
+      LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(remaining));
     }
   }
 
@@ -285,7 +452,141 @@ public class RestAPIClient {
   private void sendToServerHeader(long count) {
   
     _logger.info("sending to server ..");
+    
+    if (_config.getFindMax()) {
+      
+      _logger.info("will search for the highest rate meeting -slo ",
+          _config.getSlo(),
+          " with trials of ",
+          _config.getWarmupText(),
+          " warmup and ",
+          _config.getTrialText(),
+          " counted");
+      
+      return;
+    }
+  
+    if (_stub != null) {
+      
+      _logger.info("self-test against loopback stub on port ",
+          _stub.port(),
+          " delay ",
+          _config.getStubDelayText(),
+          " size ",
+          _config.getStubSize(),
+          " status ",
+          _config.getStubStatus());
+    }
   
+    if (_config.getScenario() != null) {
+      
+      RestAPIClientScenario scenario = _config.getScenario();
+      
+      _logger.info("scenario of ",
+          scenario.count(),
+          " endpoints from ",
+          _config.getScenarioFile());
+      
+      for (int k = 0; k < scenario.count(); k++) {
+        
+        _logger.info("endpoint ",
+            scenario.name(k),
+            " ",
+            String.format("%.1f", scenario.share(k) * 100.0),
+            "%");
+      }
+    }
+    
+    if (_config.getWorkflow() != null) {
+      
+      RestAPIClientWorkflow workflow = _config.getWorkflow();
+      
+      _logger.info("workflow of ",
+          workflow.count(),
+          " steps from ",
+          _config.getWorkflowFile());
+      
+      for (int k = 0; k < workflow.count(); k++) {
+        
+        _logger.info("step ",
+            workflow.name(k),
+            workflow.fields(k).length > 0 ? " extract " + String.join(",", workflow.fields(k)) : "");
+      }
+    }
+    
+    if (_config.getCorpus() != null) {
+      
+      _logger.info("payloads from ",
+          _config.getCorpus().count(),
+          " records of ",
+          _config.getPayloadFile(),
+          " in ",
+          _config.getPayloadOrder(),
+          " order");
+    }
+    
+    if (_config.getUpload() != null) {
+      
+      _logger.info("uploading ",
+          _config.getUpload().size(),
+          " bytes of ",
+          _config.getUploadFile(),
+          " per send");
+    }
+    
+    if (_config.getProfile() != null) {
+      
+      RestAPIClientProfile profile = _config.getProfile();
+      
+      _logger.info("will send ",
+          profile.count(),
+          " total in ",
+          profile.stages(),
+          " stages (open loop)");
+      
+      for (int s = 0; s < profile.stages(); s++) {
+        
+        _logger.info("stage ",
+            s + 1,
+            " ",
+            profile.name(s));
+      }
+      
+      return;
+    }
+    
+    if (_config.getRate() > 0) {
+      
+      if (count == 0) {
+        
+        _logger.info("will send continuously at ",
+            _config.getRate(),
+            " per second (open loop)");
+        
+      } else {
+        
+        _logger.info("will send ",
+            count,
+            " total at ",
+            _config.getRate(),
+            " per second (open loop)");
+      }
+      
+      return;
+    }
+    
+    if (_config.getInflight() > 0) {
+      
+      _logger.info("will send ",
+          count == 0 ? "continuously" : Long.toString(count) + " total",
+          " pipelined with at most ",
+          _config.getInflight(),
+          " in flight",
+          _config.getLimiter() != null ? ", limit adapted by " + _config.getAdaptive() : "");
+      
+      return;
+    }
+    
     if (count == 0) {
   
       _logger.info("will send continuously every ", 
@@ -307,7 +608,14 @@ public class RestAPIClient {
             _config.getSleep(),
             " ms");
       }
-    }    
+    }
+    
+    if (_config.getConcurrency() > 1) {
+      
+      _logger.info("using ",
+          _config.getConcurrency(),
+          " concurrent workers");
+    }
   }
 
   /**
@@ -321,6 +629,21 @@ public class RestAPIClient {
    */
   private boolean _isValid = false;
 
+  /**
+   * Wall clock time sending starts at, 0 for now.
+   */
+  private long _startAt = 0;
+
+  /**
+   * Stats of the last send to server, or null.
+   */
+  private RestAPIClientStats _stats = null;
+
+  /**
+   * Running -self-test stub, or null.
+   */
+  private RestAPIClientStub _stub = null;
+
   /**
    * Security object for key based operations.
    */
@@ -1,10 +1,23 @@
 package cc.tools.restapi.client;
 
 import java.net.http.HttpClient;
-import java.time.Duration;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
- * This class implements common http delete|get|post|put actions and data.
+ * This class implements common http delete|get|post|put actions and data. It
+ * holds the one send pipeline every verb uses: the request is taken from the
+ * request template with the body for this send, sent blocking or
+ * asynchronously on the shared client, and the response body, status and
+ * lengths are recorded in the send's result. Any 2xx status is success and,
+ * with -assert, the body must also pass the assertions. A failed send is
+ * retried under -retry with the same request, and gets are hedged under
+ * -hedge.
+ * Subclasses only choose the http method and whether a payload is sent, and a
+ * -workflow step also what a successful response must hold.
  * 
  * @author cc
  * @version %I%, %G%
@@ -13,20 +26,449 @@ import java.time.Duration;
 abstract class RestAPIClientAction implements RestAPIClientActionI {
 
   /**
-   * Constructor
+   * Constructor. Verbs with a payload send, in order of precedence, the
+   * -upload-file, the next -payload-file record, the payload rendered for
+   * -unique or the pre-encoded payload.
    * 
    * @param config configualtion object for common data setup.
    * @param security functions and data object.
+   * @param method http method name.
+   * @param entity target entity, possibly with placeholders.
+   * @param payload message payload, or null for verbs without a body.
+   * @param payloadTemplate payload rendered per send for -unique, or null.
    */
-  protected RestAPIClientAction(RestAPIClientConfig config, RestAPIClientSecurity security) {
+  protected RestAPIClientAction(RestAPIClientConfig config, RestAPIClientSecurity security, String method,
+      String entity, String payload, RestAPIClientPayloadTemplate payloadTemplate) {
     
-    _payload = config.getPayload();
+    this(config, security, method, entity, payload, payloadTemplate, List.of(), null);
+  }
 
-    _entity = config.getEntity();
+  /**
+   * Constructor for an action whose entity and payload template may name
+   * variables, whose values are supplied per send, and whose responses go to
+   * its own body handler instead of the -body or -assert one.
+   * 
+   * @param config configualtion object for common data setup.
+   * @param security functions and data object.
+   * @param method http method name.
+   * @param entity target entity, possibly with placeholders and variables.
+   * @param payload message payload, or null for verbs without a body.
+   * @param payloadTemplate payload rendered per send, or null.
+   * @param variables names of variables whose values are supplied per send.
+   * @param bodyHandler handler for response bodies, or null for the configured one.
+   */
+  protected RestAPIClientAction(RestAPIClientConfig config, RestAPIClientSecurity security, String method,
+      String entity, String payload, RestAPIClientPayloadTemplate payloadTemplate, List<String> variables,
+      HttpResponse.BodyHandler<?> bodyHandler) {
+    
+    _method = method;
+    
+    _payload = payload;
+
+    _entity = entity;
 
     _baseURL = getBaseUrl(config);
     
     _security = security;
+    
+    _httpClient = RestAPIClientHttp.client(config);
+    
+    _assertions = bodyHandler == null ? config.getAssertions() : null;
+    
+    _bodyHandler = bodyHandler != null ? bodyHandler
+        : _assertions != null ? _assertions.handler() : RestAPIClientBody.handler(config.getBody());
+    
+    _payloadTemplate = payloadTemplate;
+    
+    _corpus = payload == null ? null : config.getCorpus();
+    
+    _upload = payload == null ? null : config.getUpload();
+    
+    _template = template(method, _baseURL + entity, payload, variables);
+    
+    _retry = config.getRetry();
+    
+    _hedge = method.compareTo("GET") == 0 ? config.getHedge() : null;
+  }
+
+  /*
+   * Method to check if object is valid.
+   */
+  public boolean isValid() {
+  
+    return _template != null;
+  }
+
+  /**
+   * Method sends configured message to the server.
+   * 
+   * @param i message number in this run.
+   * @param result result receiving request and response details.
+   * @return boolean value set to true for success, false otherwise.
+   */
+  public boolean send(long i, RestAPIClientResult result) {
+  
+    if (!isValid()) {
+      
+      return false;
+    }
+    
+    if (_hedge != null) {
+      
+      return sendAsync(i, result).join();
+    }
+    
+    try {
+      
+      HttpRequest request = request(i, null);
+      
+      for (int attempt = 0; ; attempt++) {
+        
+        boolean ok = send(i, request, result);
+        
+        if (!retry(i, result, ok, attempt)) {
+          
+          return ok;
+        }
+        
+        _retry.sleep(attempt);
+      }
+      
+    } catch (Exception e) {
+  
+      result.error(e);
+      
+      _logger.exception(e);
+ 
+      return false;
+    }
+  }
+
+  /**
+   * Method sends one attempt of a message to the server.
+   * 
+   * @param i message number in this run.
+   * @param request request to send.
+   * @param result result receiving request and response details.
+   * @return boolean value set to true for success, false otherwise.
+   */
+  private boolean send(long i, HttpRequest request, RestAPIClientResult result) {
+    
+    try {
+      
+      result.request(request);
+      
+      HttpResponse<?> httpResponse = httpClient().send(request, bodyHandler());
+    
+      return isOk(response(httpResponse, i, result)) && accepted(httpResponse, i, null, result);
+      
+    } catch (Exception e) {
+  
+      result.error(e);
+      
+      _logger.exception(e);
+ 
+      return false;
+    }
+  }
+
+  /**
+   * Method sends configured message to the server without blocking the caller.
+   * 
+   * @param i message number in this run.
+   * @param result result receiving request and response details.
+   * @return CompletableFuture completed with true for success, false otherwise.
+   */
+  public CompletableFuture<Boolean> sendAsync(long i, RestAPIClientResult result) {
+    
+    return sendAsync(i, null, result);
+  }
+
+  /**
+   * Method sends a message rendered with variable values to the server without
+   * blocking the caller.
+   * 
+   * @param i message number in this run.
+   * @param values variable values of this send, or null if there are none.
+   * @param result result receiving request and response details.
+   * @return CompletableFuture completed with true for success, false otherwise.
+   */
+  CompletableFuture<Boolean> sendAsync(long i, String[] values, RestAPIClientResult result) {
+    
+    if (!isValid()) {
+      
+      return CompletableFuture.completedFuture(false);
+    }
+    
+    try {
+      
+      return sendAsync(i, request(i, values), values, result, 0);
+      
+    } catch (Exception e) {
+      
+      result.error(e);
+      
+      _logger.exception(e);
+      
+      return CompletableFuture.completedFuture(false);
+    }
+  }
+
+  /**
+   * Method sends one attempt of a message to the server without blocking the
+   * caller, chaining any retry on its completion.
+   * 
+   * @param i message number in this run.
+   * @param request request to send.
+   * @param values variable values of this send, or null if there are none.
+   * @param result result receiving request and response details.
+   * @param attempt number of retries already made.
+   * @return CompletableFuture completed with true for success, false otherwise.
+   */
+  private CompletableFuture<Boolean> sendAsync(long i, HttpRequest request, String[] values, RestAPIClientResult result,
+      int attempt) {
+    
+    result.request(request);
+    
+    CompletableFuture<? extends HttpResponse<?>> exchange = _hedge != null ? _hedge.send(httpClient(), request, bodyHandler())
+        : httpClient().sendAsync(request, bodyHandler());
+    
+    CompletableFuture<Boolean> sent = exchange.handle((httpResponse, t) -> {
+      
+      if (t != null) {
+        
+        result.error(cause(t));
+        
+        _logger.exception(cause(t));
+        
+        return false;
+      }
+      
+      return isOk(response(httpResponse, i, result)) && accepted(httpResponse, i, values, result);
+    });
+    
+    if (_retry == null) {
+      
+      return sent;
+    }
+    
+    return sent.thenCompose(ok -> retry(i, result, ok, attempt)
+        ? _retry.backoff(attempt).thenCompose(v -> sendAsync(i, request, values, result, attempt + 1))
+        : CompletableFuture.completedFuture(ok));
+  }
+
+  /**
+   * Method decides whether an attempt is retried under -retry and clears the
+   * failure from the result if it is.
+   * 
+   * @param i message number in this run.
+   * @param result result of the attempt.
+   * @param ok flag indicating the attempt succeeded.
+   * @param attempt number of retries already made.
+   * @return boolean true if the send is to be retried.
+   */
+  private boolean retry(long i, RestAPIClientResult result, boolean ok, int attempt) {
+    
+    if (_retry == null) {
+      
+      return false;
+    }
+    
+    if (ok) {
+      
+      _retry.success(attempt);
+      
+      return false;
+    }
+    
+    if (!_retry.retry(result, attempt)) {
+      
+      return false;
+    }
+    
+    _logger.info("[",
+        i,
+        "] retry ",
+        attempt + 1,
+        " after ",
+        result.status() > 0 ? "status " + result.status() : RestAPIClientResult.errorName(result.error()) + " error");
+    
+    result.retry();
+    
+    return true;
+  }
+
+  /**
+   * Method returns the request for a send from the request template.
+   * 
+   * @param i message number. used for output.
+   * @return HttpRequest for server.
+   */
+  HttpRequest request(long i) {
+    
+    return request(i, null);
+  }
+
+  /**
+   * Method returns the request for a send rendered with variable values.
+   * 
+   * @param i message number. used for output.
+   * @param values variable values of this send, or null if there are none.
+   * @return HttpRequest for server.
+   */
+  HttpRequest request(long i, String[] values) {
+    
+    HttpRequest request;
+    
+    if (_upload != null) {
+      
+      request = _template.request(i, _upload.publisher());
+      
+    } else if (_corpus != null) {
+      
+      request = _template.request(i, _corpus.publisher(i));
+      
+    } else if (_payloadTemplate != null) {
+      
+      request = _template.request(i, values, HttpRequest.BodyPublishers.ofByteArray(_payloadTemplate.render(i, values)));
+      
+    } else if (values != null) {
+      
+      request = _template.request(i, values, HttpRequest.BodyPublishers.noBody());
+      
+    } else {
+      
+      request = _template.request(i);
+    }
+    
+    if (_logger.isDebug()) {
+      
+      _logger.debug("[",
+          i,
+          "] ",
+          _method,
+          " to url: ",
+          request.uri());
+    }
+    
+    return request;
+  }
+
+  /**
+   * Method records and logs server response and returns its http status.
+   * 
+   * @param httpResponse response received from server.
+   * @param i message number. used for output.
+   * @param result result receiving status and response length.
+   * @return int containing returned http status.
+   */
+  private int response(HttpResponse<?> httpResponse, long i, RestAPIClientResult result) {
+
+    RestAPIClientHttp.track(httpResponse);
+
+    Object response = httpResponse.body();
+    
+    int code = httpResponse.statusCode();
+    
+    result.response(code, RestAPIClientBody.length(httpResponse));
+    
+    if (RestAPIClientResult.success(code)) { 
+      
+      if (!_logger.isDebug()) {
+        
+        return code;
+      }
+      
+      _logger.debug("[",
+          i,
+          "] response: ",
+          RestAPIClientBody.describe(response));
+      
+      _logger.debug("[",
+          i,
+          "] code: ",
+          code);
+      
+    } else {
+      
+      _logger.error("[",
+          i,
+          "] response: ",
+          RestAPIClientBody.describe(response));
+      
+      _logger.error("[",
+          i,
+          "] code: ",
+          code);
+    }
+   
+    return code;
+  }
+
+  /**
+   * Method checks http status returned by server.
+   * 
+   * @param result http status.
+   * @return boolean value set to true for success, false otherwise.
+   */
+  private boolean isOk(int result) {
+    
+    if (!RestAPIClientResult.success(result)) {
+      
+      _logger.error("server call not ok - code ",
+          Integer.toString(result));
+      
+      return false;
+    }
+    
+    return true;
+  }
+  
+  /**
+   * Method checks a response with a 2xx status before the send counts as
+   * successful. Actions check the -assert assertions.
+   * 
+   * @param httpResponse response received from server.
+   * @param i message number. used for output.
+   * @param values variable values of this send, or null if there are none.
+   * @param result result receiving a failure.
+   * @return boolean value set to true if the response is accepted.
+   */
+  protected boolean accepted(HttpResponse<?> httpResponse, long i, String[] values, RestAPIClientResult result) {
+    
+    return asserted(httpResponse, i, result);
+  }
+  
+  /**
+   * Method checks the response body against the -assert assertions.
+   * 
+   * @param httpResponse response received from server.
+   * @param i message number. used for output.
+   * @param result result receiving a failed assertion.
+   * @return boolean value set to true if there are no assertions or all pass.
+   */
+  private boolean asserted(HttpResponse<?> httpResponse, long i, RestAPIClientResult result) {
+    
+    if (_assertions == null) {
+      
+      return true;
+    }
+    
+    String failure = _assertions.check((String[]) httpResponse.body());
+    
+    if (failure == null) {
+      
+      return true;
+    }
+    
+    result.assertion();
+    
+    _logger.error("[",
+        i,
+        "] assertion failed: ",
+        failure);
+    
+    return false;
   }
   
   /**
@@ -69,6 +511,54 @@ abstract class RestAPIClientAction implements RestAPIClientActionI {
     return _security;
   }
   
+  /**
+   * Method builds the request template of an action. Errors are logged.
+   * 
+   * @param method    http method name.
+   * @param url       server url to call.
+   * @param data      String payload to pre-encode, or null for no body.
+   * @param variables names of variables the url may use.
+   * @return RestAPIClientRequestTemplate template, or null on error.
+   */
+  private RestAPIClientRequestTemplate template(String method, String url, String data, List<String> variables) {
+    
+    try {
+      
+      byte[] body = null;
+      
+      if (data != null) {
+        
+        body = security().prepareBytes(data);
+        
+        if (body == null) {
+          
+          _logger.error("payload could not be encoded");
+          
+          return null;
+        }
+      }
+      
+      return new RestAPIClientRequestTemplate(method, url, body, this.getClass().getSimpleName() + "command line program",
+          variables);
+      
+    } catch (Exception e) {
+      
+      _logger.exception(e);
+    }
+    
+    return null;
+  }
+
+  /**
+   * Method returns handler for response bodies configured by -body.
+   * 
+   * @return HttpResponse.BodyHandler for response bodies.
+   */
+  protected HttpResponse.BodyHandler<?> bodyHandler() {
+    
+    return _bodyHandler;
+  }
+
   /**
    * Method returns server's base Url value.
    * 
@@ -89,6 +579,27 @@ abstract class RestAPIClientAction implements RestAPIClientActionI {
     return buffer.toString();
   }
 
+  /**
+   * Method returns the underlying exception of an asynchronous failure.
+   * 
+   * @param t Throwable passed to a completion stage.
+   * @return Exception cause of failure.
+   */
+  protected static Exception cause(Throwable t) {
+    
+    if (t instanceof CompletionException && t.getCause() != null) {
+      
+      t = t.getCause();
+    }
+    
+    if (t instanceof Exception) {
+      
+      return (Exception) t;
+    }
+    
+    return new Exception(t);
+  }
+
   /**
    * Method HttpClient access function.
    * @return HttpClient.
@@ -98,6 +609,11 @@ abstract class RestAPIClientAction implements RestAPIClientActionI {
     return _httpClient;
   }
 
+  /**
+   * Http method name.
+   */
+  private final String _method;
+
   /**
    * Server's base URI from configuration.
    */
@@ -119,15 +635,54 @@ abstract class RestAPIClientAction implements RestAPIClientActionI {
   private final RestAPIClientSecurity _security;
   
   /**
-   * {@link java.net.http.HttpClient} object for calls to server.
+   * Shared {@link java.net.http.HttpClient} object for calls to server.
+   */
+  private final HttpClient _httpClient;
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientAction.class.getName());
+
+  /**
+   * Handler for response bodies.
+   */
+  private final HttpResponse.BodyHandler<?> _bodyHandler;
+
+  /**
+   * Response assertions for -assert, or null.
+   */
+  private final RestAPIClientAssertions _assertions;
+
+  /**
+   * Retry policy for -retry, or null.
+   */
+  private final RestAPIClientRetry _retry;
+  
+  /**
+   * Hedge for -hedge gets, or null.
    */
-  private final HttpClient _httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2)
-      .connectTimeout(Duration.ofSeconds(_HTTP_TIMEOUT_SECONDS)).build();
+  private final RestAPIClientHedge _hedge;
 
   /**
-   * HTTP timeout '{@value _HTTP_TIMEOUT_SECONDS}' seconds.
-   **/
-  private final static int _HTTP_TIMEOUT_SECONDS = 10;
+   * Request template built once for all sends, or null if invalid.
+   */
+  private final RestAPIClientRequestTemplate _template;
+  
+  /**
+   * Payload template rendered per send for -unique or a -workflow step, or null.
+   */
+  private final RestAPIClientPayloadTemplate _payloadTemplate;
+  
+  /**
+   * Payload corpus for -payload-file, or null.
+   */
+  private final RestAPIClientCorpus _corpus;
+  
+  /**
+   * Upload body for -upload-file, or null.
+   */
+  private final RestAPIClientUpload _upload;
 
 }
 
@@ -0,0 +1,44 @@
+package cc.tools.restapi.client;
+
+/**
+ * This class implements http delete action.
+ * 
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientActionDelete extends RestAPIClientAction {
+
+  /**
+   * Constructor.
+   * 
+   * @param config configualtion object for common data setup.
+   * @param security functions and data object.
+   */
+  public RestAPIClientActionDelete(RestAPIClientConfig config, RestAPIClientSecurity security) {
+
+    this(config, security, config.getEntity());
+  }
+
+  /**
+   * Constructor for a -scenario endpoint.
+   * 
+   * @param config configualtion object for common data setup.
+   * @param security functions and data object.
+   * @param entity target entity, possibly with placeholders.
+   */
+  public RestAPIClientActionDelete(RestAPIClientConfig config, RestAPIClientSecurity security, String entity) {
+
+    super(config, security, "DELETE", entity, null, null);
+  }
+
+  /**
+   * Method to access action name.
+   * 
+   * @return String containing action name.
+   */
+  public String action() {
+    
+    return RestAPIClientValues._ACTION_DELETE;
+  }
+}
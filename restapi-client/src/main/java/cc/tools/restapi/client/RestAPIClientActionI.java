@@ -1,5 +1,6 @@
 package cc.tools.restapi.client;
 
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface is for common action functions.
@@ -20,9 +21,18 @@ public interface RestAPIClientActionI {
   /**
    * Method implements the clint semd.
    * @param i message number.
+   * @param result result receiving request and response details.
    * @return boolean true is success, false otherwise.
    */
-  public boolean send(long i);
+  public boolean send(long i, RestAPIClientResult result);
+
+  /**
+   * Method implements the client send without blocking the caller.
+   * @param i message number.
+   * @param result result receiving request and response details.
+   * @return CompletableFuture completed with true if success, false otherwise.
+   */
+  public CompletableFuture<Boolean> sendAsync(long i, RestAPIClientResult result);
   
 
   /**
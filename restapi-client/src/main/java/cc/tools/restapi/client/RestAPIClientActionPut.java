@@ -0,0 +1,47 @@
+package cc.tools.restapi.client;
+
+/**
+ * This class implements http put action.
+ * 
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientActionPut extends RestAPIClientAction {
+ 
+  /**
+   * Constructor.
+   * 
+   * @param config configualtion object for common data setup.
+   * @param security functions and data object.
+   */
+  public RestAPIClientActionPut(RestAPIClientConfig config, RestAPIClientSecurity security) {
+
+    this(config, security, config.getEntity(), config.getPayload(), config.getPayloadTemplate());
+  }
+
+  /**
+   * Constructor for a -scenario endpoint.
+   * 
+   * @param config configualtion object for common data setup.
+   * @param security functions and data object.
+   * @param entity target entity, possibly with placeholders.
+   * @param payload payload to send.
+   * @param payloadTemplate payload rendered per send for -unique, or null.
+   */
+  public RestAPIClientActionPut(RestAPIClientConfig config, RestAPIClientSecurity security, String entity,
+      String payload, RestAPIClientPayloadTemplate payloadTemplate) {
+
+    super(config, security, "PUT", entity, payload, payloadTemplate);
+  }
+
+  /**
+   * Method to access action name.
+   * 
+   * @return String containing action name.
+   */
+  public String action() {
+    
+    return RestAPIClientValues._ACTION_PUT;
+  }
+}
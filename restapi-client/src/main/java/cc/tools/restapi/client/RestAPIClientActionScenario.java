@@ -0,0 +1,138 @@
+package cc.tools.restapi.client;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This class implements the -scenario action. It holds one action
+ * per scenario endpoint and sends each message to an endpoint picked by
+ * weight. The endpoint is recorded in the send's result so stats can be
+ * reported per endpoint.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientActionScenario implements RestAPIClientActionI {
+
+  /**
+   * Constructor.
+   *
+   * @param config configualtion object for common data setup.
+   * @param security functions and data object.
+   */
+  public RestAPIClientActionScenario(RestAPIClientConfig config, RestAPIClientSecurity security) {
+
+    _scenario = config.getScenario();
+
+    _actions = new RestAPIClientActionI[_scenario.count()];
+
+    boolean valid = true;
+
+    for (int k = 0; k < _actions.length; k++) {
+
+      String action = _scenario.action(k);
+
+      RestAPIClientPayloadTemplate payloadTemplate = config.getUnique() ? _scenario.payloadTemplate(k) : null;
+
+      if (action.compareTo(RestAPIClientValues._ACTION_POST) == 0) {
+
+        _actions[k] = new RestAPIClientActionPost(config, security, _scenario.entity(k), _scenario.payload(k),
+            payloadTemplate);
+
+      } else if (action.compareTo(RestAPIClientValues._ACTION_PUT) == 0) {
+
+        _actions[k] = new RestAPIClientActionPut(config, security, _scenario.entity(k), _scenario.payload(k),
+            payloadTemplate);
+
+      } else if (action.compareTo(RestAPIClientValues._ACTION_DELETE) == 0) {
+
+        _actions[k] = new RestAPIClientActionDelete(config, security, _scenario.entity(k));
+
+      } else {
+
+        _actions[k] = new RestAPIClientActionGet(config, security, _scenario.entity(k));
+      }
+
+      if (!_actions[k].isValid()) {
+
+        _logger.error("endpoint ",
+            _scenario.name(k),
+            " invalid");
+
+        valid = false;
+      }
+    }
+
+    _isValid = valid;
+  }
+
+  /**
+   * Method to access action name.
+   *
+   * @return String containing action name.
+   */
+  public String action() {
+
+    return RestAPIClientParameterKeys._KEY_SCENARIO;
+  }
+
+  /*
+   * Method to check if object is valid.
+   */
+  public boolean isValid() {
+
+    return _isValid;
+  }
+
+  /**
+   * Method sends the message to an endpoint picked by weight.
+   *
+   * @param i message number in this run.
+   * @param result result receiving request and response details.
+   * @return boolean value set to true for success, false otherwise.
+   */
+  public boolean send(long i, RestAPIClientResult result) {
+
+    int k = _scenario.next();
+
+    result.endpoint(k);
+
+    return _actions[k].send(i, result);
+  }
+
+  /**
+   * Method starts sending the message to an endpoint picked by weight.
+   *
+   * @param i message number in this run.
+   * @param result result receiving request and response details.
+   * @return CompletableFuture completed with true for success, false otherwise.
+   */
+  public CompletableFuture<Boolean> sendAsync(long i, RestAPIClientResult result) {
+
+    int k = _scenario.next();
+
+    result.endpoint(k);
+
+    return _actions[k].sendAsync(i, result);
+  }
+
+  /**
+   * Scenario endpoints.
+   */
+  private final RestAPIClientScenario _scenario;
+
+  /**
+   * Action of each endpoint.
+   */
+  private final RestAPIClientActionI[] _actions;
+
+  /**
+   * Valid flag to test if object is logically valid after creation.
+   */
+  private final boolean _isValid;
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientActionScenario.class.getName());
+}
@@ -0,0 +1,121 @@
+package cc.tools.restapi.client;
+
+import java.net.http.HttpResponse;
+
+/**
+ * This class implements one step of a -workflow on the shared action
+ * pipeline. The entity and payload are rendered with the variables of the
+ * send. A step that extracts fields scans its response with a
+ * {@link RestAPIClientFieldScanner} and is successful only if every field is
+ * found, whose values are then kept for later steps.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientActionStep extends RestAPIClientAction {
+
+  /**
+   * Constructor.
+   *
+   * @param config configualtion object for common data setup.
+   * @param security functions and data object.
+   * @param workflow workflow holding the step.
+   * @param k step index.
+   */
+  public RestAPIClientActionStep(RestAPIClientConfig config, RestAPIClientSecurity security, RestAPIClientWorkflow workflow,
+      int k) {
+
+    super(config, security, workflow.action(k).toUpperCase(), workflow.entity(k), null, workflow.payloadTemplate(k),
+        workflow.variables(), workflow.fields(k).length > 0 ? RestAPIClientFieldScanner.handler(workflow.fields(k))
+            : RestAPIClientBody.handler(config.getBody()));
+
+    _name = workflow.name(k);
+
+    _action = workflow.action(k);
+
+    _fields = workflow.fields(k);
+
+    _targets = workflow.targets(k);
+  }
+
+  /**
+   * Method to access action name.
+   *
+   * @return String containing action name.
+   */
+  public String action() {
+
+    return _action;
+  }
+
+  /**
+   * Method takes the extracted fields of a response into the variables of the
+   * send.
+   *
+   * @param httpResponse response received from server.
+   * @param i message number. used for output.
+   * @param values variable values of this send.
+   * @param result result receiving a missing field.
+   * @return boolean value set to true if every field was found.
+   */
+  @Override
+  protected boolean accepted(HttpResponse<?> httpResponse, long i, String[] values, RestAPIClientResult result) {
+
+    if (_fields.length == 0) {
+
+      return true;
+    }
+
+    String[] found = (String[]) httpResponse.body();
+
+    for (int f = 0; f < _fields.length; f++) {
+
+      if (found[f] == null) {
+
+        result.error(new IllegalStateException("field '" + _fields[f] + "' not found"));
+
+        _logger.error("[",
+            i,
+            "] step ",
+            _name,
+            " response has no field '",
+            _fields[f],
+            "'");
+
+        return false;
+      }
+
+      values[_targets[f]] = found[f];
+    }
+
+    _logger.debug(() -> "[" + i + "] step " + _name + " extracted " + String.join(",", found));
+
+    return true;
+  }
+
+  /**
+   * Step description.
+   */
+  private final String _name;
+
+  /**
+   * Step action name.
+   */
+  private final String _action;
+
+  /**
+   * Response fields extracted.
+   */
+  private final String[] _fields;
+
+  /**
+   * Variable index per extracted field.
+   */
+  private final int[] _targets;
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientActionStep.class.getName());
+}
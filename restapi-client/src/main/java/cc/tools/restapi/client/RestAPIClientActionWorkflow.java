@@ -0,0 +1,200 @@
+package cc.tools.restapi.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class implements the -workflow action. One send runs every step of
+ * the workflow in order. Each step is a {@link RestAPIClientActionStep} on the
+ * shared action pipeline, chained on the completion of the one before, so a
+ * workflow waiting on the server holds no thread and thousands can be
+ * outstanding under -inflight or -rate. Values extracted by a step are kept
+ * per send and rendered into later entities and payloads. The send fails at
+ * the first step that fails. Latency and errors of each step are reported
+ * separately.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientActionWorkflow implements RestAPIClientActionI {
+
+  /**
+   * Constructor.
+   *
+   * @param config configualtion object for common data setup.
+   * @param security functions and data object.
+   */
+  public RestAPIClientActionWorkflow(RestAPIClientConfig config, RestAPIClientSecurity security) {
+
+    _workflow = config.getWorkflow();
+
+    int count = _workflow.count();
+
+    _actions = new RestAPIClientActionStep[count];
+
+    _steps = new RestAPIClientHistogram[count];
+
+    _stepErrors = new LongAdder[count];
+
+    boolean valid = true;
+
+    for (int k = 0; k < count; k++) {
+
+      _actions[k] = new RestAPIClientActionStep(config, security, _workflow, k);
+
+      if (!_actions[k].isValid()) {
+
+        _logger.error("step ",
+            _workflow.name(k),
+            " invalid");
+
+        valid = false;
+      }
+
+      _steps[k] = new RestAPIClientHistogram();
+
+      _stepErrors[k] = new LongAdder();
+    }
+
+    _isValid = valid;
+  }
+
+  /**
+   * Method to access action name.
+   *
+   * @return String containing action name.
+   */
+  public String action() {
+
+    return RestAPIClientParameterKeys._KEY_WORKFLOW;
+  }
+
+  /*
+   * Method to check if object is valid.
+   */
+  public boolean isValid() {
+
+    return _isValid;
+  }
+
+  /**
+   * Method runs the workflow and waits for it to complete.
+   *
+   * @param i message number in this run.
+   * @param result result receiving request and response details.
+   * @return boolean value set to true for success, false otherwise.
+   */
+  public boolean send(long i, RestAPIClientResult result) {
+
+    return sendAsync(i, result).join();
+  }
+
+  /**
+   * Method starts the workflow without blocking the caller.
+   *
+   * @param i message number in this run.
+   * @param result result receiving request and response details.
+   * @return CompletableFuture completed with true for success, false otherwise.
+   */
+  public CompletableFuture<Boolean> sendAsync(long i, RestAPIClientResult result) {
+
+    if (!isValid()) {
+
+      return CompletableFuture.completedFuture(false);
+    }
+
+    return step(0, i, new String[_workflow.variables().size()], result);
+  }
+
+  /**
+   * Method starts a step and chains the next step on its completion.
+   *
+   * @param k step index.
+   * @param i message number in this run.
+   * @param values variable values of this send.
+   * @param result result receiving request and response details.
+   * @return CompletableFuture completed with true when every remaining step
+   *         succeeded, false otherwise.
+   */
+  private CompletableFuture<Boolean> step(int k, long i, String[] values, RestAPIClientResult result) {
+
+    if (k == _actions.length) {
+
+      return CompletableFuture.completedFuture(true);
+    }
+
+    long start = System.nanoTime();
+
+    return _actions[k].sendAsync(i, values, result).thenCompose(ok -> {
+
+      if (!ok) {
+
+        _stepErrors[k].increment();
+
+        return CompletableFuture.completedFuture(false);
+      }
+
+      _steps[k].record(System.nanoTime() - start);
+
+      return step(k + 1, i, values, result);
+    });
+  }
+
+  /**
+   * Method prints throughput and latency of each step.
+   *
+   * @param nanos run time in nanoseconds.
+   */
+  public void dump(long nanos) {
+
+    double seconds = nanos / 1000000000.0;
+
+    for (int k = 0; k < _steps.length; k++) {
+
+      long count = _steps[k].count();
+
+      _logger.info("step ",
+          _workflow.name(k),
+          ": ok=",
+          count,
+          " errors=",
+          _stepErrors[k].sum(),
+          " ",
+          String.format("%.1f", count / seconds),
+          " req/s");
+
+      RestAPIClientStats.dump("step " + _workflow.name(k) + " latency", _steps[k]);
+    }
+  }
+
+  /**
+   * Workflow steps.
+   */
+  private final RestAPIClientWorkflow _workflow;
+
+  /**
+   * Action of each step.
+   */
+  private final RestAPIClientActionStep[] _actions;
+
+  /**
+   * Latency of each step.
+   */
+  private final RestAPIClientHistogram[] _steps;
+
+  /**
+   * Failed sends per step.
+   */
+  private final LongAdder[] _stepErrors;
+
+  /**
+   * Valid flag to test if object is logically valid after creation.
+   */
+  private final boolean _isValid;
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientActionWorkflow.class.getName());
+}
@@ -0,0 +1,413 @@
+package cc.tools.restapi.client;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * This class implements -agent mode. The agent listens on a tcp port of the
+ * -agent-bind address, loopback by default, and runs jobs for a
+ * {@link RestAPIClientCoordinator} until stopped. The protocol is plain
+ * text, one message per line:
+ *
+ * <pre>
+ * coordinator                agent
+ * hello restapi-client 2 &lt;agent token&gt;
+ * arg &lt;encoded arg&gt;  ...
+ * prepare
+ *                            ready | error &lt;text&gt; ... failed
+ * start &lt;epoch ms&gt;
+ *                            done &lt;true|false&gt; &lt;sends&gt; &lt;run ns&gt;
+ *                            latency &lt;histogram&gt;
+ *                            lag &lt;histogram&gt;
+ *                            end
+ * </pre>
+ *
+ * A connection whose hello does not carry the -agent-token is closed
+ * unanswered. The args are a full command line for this agent's share of the
+ * run, each url encoded so it fits on one line. Parameters reading or writing
+ * files on the agent, and -agent and -coordinator, are refused. The agent builds its client while the
+ * others do, reports ready, and starts sending at the wall clock time given,
+ * so the agents start together as far as their clocks agree. It reports how
+ * many sends completed in how long, and histograms are sent as
+ * {@link RestAPIClientHistogram#encode()}.
+ * <p>
+ * Each connection is served on its own thread and waits at most
+ * {@value _READ_TIMEOUT_MILLIS} ms for a message. One job runs at a time; a
+ * coordinator connecting while a job runs is told the agent is busy.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientAgent {
+
+  /**
+   * Constructor {@link RestAPIClientAgent}.
+   *
+   * @param bind  address to listen on.
+   * @param port  tcp port to listen on.
+   * @param token token a coordinator must send in its hello.
+   */
+  public RestAPIClientAgent(String bind, int port, String token) {
+
+    _bind = bind;
+
+    _port = port;
+
+    _hello = (_HELLO + token).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Method serves coordinators until the process is stopped.
+   */
+  public void run() {
+
+    try (ServerSocket server = new ServerSocket()) {
+
+      server.bind(new InetSocketAddress(InetAddress.getByName(_bind), _port));
+
+      _logger.info("agent listening on ",
+          _bind,
+          " port ",
+          server.getLocalPort());
+
+      while (true) {
+
+        Socket socket = server.accept();
+
+        Thread.ofVirtual().name("restapi-client-agent").start(() -> connection(socket));
+      }
+
+    } catch (IOException e) {
+
+      _logger.exception(e);
+    }
+  }
+
+  /**
+   * Method serves one connection and closes it.
+   *
+   * @param socket coordinator connection.
+   */
+  private void connection(Socket socket) {
+
+    try (socket) {
+
+      socket.setSoTimeout(_READ_TIMEOUT_MILLIS);
+
+      serve(socket);
+
+    } catch (IOException | RuntimeException e) {
+
+      _logger.exception(e);
+    }
+  }
+
+  /**
+   * Method reads a job from a coordinator and runs it unless another job is
+   * running.
+   *
+   * @param socket coordinator connection.
+   * @throws IOException if the connection fails.
+   */
+  private void serve(Socket socket) throws IOException {
+
+    BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+    PrintWriter out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+
+    String line = in.readLine();
+
+    if (line == null || !MessageDigest.isEqual(line.getBytes(StandardCharsets.UTF_8), _hello)) {
+
+      _logger.error("agent connection from ",
+          socket.getRemoteSocketAddress(),
+          " is not a coordinator or has the wrong -",
+          RestAPIClientParameterKeys._KEY_AGENT_TOKEN);
+
+      return;
+    }
+
+    List<String> args = new ArrayList<String>();
+
+    while ((line = in.readLine()) != null && line.startsWith(_ARG)) {
+
+      args.add(decode(line.substring(_ARG.length())));
+    }
+
+    if (line == null || line.compareTo(_PREPARE) != 0) {
+
+      return;
+    }
+
+    _logger.info("agent job from ",
+        socket.getRemoteSocketAddress(),
+        ": ",
+        String.join(" ", args));
+
+    String refused = refused(args);
+
+    if (refused != null) {
+
+      fail(out, "-" + refused + " is refused by the agent, which reads and writes no files");
+
+      return;
+    }
+
+    if (!_busy.compareAndSet(false, true)) {
+
+      fail(out, "agent busy with another job");
+
+      return;
+    }
+
+    try {
+
+      run(socket, in, out, args);
+
+    } finally {
+
+      _busy.set(false);
+    }
+  }
+
+  /**
+   * Method runs one job for a coordinator.
+   *
+   * @param socket coordinator connection.
+   * @param in     coordinator connection reader.
+   * @param out    coordinator connection writer.
+   * @param args   command line of the job.
+   * @throws IOException if the connection fails.
+   */
+  private void run(Socket socket, BufferedReader in, PrintWriter out, List<String> args) throws IOException {
+
+    RestAPIClientConfig config = new RestAPIClientConfig(args.toArray(new String[args.size()]));
+
+    RestAPIClient client = config.isValid() ? new RestAPIClient(config) : null;
+
+    if (client == null || !client.isValid()) {
+
+      for (String error : config.getErrors()) {
+
+        out.println(_ERROR + error);
+      }
+
+      out.println(_FAILED);
+
+      out.flush();
+
+      return;
+    }
+
+    out.println(_READY);
+
+    out.flush();
+
+    String line = in.readLine();
+
+    if (line == null || !line.startsWith(_START)) {
+
+      return;
+    }
+
+    client.startAt(Long.parseLong(line.substring(_START.length())));
+
+    boolean ok = client.sendToServer();
+
+    RestAPIClientStats stats = client.stats();
+
+    out.println(_DONE + ok + " " + (stats == null ? 0 : stats.sent()) + " " + (stats == null ? 0 : stats.elapsed()));
+
+    out.println(_LATENCY + (stats == null ? new RestAPIClientHistogram() : stats.latency()).encode());
+
+    out.println(_LAG + (stats == null ? new RestAPIClientHistogram() : stats.lag()).encode());
+
+    out.println(_END);
+
+    out.flush();
+
+    _logger.info("agent job from ",
+        socket.getRemoteSocketAddress(),
+        " done");
+  }
+
+  /**
+   * Method tells the coordinator the job cannot run.
+   *
+   * @param out   coordinator connection writer.
+   * @param error reason.
+   */
+  private static void fail(PrintWriter out, String error) {
+
+    _logger.error("agent job refused: ",
+        error);
+
+    out.println(_ERROR + error);
+
+    out.println(_FAILED);
+
+    out.flush();
+  }
+
+  /**
+   * Method returns the first parameter of a job command line that the agent
+   * refuses.
+   *
+   * @param args command line of the job.
+   * @return String refused parameter name, or null if none.
+   */
+  static String refused(List<String> args) {
+
+    for (String arg : args) {
+
+      String name = arg.trim();
+
+      if (name.length() > 1 && name.charAt(0) == '-' && _REFUSED_KEYS.contains(name.substring(1).toLowerCase())) {
+
+        return name.substring(1).toLowerCase();
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Method encodes a command line token for an {@value _ARG} message.
+   *
+   * @param arg command line token.
+   * @return String token without line breaks or spaces.
+   */
+  static String encode(String arg) {
+
+    return URLEncoder.encode(arg, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Method decodes a command line token of an {@value _ARG} message.
+   *
+   * @param text encoded token.
+   * @return String command line token.
+   */
+  static String decode(String text) {
+
+    return URLDecoder.decode(text, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Parameters reading or writing files, which a job may not carry.
+   */
+  static final List<String> _FILE_KEYS = Arrays.asList(RestAPIClientParameterKeys._KEY_RESULTS,
+      RestAPIClientParameterKeys._KEY_UPLOAD_FILE, RestAPIClientParameterKeys._KEY_PAYLOAD_FILE,
+      RestAPIClientParameterKeys._KEY_SCENARIO, RestAPIClientParameterKeys._KEY_WORKFLOW);
+
+  /**
+   * Parameters refused in a job: those reading or writing files and those
+   * making the agent an agent or coordinator itself.
+   */
+  private static final List<String> _REFUSED_KEYS = new ArrayList<String>(_FILE_KEYS) { private static final long serialVersionUID = 1L;
+  {
+    add(RestAPIClientParameterKeys._KEY_AGENT);
+    add(RestAPIClientParameterKeys._KEY_COORDINATOR);
+  } };
+
+  /**
+   * Prefix of the message opening a job, followed by the agent token.
+   */
+  static final String _HELLO = "hello restapi-client 2 ";
+
+  /**
+   * Prefix of a message carrying one command line token.
+   */
+  static final String _ARG = "arg ";
+
+  /**
+   * Message asking the agent to build its client.
+   */
+  static final String _PREPARE = "prepare";
+
+  /**
+   * Message reporting the client is built.
+   */
+  static final String _READY = "ready";
+
+  /**
+   * Prefix of a message carrying a parameter error.
+   */
+  static final String _ERROR = "error ";
+
+  /**
+   * Message reporting the job cannot run.
+   */
+  static final String _FAILED = "failed";
+
+  /**
+   * Prefix of a message carrying the start time.
+   */
+  static final String _START = "start ";
+
+  /**
+   * Prefix of a message carrying the job outcome.
+   */
+  static final String _DONE = "done ";
+
+  /**
+   * Prefix of a message carrying the latency histogram.
+   */
+  static final String _LATENCY = "latency ";
+
+  /**
+   * Prefix of a message carrying the scheduler lag histogram.
+   */
+  static final String _LAG = "lag ";
+
+  /**
+   * Message closing the results.
+   */
+  static final String _END = "end";
+
+  /**
+   * Longest wait for a coordinator message '{@value _READ_TIMEOUT_MILLIS}' ms.
+   */
+  static final int _READ_TIMEOUT_MILLIS = 60000;
+
+  /**
+   * Address to listen on.
+   */
+  private final String _bind;
+
+  /**
+   * Tcp port to listen on.
+   */
+  private final int _port;
+
+  /**
+   * Hello message expected from a coordinator.
+   */
+  private final byte[] _hello;
+
+  /**
+   * Flag indicating a job is running.
+   */
+  private final AtomicBoolean _busy = new AtomicBoolean();
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientAgent.class.getName());
+}
@@ -0,0 +1,128 @@
+package cc.tools.restapi.client;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class implements Vose's alias method for picking an index in
+ * proportion to its weight. Tables are built once in O(n) and every pick
+ * costs one random index and one random coin, whatever the number of
+ * weights.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientAliasSampler {
+
+  /**
+   * Constructor {@link RestAPIClientAliasSampler}.
+   *
+   * @param weights positive weights. need not sum to anything in particular.
+   */
+  public RestAPIClientAliasSampler(double[] weights) {
+
+    int n = weights.length;
+
+    _probability = new double[n];
+
+    _alias = new int[n];
+
+    double total = 0;
+
+    for (double weight : weights) {
+
+      total += weight;
+    }
+
+    double[] scaled = new double[n];
+
+    int[] small = new int[n];
+
+    int[] large = new int[n];
+
+    int smalls = 0;
+
+    int larges = 0;
+
+    for (int k = 0; k < n; k++) {
+
+      scaled[k] = weights[k] * n / total;
+
+      if (scaled[k] < 1.0) {
+
+        small[smalls++] = k;
+
+      } else {
+
+        large[larges++] = k;
+      }
+    }
+
+    while (smalls > 0 && larges > 0) {
+
+      int s = small[--smalls];
+
+      int l = large[--larges];
+
+      _probability[s] = scaled[s];
+
+      _alias[s] = l;
+
+      scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+
+      if (scaled[l] < 1.0) {
+
+        small[smalls++] = l;
+
+      } else {
+
+        large[larges++] = l;
+      }
+    }
+
+    // what is left over is 1.0 up to rounding error.
+    while (larges > 0) {
+
+      _probability[large[--larges]] = 1.0;
+    }
+
+    while (smalls > 0) {
+
+      _probability[small[--smalls]] = 1.0;
+    }
+  }
+
+  /**
+   * Method picks an index.
+   *
+   * @return int index in [0, size).
+   */
+  public int next() {
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    int k = random.nextInt(_probability.length);
+
+    return random.nextDouble() < _probability[k] ? k : _alias[k];
+  }
+
+  /**
+   * Method returns number of weights.
+   *
+   * @return int number of weights.
+   */
+  public int size() {
+
+    return _probability.length;
+  }
+
+  /**
+   * Probability of keeping each column rather than taking its alias.
+   */
+  private final double[] _probability;
+
+  /**
+   * Alias of each column.
+   */
+  private final int[] _alias;
+}
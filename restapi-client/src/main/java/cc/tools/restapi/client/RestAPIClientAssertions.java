@@ -0,0 +1,322 @@
+package cc.tools.restapi.client;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class implements -assert response assertions. Assertions are
+ * separated by ';' and each is one of
+ *
+ * <pre>
+ * status=OK      field equals value
+ * status!=ERROR  field is present and does not equal value
+ * items[]        field is a non-empty array
+ * id             field is present
+ * </pre>
+ *
+ * Values are compared as the text of the json value, so 'count=10' matches
+ * 10 and "10". Responses are checked by a {@link RestAPIClientFieldScanner}
+ * as the body arrives, and reading stops as soon as every assertion is
+ * decided.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientAssertions {
+
+  /**
+   * Constructor {@link RestAPIClientAssertions}.
+   *
+   * @param text      assertion text.
+   * @param fields    distinct field names.
+   * @param targets   field index per assertion.
+   * @param operators operator per assertion.
+   * @param expected  expected value per assertion, null where none.
+   */
+  private RestAPIClientAssertions(String text, String[] fields, int[] targets, int[] operators, String[] expected) {
+
+    _text = text;
+
+    _fields = fields;
+
+    _targets = targets;
+
+    _operators = operators;
+
+    _expected = expected;
+  }
+
+  /**
+   * Method parses -assert text.
+   *
+   * @param text   assertions separated by ';'.
+   * @param errors errors encountered are added to this list.
+   * @return RestAPIClientAssertions assertions, or null on error.
+   */
+  static public RestAPIClientAssertions parse(String text, List<String> errors) {
+
+    List<String> fields = new ArrayList<String>();
+
+    List<Integer> targets = new ArrayList<Integer>();
+
+    List<Integer> operators = new ArrayList<Integer>();
+
+    List<String> expected = new ArrayList<String>();
+
+    int before = errors.size();
+
+    for (String assertion : text.split(";")) {
+
+      assertion = assertion.trim();
+
+      if (assertion.isEmpty()) {
+
+        continue;
+      }
+
+      String field = assertion;
+
+      int operator = _PRESENT;
+
+      String value = null;
+
+      int equals = assertion.indexOf('=');
+
+      if (equals > 0 && assertion.charAt(equals - 1) == '!') {
+
+        field = assertion.substring(0, equals - 1).trim();
+
+        operator = _NOT_EQUALS;
+
+        value = assertion.substring(equals + 1).trim();
+
+      } else if (equals > 0) {
+
+        field = assertion.substring(0, equals).trim();
+
+        operator = _EQUALS;
+
+        value = assertion.substring(equals + 1).trim();
+
+      } else if (assertion.endsWith("[]")) {
+
+        field = assertion.substring(0, assertion.length() - 2).trim();
+
+        operator = _NON_EMPTY;
+      }
+
+      if (!field.matches(_FIELD_PATTERN)) {
+
+        errors.add("-" + RestAPIClientParameterKeys._KEY_ASSERT + " '" + assertion
+            + "' invalid. use <field>=<value>, <field>!=<value>, <field>[] or <field>");
+
+        continue;
+      }
+
+      if (!fields.contains(field)) {
+
+        fields.add(field);
+      }
+
+      targets.add(fields.indexOf(field));
+
+      operators.add(operator);
+
+      expected.add(value);
+    }
+
+    if (errors.size() > before) {
+
+      return null;
+    }
+
+    if (targets.isEmpty()) {
+
+      errors.add("-" + RestAPIClientParameterKeys._KEY_ASSERT + " has no assertions");
+
+      return null;
+    }
+
+    return new RestAPIClientAssertions(text,
+        fields.toArray(new String[fields.size()]),
+        targets.stream().mapToInt(Integer::intValue).toArray(),
+        operators.stream().mapToInt(Integer::intValue).toArray(),
+        expected.toArray(new String[expected.size()]));
+  }
+
+  /**
+   * Method returns a body handler checking responses against the assertions.
+   *
+   * @return HttpResponse.BodyHandler of field values, null where not found.
+   */
+  public HttpResponse.BodyHandler<String[]> handler() {
+
+    return info -> new RestAPIClientFieldScanner(_fields, this, RestAPIClientFieldScanner.cancel(info));
+  }
+
+  /**
+   * Method tests the assertions on a field whose value was just found.
+   *
+   * @param field field index.
+   * @param value field value.
+   * @return boolean false if an assertion on the field fails, true otherwise.
+   */
+  boolean test(int field, String value) {
+
+    for (int a = 0; a < _targets.length; a++) {
+
+      if (_targets[a] == field && !matches(a, value)) {
+
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Method checks field values of a response.
+   *
+   * @param values value per field, null where not found.
+   * @return String describing the first assertion failed, or null if all
+   *         pass.
+   */
+  public String check(String[] values) {
+
+    for (int a = 0; a < _targets.length; a++) {
+
+      String value = values[_targets[a]];
+
+      if (value == null || !matches(a, value)) {
+
+        return describe(a) + (value == null ? " - field missing" : " - was " + value);
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Method tests one assertion on a field that was found.
+   *
+   * @param a     assertion index.
+   * @param value field value.
+   * @return boolean true if the assertion holds.
+   */
+  private boolean matches(int a, String value) {
+
+    switch (_operators[a]) {
+
+    case _EQUALS:
+      return value.equals(_expected[a]);
+
+    case _NOT_EQUALS:
+      return !value.equals(_expected[a]);
+
+    case _NON_EMPTY:
+      return value.equals("[...]");
+
+    default:
+      return true;
+    }
+  }
+
+  /**
+   * Method returns printable form of one assertion.
+   *
+   * @param a assertion index.
+   * @return String assertion.
+   */
+  private String describe(int a) {
+
+    String field = _fields[_targets[a]];
+
+    switch (_operators[a]) {
+
+    case _EQUALS:
+      return field + "=" + _expected[a];
+
+    case _NOT_EQUALS:
+      return field + "!=" + _expected[a];
+
+    case _NON_EMPTY:
+      return field + "[]";
+
+    default:
+      return field;
+    }
+  }
+
+  /**
+   * Method returns number of assertions.
+   *
+   * @return int number of assertions.
+   */
+  public int count() {
+
+    return _targets.length;
+  }
+
+  /**
+   * Method returns the assertion text.
+   *
+   * @return String assertions as given.
+   */
+  @Override
+  public String toString() {
+
+    return _text;
+  }
+
+  /**
+   * Operator testing a field is present.
+   */
+  private static final int _PRESENT = 0;
+
+  /**
+   * Operator testing a field equals a value.
+   */
+  private static final int _EQUALS = 1;
+
+  /**
+   * Operator testing a field does not equal a value.
+   */
+  private static final int _NOT_EQUALS = 2;
+
+  /**
+   * Operator testing a field is a non-empty array.
+   */
+  private static final int _NON_EMPTY = 3;
+
+  /**
+   * Pattern a field name must match.
+   */
+  private static final String _FIELD_PATTERN = "^[a-zA-Z_][a-zA-Z0-9_\\-]*$";
+
+  /**
+   * Assertion text.
+   */
+  private final String _text;
+
+  /**
+   * Distinct field names.
+   */
+  private final String[] _fields;
+
+  /**
+   * Field index per assertion.
+   */
+  private final int[] _targets;
+
+  /**
+   * Operator per assertion.
+   */
+  private final int[] _operators;
+
+  /**
+   * Expected value per assertion, null where none.
+   */
+  private final String[] _expected;
+}
@@ -0,0 +1,291 @@
+package cc.tools.restapi.client;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+
+/**
+ * This class implements response body handling modes. 'keep' materialises the
+ * body as a String. 'discard', 'count' and 'checksum' never build a String:
+ * bytes are dropped, or counted and check-summed incrementally as they arrive.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientBody {
+
+  /**
+   * Constructor {@link RestAPIClientBody} is private and not meant to be used.
+   */
+  private RestAPIClientBody() {
+  }
+
+  /**
+   * Method returns body handler for -body mode.
+   *
+   * @param mode -body value.
+   * @return HttpResponse.BodyHandler for mode.
+   */
+  static public HttpResponse.BodyHandler<?> handler(String mode) {
+
+    if (mode.compareTo(_BODY_DISCARD) == 0) {
+
+      return HttpResponse.BodyHandlers.discarding();
+    }
+
+    if (mode.compareTo(_BODY_COUNT) == 0) {
+
+      return info -> HttpResponse.BodySubscribers.fromSubscriber(new Counter(false), Counter::result);
+    }
+
+    if (mode.compareTo(_BODY_CHECKSUM) == 0) {
+
+      return info -> HttpResponse.BodySubscribers.fromSubscriber(new Counter(true), Counter::result);
+    }
+
+    return HttpResponse.BodyHandlers.ofString();
+  }
+
+  /**
+   * Method returns printable description of a response body.
+   *
+   * @param body response body produced by a -body handler.
+   * @return String describing body.
+   */
+  static public String describe(Object body) {
+
+    if (body instanceof String[] values) {
+
+      return Arrays.toString(values);
+    }
+
+    return body == null ? "(discarded)" : body.toString();
+  }
+
+  /**
+   * Method returns length of a response body. Counted bodies are exact;
+   * otherwise the Content-Length header is used.
+   *
+   * @param response response received from server.
+   * @return long number of body bytes, -1 if unknown.
+   */
+  static public long length(HttpResponse<?> response) {
+
+    if (response.body() instanceof Result result) {
+
+      return result.bytes();
+    }
+
+    return response.headers().firstValueAsLong("content-length").orElse(-1);
+  }
+
+  /**
+   * Method prints totals of counted bodies.
+   */
+  static public void dump() {
+
+    long responses = _responses.sum();
+
+    if (responses == 0) {
+
+      return;
+    }
+
+    _logger.info("response bodies: ",
+        responses,
+        " counted, ",
+        _bytes.sum(),
+        " bytes");
+  }
+
+  /**
+   * This class holds byte count and optional CRC32C checksum of a body.
+   */
+  static public class Result {
+
+    /**
+     * Constructor {@link Result}.
+     *
+     * @param bytes    number of body bytes.
+     * @param checksum CRC32C of body bytes, or -1 if not computed.
+     */
+    Result(long bytes, long checksum) {
+
+      _length = bytes;
+
+      _checksum = checksum;
+    }
+
+    /**
+     * Method returns number of body bytes.
+     *
+     * @return long number of body bytes.
+     */
+    public long bytes() {
+
+      return _length;
+    }
+
+    /**
+     * Method returns CRC32C of body bytes.
+     *
+     * @return long checksum, or -1 if not computed.
+     */
+    public long checksum() {
+
+      return _checksum;
+    }
+
+    /**
+     * Method returns printable description.
+     *
+     * @return String describing body.
+     */
+    @Override
+    public String toString() {
+
+      if (_checksum < 0) {
+
+        return _length + " bytes";
+      }
+
+      return _length + " bytes crc32c " + Long.toHexString(_checksum);
+    }
+
+    /**
+     * Number of body bytes.
+     */
+    private final long _length;
+
+    /**
+     * CRC32C of body bytes, or -1.
+     */
+    private final long _checksum;
+  }
+
+  /**
+   * This class counts, and optionally check-sums, body bytes as they arrive.
+   */
+  private static class Counter implements Flow.Subscriber<List<ByteBuffer>> {
+
+    /**
+     * Constructor {@link Counter}.
+     *
+     * @param checksum flag indicating whether CRC32C is computed.
+     */
+    Counter(boolean checksum) {
+
+      _crc = checksum ? new CRC32C() : null;
+    }
+
+    /**
+     * Method requests all body buffers.
+     *
+     * @param subscription body subscription.
+     */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+
+      subscription.request(Long.MAX_VALUE);
+    }
+
+    /**
+     * Method counts buffers.
+     *
+     * @param buffers body buffers.
+     */
+    @Override
+    public void onNext(List<ByteBuffer> buffers) {
+
+      for (ByteBuffer buffer : buffers) {
+
+        _count += buffer.remaining();
+
+        if (_crc != null) {
+
+          _crc.update(buffer);
+        }
+      }
+    }
+
+    /**
+     * Method ignores errors. The http client reports them to the caller.
+     *
+     * @param t error.
+     */
+    @Override
+    public void onError(Throwable t) {
+    }
+
+    /**
+     * Method adds body to totals.
+     */
+    @Override
+    public void onComplete() {
+
+      _responses.increment();
+
+      _bytes.add(_count);
+    }
+
+    /**
+     * Method returns result once body is complete.
+     *
+     * @return Result byte count and checksum.
+     */
+    Result result() {
+
+      return new Result(_count, _crc == null ? -1 : _crc.getValue());
+    }
+
+    /**
+     * Number of bytes seen.
+     */
+    private long _count = 0;
+
+    /**
+     * Checksum of bytes seen, or null.
+     */
+    private final CRC32C _crc;
+  }
+
+  /**
+   * Body mode keeping the body as a String '{@value _BODY_KEEP}'.
+   */
+  static public final String _BODY_KEEP = "keep";
+
+  /**
+   * Body mode dropping the body '{@value _BODY_DISCARD}'.
+   */
+  static public final String _BODY_DISCARD = "discard";
+
+  /**
+   * Body mode counting body bytes '{@value _BODY_COUNT}'.
+   */
+  static public final String _BODY_COUNT = "count";
+
+  /**
+   * Body mode counting and check-summing body bytes '{@value _BODY_CHECKSUM}'.
+   */
+  static public final String _BODY_CHECKSUM = "checksum";
+
+  /**
+   * Number of counted bodies.
+   */
+  private static final LongAdder _responses = new LongAdder();
+
+  /**
+   * Number of counted body bytes.
+   */
+  private static final LongAdder _bytes = new LongAdder();
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientBody.class.getName());
+}
@@ -0,0 +1,165 @@
+package cc.tools.restapi.client;
+
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class publishes existing buffers, typically slices of a file mapping, as
+ * a request body without copying them. Buffers are handed to the http client
+ * as subscriber demand allows. Each subscription works on its own views of the
+ * buffers so a request can be sent, or resent, any number of times.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientBufferPublisher implements HttpRequest.BodyPublisher {
+
+  /**
+   * Constructor {@link RestAPIClientBufferPublisher}.
+   *
+   * @param buffers body buffers in order.
+   */
+  public RestAPIClientBufferPublisher(ByteBuffer... buffers) {
+
+    _buffers = buffers;
+
+    long length = 0;
+
+    for (ByteBuffer buffer : buffers) {
+
+      length += buffer.remaining();
+    }
+
+    _length = length;
+  }
+
+  /**
+   * Method returns body length.
+   *
+   * @return long number of body bytes.
+   */
+  @Override
+  public long contentLength() {
+
+    return _length;
+  }
+
+  /**
+   * Method delivers the body to a subscriber.
+   *
+   * @param subscriber body subscriber.
+   */
+  @Override
+  public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+
+    subscriber.onSubscribe(new Subscription(subscriber));
+  }
+
+  /**
+   * This class delivers buffers to one subscriber as demand arrives. Calls to
+   * request made from within onNext are folded into the running delivery loop.
+   */
+  private class Subscription implements Flow.Subscription {
+
+    /**
+     * Constructor {@link Subscription}.
+     *
+     * @param subscriber body subscriber.
+     */
+    Subscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+
+      _subscriber = subscriber;
+    }
+
+    /**
+     * Method adds demand and delivers buffers.
+     *
+     * @param n number of buffers requested.
+     */
+    @Override
+    public void request(long n) {
+
+      if (_next < 0) {
+
+        return;
+      }
+
+      if (n <= 0) {
+
+        _next = -1;
+
+        _subscriber.onError(new IllegalArgumentException("non-positive request " + n));
+
+        return;
+      }
+
+      _demand.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+
+      if (_wip.getAndIncrement() != 0) {
+
+        return;
+      }
+
+      do {
+
+        while (_next >= 0 && _next < _buffers.length && _demand.get() > 0) {
+
+          _demand.decrementAndGet();
+
+          _subscriber.onNext(_buffers[_next++].duplicate());
+        }
+
+        if (_next == _buffers.length) {
+
+          _next = -1;
+
+          _subscriber.onComplete();
+        }
+
+      } while (_wip.decrementAndGet() != 0);
+    }
+
+    /**
+     * Method stops delivery.
+     */
+    @Override
+    public void cancel() {
+
+      _next = -1;
+    }
+
+    /**
+     * Body subscriber.
+     */
+    private final Flow.Subscriber<? super ByteBuffer> _subscriber;
+
+    /**
+     * Outstanding demand.
+     */
+    private final AtomicLong _demand = new AtomicLong();
+
+    /**
+     * Number of request calls still to be handled by the delivery loop.
+     */
+    private final AtomicInteger _wip = new AtomicInteger();
+
+    /**
+     * Index of next buffer to deliver, -1 once complete or cancelled.
+     */
+    private volatile int _next = 0;
+  }
+
+  /**
+   * Body buffers.
+   */
+  private final ByteBuffer[] _buffers;
+
+  /**
+   * Total body length.
+   */
+  private final long _length;
+}
@@ -64,6 +64,39 @@ public class RestAPIClientConfig extends RestAPIClientValues {
     _logger.info("-sleep:              " + getSleep());
     _logger.info("-log:                " + getLog());
     _logger.info("-unique:             " + (getUnique() ? "true" : "false"));
+    _logger.info("-concurrency:        " + getConcurrency());
+    _logger.info("-rate:               " + getRate());
+    _logger.info("-inflight:           " + getInflight());
+    _logger.info("-adaptive:           " + getAdaptive());
+    _logger.info("-find-max:           " + getFindMax());
+    _logger.info("-slo:                " + (getSlo() == null ? "" : getSlo()));
+    _logger.info("-trial:              " + getTrialText());
+    _logger.info("-warmup:             " + getWarmupText());
+    _logger.info("-seq-start:          " + getSeqStart());
+    _logger.info("-coordinator:        " + (getCoordinator() == null ? "" : String.join(",", getCoordinator())));
+    _logger.info("-agent-token:        " + (getAgentToken().isEmpty() ? "" : "(set)"));
+    _logger.info("-http-version:       " + getHttpVersion());
+    _logger.info("-executor:           " + getExecutor());
+    _logger.info("-connect-timeout:    " + getConnectTimeout());
+    _logger.info("-pool-size:          " + getPoolSize());
+    _logger.info("-profile:            " + getProfileText());
+    _logger.info("-body:               " + getBody());
+    _logger.info("-assert:             " + (getAssertions() != null ? getAssertions() : ""));
+    _logger.info("-payload-file:       " + getPayloadFile());
+    _logger.info("-payload-order:      " + getPayloadOrder());
+    _logger.info("-upload-file:        " + getUploadFile());
+    _logger.info("-log-async:          " + getLogAsync());
+    _logger.info("-results:            " + getResults());
+    _logger.info("-report-interval:    " + getReportIntervalText());
+    _logger.info("-scenario:           " + getScenarioFile());
+    _logger.info("-workflow:           " + getWorkflowFile());
+    _logger.info("-retry:              " + getRetries());
+    _logger.info("-retry-backoff:      " + getRetryBackoffText());
+    _logger.info("-hedge:              " + getHedgeText());
+    _logger.info("-self-test:          " + (getSelfTest() ? "true" : "false"));
+    _logger.info("-stub-delay:         " + getStubDelayText());
+    _logger.info("-stub-size:          " + getStubSize());
+    _logger.info("-stub-status:        " + getStubStatus());
 
   }
 
@@ -74,18 +107,80 @@ public class RestAPIClientConfig extends RestAPIClientValues {
   
     _logger.info("usage:");
     _logger.info(RestAPIClient.class.getName() + " [-protocol (http|https)] -hostname (ip|domain) [-port <port>] [-url <path>] -payload <payload> \\");
-    _logger.info("                                     -action (delete|get|post|put) -log (debug|info|error|off) [-count <ms>] [-sleep <ms>] [-unique] ");
+    _logger.info("                                     -action (delete|get|post|put) -log (debug|info|error|off) [-count <ms>] [-sleep <ms>] [-unique] \\");
+    _logger.info("                                     [-concurrency <n>] [-rate <rps>] [-inflight <n> [-adaptive aimd|gradient]] \\");
+    _logger.info("                                     [-http-version (1.1|2)] [-executor (default|virtual|common|fixed[:n])] [-connect-timeout <ms>] [-pool-size <n>] \\");
+    _logger.info("                                     [-profile <duration>:<rate>rps|<duration>:<from>-><to>rps,...] \\");
+    _logger.info("                                     [-body (keep|discard|count|checksum)] [-payload-file <file>] [-payload-order (round-robin|random)] \\");
+    _logger.info("                                     [-upload-file <file>] [-log-async (off|block|drop|sample)] [-results <file>] \\");
+    _logger.info("                                     [-report-interval <duration>] [-self-test [-stub-delay <duration>] [-stub-size <bytes>] [-stub-status <status>]] \\");
+    _logger.info("                                     [-scenario <file>] [-workflow <file>] [-assert <assertion>;...] \\");
+    _logger.info("                                     [-retry <n> [-retry-backoff <duration>]] [-hedge <duration>|p<percentile>] \\");
+    _logger.info("                                     [-find-max -slo p<percentile><<duration>,...[,errors<<percent>] [-trial <duration>] [-warmup <duration>]] \\");
+    _logger.info("                                     [-seq-start <n>] [-coordinator <host>:<port>,... -agent-token <token>]");
+    _logger.info(RestAPIClient.class.getName() + " -agent <port> -agent-token <token> [-agent-bind <address>] [-log (debug|info|error|off)] [-log-async (off|block|drop|sample)]");
     _logger.info("-protocol:           optional.  set to http or https. default https.");
     _logger.info("-hostname:           mandatory. server host. can be an ip address or name.");
     _logger.info("-port:               optional.  server port. default 80/443 based on protocol.");
     _logger.info("-url:                mandatory. url server endpoint prefix.");
-    _logger.info("-payload:            mandatory. payload to send to server.");
+    _logger.info("-payload:            mandatory. payload to send to server with post or put. not needed with -payload-file or -upload-file.");
     _logger.info("-action:             mandatory. REST action. one of 'delete', 'get', 'post', 'put'.");
     _logger.info("-entity:             mandatory. REST entity. no spaces allowed.");
     _logger.info("-count:              optional.  number of payloads to be sent to server.");
     _logger.info("-sleep:              optional.  sleep pause (in ms) between log commands to server. default is 1000ms.");
     _logger.info("-log:                optional.  adjust output level. one of 'debug', 'info', 'error', 'off'. default 'info'");
     _logger.info("-unique:             optional.  toggle flag to generate individual payloads based on value in -payload field. default false.");
+    _logger.info("                                placeholders ${seq}, ${rand}, ${uuid} and ${now} in -payload are replaced per send.");
+    _logger.info("-concurrency:        optional.  number of workers sending concurrently on virtual threads. default 1.");
+    _logger.info("-rate:               optional.  open-loop sends per second at fixed intended start times. -sleep and -concurrency are ignored. default 0 (off).");
+    _logger.info("-find-max:           optional.  flag. search for the highest -rate meeting -slo with fixed-rate trials, starting at -rate or 10,");
+    _logger.info("                                doubling while trials pass, then bisecting. each trial's histogram is printed. -count is ignored.");
+    _logger.info("-slo:                optional.  -find-max objective, e.g. 'p99<200ms,errors<0.5%'. the error budget defaults to 1%.");
+    _logger.info("-trial:              optional.  -find-max counted trial length. default '10s'.");
+    _logger.info("-warmup:             optional.  -find-max uncounted start of each trial. default '2s'.");
+    _logger.info("-seq-start:          optional.  message number of the first -rate or -profile send. default 1.");
+    _logger.info("-coordinator:        optional.  send through agents instead, splitting -rate, -count and message numbers across them, starting");
+    _logger.info("                                them together and merging their histograms. other parameters are forwarded. needs -rate.");
+    _logger.info("                                -results, -upload-file, -payload-file, -scenario and -workflow cannot be set.");
+    _logger.info("-agent:              optional.  listen on port and run jobs for a coordinator, one at a time. only -agent-token, -agent-bind,");
+    _logger.info("                                -log and -log-async can be given.");
+    _logger.info("-agent-token:        optional.  secret of at least 16 characters a coordinator sends and an agent checks. needed by -coordinator and -agent.");
+    _logger.info("-agent-bind:         optional.  -agent listening address. default loopback.");
+    _logger.info("-inflight:           optional.  asynchronous pipelined sends with at most n outstanding. -sleep and -concurrency are ignored. default 0 (off).");
+    _logger.info("-adaptive:           optional.  -inflight limit found from latency, starting at 1 and at most n. 'aimd' adds 1 while latency stays");
+    _logger.info("                                near its minimum and cuts by 10% once queueing shows; 'gradient' scales by minimum/latency.");
+    _logger.info("                                the limit is logged every -report-interval or 1s. default 'off'.");
+    _logger.info("-http-version:       optional.  http version of shared client. one of '1.1', '2'. default '2'.");
+    _logger.info("-executor:           optional.  executor of shared client. one of 'default', 'virtual', 'common', 'fixed[:n]'. default 'default'.");
+    _logger.info("-connect-timeout:    optional.  connect timeout (in ms) of shared client. default 10000.");
+    _logger.info("-pool-size:          optional.  maximum idle connections kept by shared client. default 0 (unbounded).");
+    _logger.info("-profile:            optional.  open-loop stages of fixed or ramped rate, e.g. '30s:0->500rps,5m:500rps,30s:500->0rps'. units ms, s, m, h. -count and -rate are ignored.");
+    _logger.info("-body:               optional.  response body handling. 'keep' as string, 'discard', 'count' bytes or 'checksum' bytes with crc32c. default 'keep'.");
+    _logger.info("-assert:             optional.  check json response fields as the body arrives, ';' separated. 'field=value', 'field!=value',");
+    _logger.info("                                'field[]' for a non-empty array or 'field' for present. reading stops once all are decided. -body cannot be set.");
+    _logger.info("-payload-file:       optional.  post or put one payload per line of file, memory-mapped so large corpora stay off the heap. -payload and -unique cannot be set.");
+    _logger.info("-payload-order:      optional.  order of -payload-file records. one of 'round-robin', 'random'. default 'round-robin'.");
+    _logger.info("-upload-file:        optional.  post or put whole file as body of every send, memory-mapped and never copied. upload MB/s is reported. -payload, -payload-file and -unique cannot be set.");
+    _logger.info("-log-async:          optional.  write log output from a background thread through a bounded ring. when full 'block' waits, 'drop' discards");
+    _logger.info("                                and 'sample' keeps 1 in 16 records. errors always wait. losses are reported at exit. default 'off'.");
+    _logger.info("-results:            optional.  write every request (seq, intended/actual start, latency, status, bytes in/out, error) to a compact binary file.");
+    _logger.info("                                convert to csv with " + RestAPIClientResultsReader.class.getName() + " <file>.");
+    _logger.info("-report-interval:    optional.  print throughput, errors, p50, p99 and max per interval, e.g. '1s', instead of a '.' per send. default 0 (off).");
+    _logger.info("-self-test:          optional.  send to an embedded stub server on loopback and report the req/s the client sustains. -hostname, -protocol");
+    _logger.info("                                and -port are set by the stub and cannot be given. -url defaults to '/api/v1/'.");
+    _logger.info("-stub-delay:         optional.  -self-test response delay, e.g. '5ms'. default 0.");
+    _logger.info("-stub-size:          optional.  -self-test response body size in bytes. default 64.");
+    _logger.info("-stub-status:        optional.  -self-test response status. default 200.");
+    _logger.info("-scenario:           optional.  send a weighted mix of endpoints, one '<weight> <action> <entity> [<payload>]' per line, e.g.");
+    _logger.info("                                '80 get customer/${rand}'. throughput and latency are reported per endpoint. -action, -entity,");
+    _logger.info("                                -payload, -payload-file and -upload-file cannot be set.");
+    _logger.info("-retry:              optional.  resend a send failing with a connect, timeout or i/o error, 429 or 5xx up to n times. default 0.");
+    _logger.info("-retry-backoff:      optional.  -retry wait before retry n is random up to backoff * 2^(n-1), capped at 30s. default '100ms'.");
+    _logger.info("-hedge:              optional.  send a duplicate get when no response arrived after a delay, e.g. '50ms', or a percentile of observed");
+    _logger.info("                                latency, e.g. 'p95'. the first response is used and the other cancelled. hedge rate and tail are reported.");
+    _logger.info("-workflow:           optional.  send chained steps per message, one '<action> <entity> [<payload>]' per line. 'extract <field> [<variable>]'");
+    _logger.info("                                after a step takes a json field of its response for '${variable}' in later steps. latency is reported");
+    _logger.info("                                per step. -action, -entity, -payload, -payload-file, -upload-file and -scenario cannot be set.");
   }
 
   /**
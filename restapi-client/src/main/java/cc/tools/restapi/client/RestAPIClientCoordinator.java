@@ -0,0 +1,496 @@
+package cc.tools.restapi.client;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class implements -coordinator mode. The coordinator sends no requests
+ * itself. It splits -rate and -count across its {@link RestAPIClientAgent}s,
+ * giving each agent its own range of message numbers through -seq-start so
+ * ${seq} stays unique, forwards every other parameter unchanged, and starts
+ * all agents at the same wall clock time once every agent is ready. The
+ * -agent-token is sent to authenticate, not forwarded. The latency and
+ * scheduler lag histograms of the agents are merged into one report, and the
+ * merged rate adds up the rate each agent measured over its own run. With
+ * -count 0 each agent gets a range of {@value _CONTINUOUS_RANGE} message
+ * numbers.
+ * <p>
+ * An agent has {@value _READY_TIMEOUT_MILLIS} ms to report ready. Results are
+ * waited for the expected run time plus {@value _RESULTS_GRACE_MILLIS} ms, or
+ * without limit with -count 0, where the run only ends when stopped.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientCoordinator {
+
+  /**
+   * Constructor {@link RestAPIClientCoordinator}.
+   *
+   * @param config configuration object.
+   */
+  public RestAPIClientCoordinator(RestAPIClientConfig config) {
+
+    _config = config;
+
+    _agents = config.getCoordinator();
+  }
+
+  /**
+   * Method runs the job on every agent and prints the merged report.
+   *
+   * @return boolean value set to true if every agent succeeded.
+   */
+  public boolean run() {
+
+    int n = _agents.length;
+
+    Socket[] sockets = new Socket[n];
+
+    BufferedReader[] in = new BufferedReader[n];
+
+    PrintWriter[] out = new PrintWriter[n];
+
+    int[] timeouts = new int[n];
+
+    try {
+
+      List<String> forwarded = forwarded(_config.getArgs());
+
+      long rate = _config.getRate();
+
+      long count = _config.getCount();
+
+      long seqStart = _config.getSeqStart();
+
+      for (int k = 0; k < n; k++) {
+
+        long agentRate = share(rate, n, k);
+
+        long agentCount = share(count, n, k);
+
+        sockets[k] = connect(_agents[k]);
+
+        sockets[k].setSoTimeout(_READY_TIMEOUT_MILLIS);
+
+        timeouts[k] = count == 0 ? 0
+            : (int) Math.min(Integer.MAX_VALUE, agentCount * 1000 / agentRate + _START_DELAY_MILLIS + _RESULTS_GRACE_MILLIS);
+
+        in[k] = new BufferedReader(new InputStreamReader(sockets[k].getInputStream(), StandardCharsets.UTF_8));
+
+        out[k] = new PrintWriter(new OutputStreamWriter(sockets[k].getOutputStream(), StandardCharsets.UTF_8));
+
+        List<String> args = new ArrayList<String>(forwarded);
+
+        args.addAll(Arrays.asList("-" + RestAPIClientParameterKeys._KEY_RATE, Long.toString(agentRate),
+            "-" + RestAPIClientParameterKeys._KEY_COUNT, Long.toString(agentCount),
+            "-" + RestAPIClientParameterKeys._KEY_SEQ_START, Long.toString(seqStart)));
+
+        out[k].println(RestAPIClientAgent._HELLO + _config.getAgentToken());
+
+        for (String arg : args) {
+
+          out[k].println(RestAPIClientAgent._ARG + RestAPIClientAgent.encode(arg));
+        }
+
+        out[k].println(RestAPIClientAgent._PREPARE);
+
+        out[k].flush();
+
+        _logger.info("agent ",
+            _agents[k],
+            ": ",
+            agentRate,
+            " req/s, seq ",
+            seqStart,
+            agentCount == 0 ? " on" : " to " + (seqStart + agentCount - 1));
+
+        seqStart += count == 0 ? _CONTINUOUS_RANGE : agentCount;
+      }
+
+      boolean ready = true;
+
+      for (int k = 0; k < n; k++) {
+
+        ready &= ready(k, in[k]);
+      }
+
+      if (!ready) {
+
+        return false;
+      }
+
+      long startAt = System.currentTimeMillis() + _START_DELAY_MILLIS;
+
+      for (int k = 0; k < n; k++) {
+
+        out[k].println(RestAPIClientAgent._START + startAt);
+
+        out[k].flush();
+
+        sockets[k].setSoTimeout(timeouts[k]);
+      }
+
+      _logger.info("agents start in ",
+          _START_DELAY_MILLIS,
+          " ms");
+
+      RestAPIClientHistogram latency = new RestAPIClientHistogram();
+
+      RestAPIClientHistogram lag = new RestAPIClientHistogram();
+
+      boolean ok = true;
+
+      for (int k = 0; k < n; k++) {
+
+        ok &= results(k, in[k], latency, lag);
+      }
+
+      _logger.info("merged: ",
+          _sent,
+          " sends from ",
+          n,
+          " agents in ",
+          String.format("%.3f", _runNanos / 1000000000.0),
+          " s, ",
+          String.format("%.1f", _rate),
+          " req/s");
+
+      RestAPIClientStats.dump("merged latency", latency);
+
+      RestAPIClientStats.dump("merged scheduler lag", lag);
+
+      return ok;
+
+    } catch (IOException | RuntimeException e) {
+
+      _logger.exception(e);
+
+      return false;
+
+    } finally {
+
+      for (Socket socket : sockets) {
+
+        close(socket);
+      }
+    }
+  }
+
+  /**
+   * Method waits for an agent to report ready.
+   *
+   * @param k  agent index.
+   * @param in agent connection reader.
+   * @return boolean true if the agent is ready.
+   * @throws IOException if the connection fails.
+   */
+  private boolean ready(int k, BufferedReader in) throws IOException {
+
+    String line;
+
+    while ((line = in.readLine()) != null && line.startsWith(RestAPIClientAgent._ERROR)) {
+
+      _logger.error("agent ",
+          _agents[k],
+          ": ",
+          line.substring(RestAPIClientAgent._ERROR.length()));
+    }
+
+    if (line == null || line.compareTo(RestAPIClientAgent._READY) != 0) {
+
+      _logger.error("agent ",
+          _agents[k],
+          " not ready");
+
+      return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Method reads the results of an agent and merges its histograms, sends and
+   * rate.
+   *
+   * @param k       agent index.
+   * @param in      agent connection reader.
+   * @param latency merged latency histogram.
+   * @param lag     merged scheduler lag histogram.
+   * @return boolean true if the agent succeeded.
+   * @throws IOException if the connection fails.
+   */
+  private boolean results(int k, BufferedReader in, RestAPIClientHistogram latency, RestAPIClientHistogram lag)
+      throws IOException {
+
+    String[] done = done(in.readLine());
+
+    RestAPIClientHistogram agentLatency = decode(in.readLine(), RestAPIClientAgent._LATENCY);
+
+    RestAPIClientHistogram agentLag = decode(in.readLine(), RestAPIClientAgent._LAG);
+
+    String end = in.readLine();
+
+    if (done == null || agentLatency == null || agentLag == null
+        || end == null || end.compareTo(RestAPIClientAgent._END) != 0) {
+
+      _logger.error("agent ",
+          _agents[k],
+          " sent no results");
+
+      return false;
+    }
+
+    latency.add(agentLatency);
+
+    lag.add(agentLag);
+
+    boolean ok = Boolean.parseBoolean(done[0]);
+
+    long sent = Long.parseLong(done[1]);
+
+    long nanos = Math.max(1, Long.parseLong(done[2]));
+
+    double rate = sent * 1000000000.0 / nanos;
+
+    _sent += sent;
+
+    _runNanos = Math.max(_runNanos, nanos);
+
+    _rate += rate;
+
+    _logger.info("agent ",
+        _agents[k],
+        ": ",
+        ok ? "ok" : "failed",
+        ", ",
+        sent,
+        " sends in ",
+        String.format("%.3f", nanos / 1000000000.0),
+        " s, ",
+        String.format("%.1f", rate),
+        " req/s");
+
+    RestAPIClientStats.dump("agent " + _agents[k] + " latency", agentLatency);
+
+    return ok;
+  }
+
+  /**
+   * Method splits a done message into outcome, sends and run time.
+   *
+   * @param line message.
+   * @return String[] outcome, sends and run time in nanoseconds, or null if
+   *         malformed.
+   */
+  static String[] done(String line) {
+
+    if (line == null || !line.startsWith(RestAPIClientAgent._DONE)) {
+
+      return null;
+    }
+
+    String[] done = line.substring(RestAPIClientAgent._DONE.length()).split(" ");
+
+    if (done.length != 3 || !done[1].matches(_NUMBER_PATTERN) || !done[2].matches(_NUMBER_PATTERN)) {
+
+      return null;
+    }
+
+    return done;
+  }
+
+  /**
+   * Method decodes a histogram message.
+   *
+   * @param line   message.
+   * @param prefix expected message prefix.
+   * @return RestAPIClientHistogram histogram, or null if malformed.
+   */
+  private static RestAPIClientHistogram decode(String line, String prefix) {
+
+    if (line == null || !line.startsWith(prefix)) {
+
+      return null;
+    }
+
+    return RestAPIClientHistogram.decode(line.substring(prefix.length()));
+  }
+
+  /**
+   * Method returns the command line without the parameters the coordinator
+   * sets per agent.
+   *
+   * @param args command line arguments as given.
+   * @return List of forwarded arguments.
+   */
+  static List<String> forwarded(String[] args) {
+
+    List<String> forwarded = new ArrayList<String>();
+
+    boolean skip = false;
+
+    for (String arg : args) {
+
+      boolean name = !arg.trim().isEmpty() && arg.trim().charAt(0) == '-';
+
+      if (name) {
+
+        skip = _SPLIT_KEYS.contains(arg.trim().substring(1).toLowerCase());
+      }
+
+      if (!skip) {
+
+        forwarded.add(arg);
+      }
+
+      if (!name) {
+
+        skip = false;
+      }
+    }
+
+    return forwarded;
+  }
+
+  /**
+   * Method returns the share of a total given to an agent. The remainder goes
+   * to the first agents.
+   *
+   * @param total total to split.
+   * @param n     number of agents.
+   * @param k     agent index.
+   * @return long share of agent k.
+   */
+  static long share(long total, int n, int k) {
+
+    return total / n + (k < total % n ? 1 : 0);
+  }
+
+  /**
+   * Method connects to an agent.
+   *
+   * @param agent agent address as host:port.
+   * @return Socket connection.
+   * @throws IOException if the agent cannot be reached.
+   */
+  private static Socket connect(String agent) throws IOException {
+
+    int colon = agent.lastIndexOf(':');
+
+    Socket socket = new Socket();
+
+    try {
+
+      socket.connect(new InetSocketAddress(agent.substring(0, colon), Integer.parseInt(agent.substring(colon + 1))),
+          _CONNECT_TIMEOUT_MILLIS);
+
+    } catch (IOException e) {
+
+      close(socket);
+
+      throw new IOException("agent " + agent + " unreachable", e);
+    }
+
+    return socket;
+  }
+
+  /**
+   * Method closes a connection, ignoring errors.
+   *
+   * @param socket connection, or null.
+   */
+  private static void close(Socket socket) {
+
+    if (socket == null) {
+
+      return;
+    }
+
+    try {
+
+      socket.close();
+
+    } catch (IOException e) {
+
+      _logger.exception(e);
+    }
+  }
+
+  /**
+   * Parameters set per agent, or kept by the coordinator.
+   */
+  private static final List<String> _SPLIT_KEYS = Arrays.asList(RestAPIClientParameterKeys._KEY_COORDINATOR,
+      RestAPIClientParameterKeys._KEY_RATE, RestAPIClientParameterKeys._KEY_COUNT, RestAPIClientParameterKeys._KEY_SEQ_START,
+      RestAPIClientParameterKeys._KEY_AGENT_TOKEN);
+
+  /**
+   * Pattern of a count in a done message.
+   */
+  private static final String _NUMBER_PATTERN = "^[0-9]{1,18}$";
+
+  /**
+   * Message numbers per agent with -count 0 '{@value _CONTINUOUS_RANGE}'.
+   */
+  static final long _CONTINUOUS_RANGE = 1000000000000L;
+
+  /**
+   * Time from the last agent reporting ready to the start '{@value _START_DELAY_MILLIS}' ms.
+   */
+  private static final long _START_DELAY_MILLIS = 1000;
+
+  /**
+   * Agent connect timeout '{@value _CONNECT_TIMEOUT_MILLIS}' ms.
+   */
+  private static final int _CONNECT_TIMEOUT_MILLIS = 5000;
+
+  /**
+   * Longest wait for an agent to report ready '{@value _READY_TIMEOUT_MILLIS}' ms.
+   */
+  private static final int _READY_TIMEOUT_MILLIS = 60000;
+
+  /**
+   * Wait for results beyond the expected run time '{@value _RESULTS_GRACE_MILLIS}' ms.
+   */
+  private static final long _RESULTS_GRACE_MILLIS = 60000;
+
+  /**
+   * Configuration object.
+   */
+  private final RestAPIClientConfig _config;
+
+  /**
+   * Agent addresses as host:port.
+   */
+  private final String[] _agents;
+
+  /**
+   * Sends completed by all agents.
+   */
+  private long _sent = 0;
+
+  /**
+   * Longest agent run time in nanoseconds.
+   */
+  private long _runNanos = 0;
+
+  /**
+   * Sum of the rates the agents measured, sends per second.
+   */
+  private double _rate = 0;
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientCoordinator.class.getName());
+}
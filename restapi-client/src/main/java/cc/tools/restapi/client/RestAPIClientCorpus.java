@@ -0,0 +1,263 @@
+package cc.tools.restapi.client;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class implements a memory-mapped payload corpus for -payload-file. The
+ * file holds one payload per line (e.g. jsonl). It is mapped read-only in
+ * chunks of at most {@value _MAXIMUM_CHUNK_BYTES} bytes, each ending on a line
+ * boundary, and the start of every record is indexed once in a primitive
+ * array. Sends publish a slice of the mapping as the request body, so the
+ * corpus is never copied onto the heap.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientCorpus {
+
+  /**
+   * Constructor {@link RestAPIClientCorpus}.
+   *
+   * @param chunks      mapped chunks.
+   * @param chunkStarts file offset of each chunk.
+   * @param offsets     file offset of each record.
+   * @param lengths     length of each record.
+   * @param count       number of records.
+   * @param random      flag indicating random rather than round-robin order.
+   */
+  private RestAPIClientCorpus(MappedByteBuffer[] chunks, long[] chunkStarts, long[] offsets, int[] lengths,
+      int count, boolean random) {
+
+    _chunks = chunks;
+
+    _chunkStarts = chunkStarts;
+
+    _offsets = offsets;
+
+    _lengths = lengths;
+
+    _count = count;
+
+    _random = random;
+  }
+
+  /**
+   * Method maps and indexes a corpus file.
+   *
+   * @param filename name of corpus file.
+   * @param order    record order, {@value _ORDER_ROUND_ROBIN} or
+   *                 {@value _ORDER_RANDOM}.
+   * @param errors   errors encountered are added to this list.
+   * @return RestAPIClientCorpus mapped corpus, or null on error.
+   */
+  static public RestAPIClientCorpus open(String filename, String order, List<String> errors) {
+
+    try (FileChannel channel = FileChannel.open(Path.of(filename), StandardOpenOption.READ)) {
+
+      long size = channel.size();
+
+      MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+
+      long[] chunkStarts = new long[0];
+
+      long[] offsets = new long[1024];
+
+      int[] lengths = new int[1024];
+
+      int count = 0;
+
+      long position = 0;
+
+      while (position < size) {
+
+        long length = Math.min(_MAXIMUM_CHUNK_BYTES, size - position);
+
+        MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+        boolean last = position + length == size;
+
+        int start = 0;
+
+        int end = 0;
+
+        for (int b = 0; b <= length; b++) {
+
+          if (b < length ? chunk.get(b) != '\n' : !last) {
+
+            continue;
+          }
+
+          end = b < length ? b + 1 : b;
+
+          int record = trimmed(chunk, start, b) - start;
+
+          if (record > 0) {
+
+            if (count == offsets.length) {
+
+              offsets = Arrays.copyOf(offsets, count * 2);
+
+              lengths = Arrays.copyOf(lengths, count * 2);
+            }
+
+            offsets[count] = position + start;
+
+            lengths[count] = record;
+
+            count++;
+          }
+
+          start = b + 1;
+        }
+
+        if (end == 0) {
+
+          errors.add("-" + RestAPIClientParameterKeys._KEY_PAYLOAD_FILE + " record at offset " + position
+              + " is longer than " + _MAXIMUM_CHUNK_BYTES + " bytes");
+
+          return null;
+        }
+
+        chunks = Arrays.copyOf(chunks, chunks.length + 1);
+
+        chunks[chunks.length - 1] = chunk;
+
+        chunkStarts = Arrays.copyOf(chunkStarts, chunkStarts.length + 1);
+
+        chunkStarts[chunkStarts.length - 1] = position;
+
+        position += end;
+      }
+
+      if (count == 0) {
+
+        errors.add("-" + RestAPIClientParameterKeys._KEY_PAYLOAD_FILE + " '" + filename + "' contains no records");
+
+        return null;
+      }
+
+      return new RestAPIClientCorpus(chunks, chunkStarts, offsets, lengths, count,
+          order.compareTo(_ORDER_RANDOM) == 0);
+
+    } catch (IOException | RuntimeException e) {
+
+      errors.add("-" + RestAPIClientParameterKeys._KEY_PAYLOAD_FILE + " '" + filename + "' not accessible - " + e);
+    }
+
+    return null;
+  }
+
+  /**
+   * Method returns the record body for a send.
+   *
+   * @param i message number.
+   * @return ByteBuffer read-only slice of the mapped record.
+   */
+  public ByteBuffer record(long i) {
+
+    int r = _random ? ThreadLocalRandom.current().nextInt(_count) : (int) ((i - 1) % _count);
+
+    int c = Arrays.binarySearch(_chunkStarts, _offsets[r]);
+
+    if (c < 0) {
+
+      c = -c - 2;
+    }
+
+    return _chunks[c].slice((int) (_offsets[r] - _chunkStarts[c]), _lengths[r]);
+  }
+
+  /**
+   * Method returns a body publisher for the record of a send.
+   *
+   * @param i message number.
+   * @return HttpRequest.BodyPublisher publishing the mapped record.
+   */
+  public HttpRequest.BodyPublisher publisher(long i) {
+
+    return new RestAPIClientBufferPublisher(record(i));
+  }
+
+  /**
+   * Method returns number of records.
+   *
+   * @return int number of records.
+   */
+  public int count() {
+
+    return _count;
+  }
+
+  /**
+   * Method returns end of a record with trailing carriage return removed.
+   *
+   * @param chunk mapped chunk.
+   * @param start record start in chunk.
+   * @param end   record end in chunk, exclusive.
+   * @return int end of record.
+   */
+  private static int trimmed(MappedByteBuffer chunk, int start, int end) {
+
+    if (end > start && chunk.get(end - 1) == '\r') {
+
+      return end - 1;
+    }
+
+    return end;
+  }
+
+  /**
+   * Record order sending records in file order '{@value _ORDER_ROUND_ROBIN}'.
+   */
+  static public final String _ORDER_ROUND_ROBIN = "round-robin";
+
+  /**
+   * Record order picking a random record per send '{@value _ORDER_RANDOM}'.
+   */
+  static public final String _ORDER_RANDOM = "random";
+
+  /**
+   * Maximum bytes mapped per chunk '{@value _MAXIMUM_CHUNK_BYTES}'.
+   */
+  static final long _MAXIMUM_CHUNK_BYTES = 1L << 30;
+
+  /**
+   * Mapped chunks.
+   */
+  private final MappedByteBuffer[] _chunks;
+
+  /**
+   * File offset of each chunk.
+   */
+  private final long[] _chunkStarts;
+
+  /**
+   * File offset of each record.
+   */
+  private final long[] _offsets;
+
+  /**
+   * Length of each record.
+   */
+  private final int[] _lengths;
+
+  /**
+   * Number of records.
+   */
+  private final int _count;
+
+  /**
+   * Flag indicating random order.
+   */
+  private final boolean _random;
+}
@@ -0,0 +1,542 @@
+package cc.tools.restapi.client;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * This class implements a streaming json field scanner for -workflow and
+ * -assert. It picks the values of named fields out of a response body as the
+ * buffers arrive, without building a String of the body or parsing it into a
+ * tree. A field matches wherever its key appears, at any depth, and the first
+ * occurrence wins. String, number, true, false and null values are taken as
+ * text; an array is taken as '[]' when empty and '[...]' otherwise; object
+ * values are not taken.
+ * <p>
+ * The body is decided once every field is found or, with assertions, once
+ * one fails. Its value is then complete and the rest of the body is not
+ * scanned. On http/2 the stream is cancelled; on http/1.1 the rest is
+ * drained unread, because cancelling would close a connection the pool
+ * could reuse.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientFieldScanner implements HttpResponse.BodySubscriber<String[]> {
+
+  /**
+   * Constructor {@link RestAPIClientFieldScanner}.
+   *
+   * @param fields names of fields to scan for.
+   */
+  public RestAPIClientFieldScanner(String[] fields) {
+
+    this(fields, null, false);
+  }
+
+  /**
+   * Constructor {@link RestAPIClientFieldScanner}.
+   *
+   * @param fields     names of fields to scan for.
+   * @param assertions assertions tested as each field is found, or null.
+   * @param cancel     flag indicating the stream is cancelled once decided.
+   */
+  RestAPIClientFieldScanner(String[] fields, RestAPIClientAssertions assertions, boolean cancel) {
+
+    _assertions = assertions;
+
+    _cancel = cancel;
+
+    _fields = new byte[fields.length][];
+
+    int longest = 0;
+
+    for (int f = 0; f < fields.length; f++) {
+
+      _fields[f] = fields[f].getBytes(StandardCharsets.UTF_8);
+
+      longest = Math.max(longest, _fields[f].length);
+    }
+
+    _key = new byte[longest];
+
+    _values = new String[fields.length];
+  }
+
+  /**
+   * Method returns a body handler scanning responses for fields.
+   *
+   * @param fields names of fields to scan for.
+   * @return HttpResponse.BodyHandler of field values, null where not found.
+   */
+  static public HttpResponse.BodyHandler<String[]> handler(String[] fields) {
+
+    return info -> new RestAPIClientFieldScanner(fields, null, cancel(info));
+  }
+
+  /**
+   * Method returns whether a response stream may be cancelled once decided.
+   *
+   * @param info response status, headers and version.
+   * @return boolean true for http/2.
+   */
+  static boolean cancel(HttpResponse.ResponseInfo info) {
+
+    return info.version() == HttpClient.Version.HTTP_2;
+  }
+
+  /**
+   * Method returns the field values once the body is decided.
+   *
+   * @return CompletionStage of field values.
+   */
+  @Override
+  public CompletionStage<String[]> getBody() {
+
+    return _body;
+  }
+
+  /**
+   * Method requests all body buffers.
+   *
+   * @param subscription body subscription.
+   */
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+
+    _subscription = subscription;
+
+    subscription.request(Long.MAX_VALUE);
+  }
+
+  /**
+   * Method scans buffers until the body is decided.
+   *
+   * @param buffers body buffers.
+   */
+  @Override
+  public void onNext(List<ByteBuffer> buffers) {
+
+    for (ByteBuffer buffer : buffers) {
+
+      while (!decided() && buffer.hasRemaining()) {
+
+        scan(buffer.get());
+      }
+
+      buffer.position(buffer.limit());
+    }
+
+    if (_cancel && decided() && _body.complete(_values)) {
+
+      _subscription.cancel();
+    }
+  }
+
+  /**
+   * Method fails the body unless it was already decided.
+   *
+   * @param t error.
+   */
+  @Override
+  public void onError(Throwable t) {
+
+    _body.completeExceptionally(t);
+  }
+
+  /**
+   * Method takes a bare value the body ends with and completes the body.
+   */
+  @Override
+  public void onComplete() {
+
+    if (_state == _STATE_BARE) {
+
+      take();
+    }
+
+    _body.complete(_values);
+  }
+
+  /**
+   * Method returns whether the body is decided.
+   *
+   * @return boolean true once every field is found or an assertion failed.
+   */
+  boolean decided() {
+
+    return _found == _values.length || _failed;
+  }
+
+  /**
+   * Method returns field values.
+   *
+   * @return String[] value per field, null where not found.
+   */
+  public String[] values() {
+
+    return _values;
+  }
+
+  /**
+   * Method advances the scanner by one byte.
+   *
+   * @param b body byte.
+   */
+  void scan(byte b) {
+
+    switch (_state) {
+
+    case _STATE_OUTSIDE:
+
+      if (b == '"') {
+
+        _state = _STATE_KEY;
+
+        _keyLength = 0;
+
+        _escape = false;
+
+      } else if (b == ':' && _target >= 0) {
+
+        _state = _STATE_VALUE;
+
+      } else if (!whitespace(b)) {
+
+        _target = -1;
+      }
+
+      break;
+
+    case _STATE_KEY:
+
+      if (_escape) {
+
+        _escape = false;
+
+        key(b);
+
+      } else if (b == '\\') {
+
+        _escape = true;
+
+      } else if (b == '"') {
+
+        _state = _STATE_OUTSIDE;
+
+        _target = match();
+
+      } else {
+
+        key(b);
+      }
+
+      break;
+
+    case _STATE_VALUE:
+
+      if (whitespace(b)) {
+
+        break;
+      }
+
+      _valueLength = 0;
+
+      if (b == '"') {
+
+        _state = _STATE_STRING;
+
+        _escape = false;
+
+      } else if (b == '[') {
+
+        _state = _STATE_ARRAY;
+
+      } else if (b == '{') {
+
+        _state = _STATE_OUTSIDE;
+
+        _target = -1;
+
+      } else {
+
+        _state = _STATE_BARE;
+
+        value(b);
+      }
+
+      break;
+
+    case _STATE_STRING:
+
+      if (_escape) {
+
+        _escape = false;
+
+        if (b != '"' && b != '\\' && b != '/') {
+
+          value((byte) '\\');
+        }
+
+        value(b);
+
+      } else if (b == '\\') {
+
+        _escape = true;
+
+      } else if (b == '"') {
+
+        take();
+
+      } else {
+
+        value(b);
+      }
+
+      break;
+
+    case _STATE_ARRAY:
+
+      if (whitespace(b)) {
+
+        break;
+      }
+
+      for (byte m : b == ']' ? _EMPTY_ARRAY : _ARRAY) {
+
+        value(m);
+      }
+
+      take();
+
+      if (b != ']') {
+
+        scan(b);
+      }
+
+      break;
+
+    case _STATE_BARE:
+
+      if (b == ',' || b == '}' || b == ']' || whitespace(b)) {
+
+        take();
+
+      } else {
+
+        value(b);
+      }
+
+      break;
+    }
+  }
+
+  /**
+   * Method stores the value scanned for the target field unless it was
+   * already found, and tests it against the assertions.
+   */
+  private void take() {
+
+    if (_values[_target] == null) {
+
+      _values[_target] = new String(_value, 0, _valueLength, StandardCharsets.UTF_8);
+
+      _found++;
+
+      if (_assertions != null && !_assertions.test(_target, _values[_target])) {
+
+        _failed = true;
+      }
+    }
+
+    _state = _STATE_OUTSIDE;
+
+    _target = -1;
+  }
+
+  /**
+   * Method returns the field matching the key just scanned.
+   *
+   * @return int field index, or -1 if none matches.
+   */
+  private int match() {
+
+    if (_keyLength > _key.length) {
+
+      return -1;
+    }
+
+    for (int f = 0; f < _fields.length; f++) {
+
+      if (Arrays.equals(_fields[f], 0, _fields[f].length, _key, 0, _keyLength)) {
+
+        return f;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Method appends a key byte. Keys longer than every field are only counted.
+   *
+   * @param b key byte.
+   */
+  private void key(byte b) {
+
+    if (_keyLength < _key.length) {
+
+      _key[_keyLength] = b;
+    }
+
+    _keyLength++;
+  }
+
+  /**
+   * Method appends a value byte.
+   *
+   * @param b value byte.
+   */
+  private void value(byte b) {
+
+    if (_valueLength == _value.length) {
+
+      _value = Arrays.copyOf(_value, _value.length * 2);
+    }
+
+    _value[_valueLength++] = b;
+  }
+
+  /**
+   * Method tests for json whitespace.
+   *
+   * @param b body byte.
+   * @return boolean true if b is whitespace.
+   */
+  private static boolean whitespace(byte b) {
+
+    return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+  }
+
+  /**
+   * State outside any string.
+   */
+  private static final int _STATE_OUTSIDE = 0;
+
+  /**
+   * State inside a string that may be a key.
+   */
+  private static final int _STATE_KEY = 1;
+
+  /**
+   * State after the colon following a wanted key.
+   */
+  private static final int _STATE_VALUE = 2;
+
+  /**
+   * State inside a wanted string value.
+   */
+  private static final int _STATE_STRING = 3;
+
+  /**
+   * State inside a wanted number, true, false or null value.
+   */
+  private static final int _STATE_BARE = 4;
+
+  /**
+   * State after the bracket opening a wanted array.
+   */
+  private static final int _STATE_ARRAY = 5;
+
+  /**
+   * Value taken for an empty array.
+   */
+  private static final byte[] _EMPTY_ARRAY = "[]".getBytes(StandardCharsets.US_ASCII);
+
+  /**
+   * Value taken for a non-empty array.
+   */
+  private static final byte[] _ARRAY = "[...]".getBytes(StandardCharsets.US_ASCII);
+
+  /**
+   * Assertions tested as each field is found, or null.
+   */
+  private final RestAPIClientAssertions _assertions;
+
+  /**
+   * Flag indicating the stream is cancelled once decided.
+   */
+  private final boolean _cancel;
+
+  /**
+   * Field values, completed once the body is decided.
+   */
+  private final CompletableFuture<String[]> _body = new CompletableFuture<String[]>();
+
+  /**
+   * Body subscription.
+   */
+  private Flow.Subscription _subscription;
+
+  /**
+   * Flag indicating an assertion failed.
+   */
+  private boolean _failed = false;
+
+  /**
+   * Field names.
+   */
+  private final byte[][] _fields;
+
+  /**
+   * Field values, null where not found.
+   */
+  private final String[] _values;
+
+  /**
+   * Number of fields found.
+   */
+  private int _found = 0;
+
+  /**
+   * Scanner state.
+   */
+  private int _state = _STATE_OUTSIDE;
+
+  /**
+   * Flag indicating the previous string byte was a backslash.
+   */
+  private boolean _escape = false;
+
+  /**
+   * Field whose key was just scanned, or -1.
+   */
+  private int _target = -1;
+
+  /**
+   * Key bytes, up to the longest field name.
+   */
+  private final byte[] _key;
+
+  /**
+   * Number of key bytes scanned.
+   */
+  private int _keyLength = 0;
+
+  /**
+   * Value bytes.
+   */
+  private byte[] _value = new byte[64];
+
+  /**
+   * Number of value bytes.
+   */
+  private int _valueLength = 0;
+}
@@ -0,0 +1,232 @@
+package cc.tools.restapi.client;
+
+/**
+ * This class implements the -find-max search for the highest send rate
+ * meeting a -slo. Each trial runs a {@link RestAPIClientScheduler} at a fixed
+ * rate for -warmup plus -trial. Sends intended during the warmup are not
+ * counted, so connection setup and server warmup do not count against the
+ * objective, and a failed send is counted against the error budget instead
+ * of stopping the run. Every send of every trial is recorded in the run
+ * stats, so -results, -report-interval and -scenario endpoints cover the
+ * whole search.
+ * <p>
+ * The rate starts at -rate, or {@value _DEFAULT_START_RATE} per second, and
+ * doubles while trials pass. Once a trial fails, the rate is bisected between
+ * the highest passing and lowest failing rate until they are within
+ * {@value _PRECISION_PERCENT}% of each other. Sends still outstanding
+ * {@value _GRACE_TRIALS} trial lengths after a trial ends are cancelled and
+ * counted as failed.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientFindMax {
+
+  /**
+   * Constructor {@link RestAPIClientFindMax}.
+   *
+   * @param config   configuration object.
+   * @param actionI  RestAPIClientActionI interface object used to peform action.
+   * @param progress progress object updated on each completed send.
+   * @param stats    stats object receiving latency and lag of every send.
+   */
+  public RestAPIClientFindMax(RestAPIClientConfig config, RestAPIClientActionI actionI,
+      RestAPIClientProgress progress, RestAPIClientStats stats) {
+
+    _actionI = actionI;
+
+    _progress = progress;
+
+    _stats = stats;
+
+    _seq = config.getSeqStart();
+
+    _slo = config.getSlo();
+
+    _trialNanos = config.getTrial();
+
+    _warmupNanos = config.getWarmup();
+
+    _startRate = config.getRate() > 0 ? config.getRate() : _DEFAULT_START_RATE;
+  }
+
+  /**
+   * Method runs trials until the highest rate meeting the objective is found.
+   *
+   * @return boolean value set to true if some rate met the objective.
+   */
+  public boolean run() {
+
+    long passed = 0;
+
+    long failed = 0;
+
+    long rate = _startRate;
+
+    for (int trial = 1; trial <= _MAXIMUM_TRIALS; trial++) {
+
+      if (trial(trial, rate)) {
+
+        passed = rate;
+
+        if (rate == _MAXIMUM_RATE) {
+
+          break;
+        }
+
+        rate = failed == 0 ? Math.min(_MAXIMUM_RATE, rate * 2) : (passed + failed) / 2;
+
+      } else {
+
+        failed = rate;
+
+        rate = (passed + failed) / 2;
+      }
+
+      if (rate == 0 || (failed > 0 && failed - passed <= Math.max(1, passed * _PRECISION_PERCENT / 100))) {
+
+        break;
+      }
+    }
+
+    if (passed == 0) {
+
+      _logger.error("find-max: no rate tried met -slo ",
+          _slo,
+          ", lowest failing ",
+          failed,
+          " req/s");
+
+      return false;
+    }
+
+    _logger.info("find-max: highest rate meeting -slo ",
+        _slo,
+        " is ",
+        passed,
+        " req/s",
+        failed > 0 ? ", " + failed + " req/s failed" : ", the largest rate tried");
+
+    return true;
+  }
+
+  /**
+   * Method runs one trial at a fixed rate.
+   *
+   * @param trial trial number.
+   * @param rate  sends per second.
+   * @return boolean true if the trial met the objective.
+   */
+  private boolean trial(int trial, long rate) {
+
+    RestAPIClientScheduler scheduler = new RestAPIClientScheduler(_actionI, _progress, _stats, rate, _seq,
+        _warmupNanos, _trialNanos, _trialNanos * _GRACE_TRIALS);
+
+    scheduler.run();
+
+    long started = scheduler.started();
+
+    _seq += started;
+
+    RestAPIClientHistogram latency = scheduler.trial();
+
+    long counted = scheduler.counted();
+
+    long errors = scheduler.trialErrors();
+
+    long unfinished = counted - latency.count() - errors;
+
+    long failed = errors + Math.max(0, unfinished);
+
+    String broken = _slo.check(latency, counted, failed);
+
+    _logger.info("trial ",
+        trial,
+        " at ",
+        rate,
+        " req/s: counted ",
+        counted,
+        " of ",
+        started,
+        " sends, errors ",
+        failed,
+        unfinished > 0 ? " (" + unfinished + " unfinished)" : "",
+        ", ",
+        broken == null ? "met -slo" : "missed -slo, " + broken);
+
+    RestAPIClientStats.dump("trial " + trial + " " + rate + " req/s latency", latency);
+
+    return broken == null;
+  }
+
+  /**
+   * Start rate without -rate '{@value _DEFAULT_START_RATE}' per second.
+   */
+  private static final long _DEFAULT_START_RATE = 10;
+
+  /**
+   * Largest rate tried '{@value _MAXIMUM_RATE}' per second.
+   */
+  private static final long _MAXIMUM_RATE = 1000000;
+
+  /**
+   * Gap between passing and failing rate ending the search '{@value _PRECISION_PERCENT}'%.
+   */
+  private static final long _PRECISION_PERCENT = 5;
+
+  /**
+   * Largest number of trials '{@value _MAXIMUM_TRIALS}'.
+   */
+  private static final int _MAXIMUM_TRIALS = 30;
+
+  /**
+   * Trial lengths outstanding sends are waited for '{@value _GRACE_TRIALS}'.
+   */
+  private static final long _GRACE_TRIALS = 1;
+
+  /**
+   * Action used to send to server.
+   */
+  private final RestAPIClientActionI _actionI;
+
+  /**
+   * Progress object updated on each completed send.
+   */
+  private final RestAPIClientProgress _progress;
+
+  /**
+   * Stats object receiving latency and lag of every send.
+   */
+  private final RestAPIClientStats _stats;
+
+  /**
+   * Message number of the next trial's first send.
+   */
+  private long _seq;
+
+  /**
+   * Objective each trial is checked against.
+   */
+  private final RestAPIClientSlo _slo;
+
+  /**
+   * Counted length of a trial in nanoseconds.
+   */
+  private final long _trialNanos;
+
+  /**
+   * Uncounted start of a trial in nanoseconds.
+   */
+  private final long _warmupNanos;
+
+  /**
+   * Rate of the first trial per second.
+   */
+  private final long _startRate;
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientFindMax.class.getName());
+}
@@ -0,0 +1,378 @@
+package cc.tools.restapi.client;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class implements -hedge hedged gets. When a get has not been answered
+ * after the hedge delay a duplicate is sent, the first response is used and
+ * the other exchange is cancelled, whichever of the two wins. The delay is
+ * either fixed, e.g. '50ms', or a percentile of observed latency, e.g. 'p95'.
+ * A percentile delay is taken from the latency of first exchanges, refreshed
+ * every {@value _REFRESH_SENDS} sends, and hedging starts once
+ * {@value _MINIMUM_SAMPLES} exchanges have been seen.
+ * <p>
+ * The tail improvement is reported by comparing the latency of the response
+ * used with the latency of the first exchange alone. When the hedge wins, the
+ * first exchange is given as long again as the hedged response took before it
+ * is cancelled. If it has not completed by then, the time it had been waiting
+ * is recorded as a lower bound on its latency, so the unhedged tail is never
+ * overstated and neither is the improvement.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientHedge {
+
+  /**
+   * Constructor {@link RestAPIClientHedge}.
+   *
+   * @param text       hedge delay as given.
+   * @param delayNanos fixed hedge delay in nanoseconds, or 0 for a percentile.
+   * @param percentile percentile of observed latency used as delay, or 0.
+   */
+  private RestAPIClientHedge(String text, long delayNanos, double percentile) {
+
+    _text = text;
+
+    _percentile = percentile;
+
+    _delayNanos = percentile > 0 ? -1 : delayNanos;
+
+    _scheduler = new ScheduledThreadPoolExecutor(1, r -> Thread.ofPlatform().daemon().name("restapi-client-hedge").unstarted(r));
+
+    _scheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Method parses a -hedge value: a duration such as '50ms' or a percentile
+   * such as 'p95'.
+   *
+   * @param text   hedge delay text.
+   * @param errors errors encountered are added to this list.
+   * @return RestAPIClientHedge hedge, or null on error.
+   */
+  static public RestAPIClientHedge parse(String text, List<String> errors) {
+
+    text = text.trim().toLowerCase();
+
+    if (text.matches(_PERCENTILE_PATTERN)) {
+
+      double percentile = Double.parseDouble(text.substring(1));
+
+      if (percentile >= 50 && percentile < 100) {
+
+        return new RestAPIClientHedge(text, 0, percentile);
+      }
+
+    } else {
+
+      long delay = RestAPIClientProfile.durationNanos(text);
+
+      if (delay > 0) {
+
+        return new RestAPIClientHedge(text, delay, 0);
+      }
+    }
+
+    errors.add("-" + RestAPIClientParameterKeys._KEY_HEDGE + " must be a duration such as '50ms' or a percentile from p50 to p99.9 such as 'p95'");
+
+    return null;
+  }
+
+  /**
+   * Method sends a request, hedging it if no response arrives within the
+   * hedge delay.
+   *
+   * @param <T>     response body type.
+   * @param client  http client.
+   * @param request request to send.
+   * @param handler response body handler.
+   * @return CompletableFuture of the first response, or of the first
+   *         failure if both exchanges fail.
+   */
+  public <T> CompletableFuture<HttpResponse<T>> send(HttpClient client, HttpRequest request,
+      HttpResponse.BodyHandler<T> handler) {
+
+    long start = System.nanoTime();
+
+    long delay = delayNanos();
+
+    CompletableFuture<HttpResponse<T>> primary = client.sendAsync(request, handler);
+
+    _sends.increment();
+
+    if (delay < 0) {
+
+      return primary.whenComplete((response, t) -> {
+
+        if (t == null) {
+
+          long nanos = System.nanoTime() - start;
+
+          _unhedged.record(nanos);
+
+          _hedged.record(nanos);
+        }
+      });
+    }
+
+    CompletableFuture<HttpResponse<T>> winner = new CompletableFuture<HttpResponse<T>>();
+
+    AtomicReference<CompletableFuture<HttpResponse<T>>> hedge = new AtomicReference<CompletableFuture<HttpResponse<T>>>();
+
+    AtomicInteger outstanding = new AtomicInteger(1);
+
+    AtomicBoolean measured = new AtomicBoolean();
+
+    ScheduledFuture<?> timer = _scheduler.schedule(() -> {
+
+      if (winner.isDone() || outstanding.getAndUpdate(n -> n == 0 ? 0 : n + 1) == 0) {
+
+        return;
+      }
+
+      _hedges.increment();
+
+      CompletableFuture<HttpResponse<T>> sent = client.sendAsync(request, handler);
+
+      hedge.set(sent);
+
+      sent.whenComplete((response, t) -> {
+
+        if (t == null && winner.complete(response)) {
+
+          long nanos = System.nanoTime() - start;
+
+          _wins.increment();
+
+          _hedged.record(nanos);
+
+          _scheduler.schedule(() -> {
+
+            if (!primary.isDone() && measured.compareAndSet(false, true)) {
+
+              _unhedged.record(System.nanoTime() - start);
+
+              primary.cancel(true);
+            }
+
+          }, nanos, TimeUnit.NANOSECONDS);
+
+        } else if (t != null && outstanding.decrementAndGet() == 0) {
+
+          winner.completeExceptionally(t);
+        }
+      });
+
+      // the primary may have won while the hedge was being sent
+      if (winner.isDone()) {
+
+        sent.cancel(true);
+      }
+
+    }, delay, TimeUnit.NANOSECONDS);
+
+    primary.whenComplete((response, t) -> {
+
+      if (t == null) {
+
+        long nanos = System.nanoTime() - start;
+
+        if (measured.compareAndSet(false, true)) {
+
+          _unhedged.record(nanos);
+        }
+
+        if (winner.complete(response)) {
+
+          _hedged.record(nanos);
+
+          timer.cancel(false);
+
+          CompletableFuture<HttpResponse<T>> sent = hedge.get();
+
+          if (sent != null) {
+
+            sent.cancel(true);
+          }
+        }
+
+      } else if (outstanding.decrementAndGet() == 0) {
+
+        timer.cancel(false);
+
+        winner.completeExceptionally(t);
+      }
+    });
+
+    return winner;
+  }
+
+  /**
+   * Method returns the hedge delay for a send.
+   *
+   * @return long delay in nanoseconds, or -1 while too few exchanges have been
+   *         seen for a percentile delay.
+   */
+  private long delayNanos() {
+
+    if (_percentile == 0) {
+
+      return _delayNanos;
+    }
+
+    long sends = _refresh.incrementAndGet();
+
+    if (sends % _REFRESH_SENDS == 0 && _unhedged.count() >= _MINIMUM_SAMPLES) {
+
+      _delayNanos = Math.max(1, _unhedged.percentile(_percentile));
+    }
+
+    return _delayNanos;
+  }
+
+  /**
+   * Method returns latency of the responses used.
+   *
+   * @return RestAPIClientHistogram of latency in nanoseconds.
+   */
+  RestAPIClientHistogram hedged() {
+
+    return _hedged;
+  }
+
+  /**
+   * Method returns latency of first exchanges, a lower bound where one was
+   * cancelled.
+   *
+   * @return RestAPIClientHistogram of latency in nanoseconds.
+   */
+  RestAPIClientHistogram unhedged() {
+
+    return _unhedged;
+  }
+
+  /**
+   * Method stops the hedge timer and prints hedge rate and tail latency with
+   * and without hedging.
+   */
+  public void dump() {
+
+    _scheduler.shutdownNow();
+
+    long sends = _sends.sum();
+
+    long hedges = _hedges.sum();
+
+    _logger.info("hedge ",
+        _text,
+        ": ",
+        hedges,
+        " of ",
+        sends,
+        " gets hedged (",
+        String.format("%.1f", sends == 0 ? 0.0 : hedges * 100.0 / sends),
+        "%), hedge won ",
+        _wins.sum(),
+        _percentile > 0 && _delayNanos > 0 ? ", last delay " + RestAPIClientStats.millis(_delayNanos) + " ms" : "");
+
+    if (_hedged.count() == 0) {
+
+      return;
+    }
+
+    for (double percentile : new double[] { 95.0, 99.0, 99.9 }) {
+
+      _logger.info("hedge p",
+          percentile == 99.9 ? "99.9" : Integer.toString((int) percentile),
+          " ms: ",
+          RestAPIClientStats.millis(_hedged.percentile(percentile)),
+          " hedged, at least ",
+          RestAPIClientStats.millis(_unhedged.percentile(percentile)),
+          " unhedged");
+    }
+  }
+
+  /**
+   * Pattern of a percentile delay.
+   */
+  private static final String _PERCENTILE_PATTERN = "^p[0-9]+(\\.[0-9]+)?$";
+
+  /**
+   * Number of exchanges seen before a percentile delay is used.
+   */
+  private static final int _MINIMUM_SAMPLES = 100;
+
+  /**
+   * Number of sends between percentile delay refreshes.
+   */
+  private static final int _REFRESH_SENDS = 64;
+
+  /**
+   * Hedge delay as given.
+   */
+  private final String _text;
+
+  /**
+   * Percentile of observed latency used as delay, or 0 for a fixed delay.
+   */
+  private final double _percentile;
+
+  /**
+   * Hedge delay in nanoseconds, -1 until a percentile delay is known.
+   */
+  private volatile long _delayNanos;
+
+  /**
+   * Timer starting hedges.
+   */
+  private final ScheduledThreadPoolExecutor _scheduler;
+
+  /**
+   * Number of delays asked for, counting refreshes.
+   */
+  private final AtomicLong _refresh = new AtomicLong();
+
+  /**
+   * Number of gets sent.
+   */
+  private final LongAdder _sends = new LongAdder();
+
+  /**
+   * Number of hedges sent.
+   */
+  private final LongAdder _hedges = new LongAdder();
+
+  /**
+   * Number of hedges whose response was used.
+   */
+  private final LongAdder _wins = new LongAdder();
+
+  /**
+   * Latency of the response used.
+   */
+  private final RestAPIClientHistogram _hedged = new RestAPIClientHistogram();
+
+  /**
+   * Latency of first exchanges, a lower bound where one was cancelled.
+   */
+  private final RestAPIClientHistogram _unhedged = new RestAPIClientHistogram();
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientHedge.class.getName());
+}
@@ -0,0 +1,404 @@
+package cc.tools.restapi.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class implements a fixed-memory, log-bucketed histogram in the style of
+ * HdrHistogram. Values are grouped into buckets that double in size, each split
+ * into {@value _SUB_BUCKET_COUNT} linear sub-buckets, so every recorded value
+ * keeps a relative precision better than 1%. All memory is allocated up front
+ * and recording is allocation-free and safe from many threads.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientHistogram {
+
+  /**
+   * Constructor {@link RestAPIClientHistogram}. Tracks values up to
+   * {@value _DEFAULT_HIGHEST_TRACKABLE_VALUE}.
+   */
+  public RestAPIClientHistogram() {
+
+    this(_DEFAULT_HIGHEST_TRACKABLE_VALUE);
+  }
+
+  /**
+   * Constructor {@link RestAPIClientHistogram}.
+   *
+   * @param highestTrackableValue largest value tracked. larger values are
+   *                              counted in the highest bucket.
+   */
+  public RestAPIClientHistogram(long highestTrackableValue) {
+
+    _highestTrackableValue = Math.max(highestTrackableValue, _SUB_BUCKET_COUNT);
+
+    _counts = new AtomicLongArray(countsLength(_highestTrackableValue));
+  }
+
+  /**
+   * Method records a value.
+   *
+   * @param value value to be recorded. negative values are recorded as 0.
+   */
+  public void record(long value) {
+
+    if (value < 0) {
+
+      value = 0;
+    }
+
+    _counts.incrementAndGet(index(Math.min(value, _highestTrackableValue)));
+
+    _totalCount.incrementAndGet();
+
+    _total.addAndGet(value);
+
+    _min.accumulateAndGet(value, Math::min);
+
+    _max.accumulateAndGet(value, Math::max);
+  }
+
+  /**
+   * Method adds all values recorded in other histogram to this histogram.
+   *
+   * @param other histogram with the same highest trackable value.
+   */
+  public void add(RestAPIClientHistogram other) {
+
+    int length = Math.min(_counts.length(), other._counts.length());
+
+    for (int i = 0; i < length; i++) {
+
+      long count = other._counts.get(i);
+
+      if (count != 0) {
+
+        _counts.addAndGet(i, count);
+      }
+    }
+
+    _totalCount.addAndGet(other._totalCount.get());
+
+    _total.addAndGet(other._total.get());
+
+    _min.accumulateAndGet(other._min.get(), Math::min);
+
+    _max.accumulateAndGet(other._max.get(), Math::max);
+  }
+
+  /**
+   * Method encodes the histogram as one line of text, listing only non-empty
+   * counts, for sending to a -coordinator.
+   *
+   * @return String encoded histogram.
+   */
+  public String encode() {
+
+    StringBuilder buffer = new StringBuilder();
+
+    buffer.append(_highestTrackableValue).append(' ').append(_totalCount.get()).append(' ').append(_total.get())
+        .append(' ').append(_min.get()).append(' ').append(_max.get());
+
+    for (int i = 0; i < _counts.length(); i++) {
+
+      long count = _counts.get(i);
+
+      if (count != 0) {
+
+        buffer.append(' ').append(i).append(':').append(count);
+      }
+    }
+
+    return buffer.toString();
+  }
+
+  /**
+   * Method decodes a histogram encoded by {@link #encode()}.
+   *
+   * @param text encoded histogram.
+   * @return RestAPIClientHistogram histogram, or null if text is malformed.
+   */
+  static public RestAPIClientHistogram decode(String text) {
+
+    String[] fields = text.trim().split(" ");
+
+    if (fields.length < 5) {
+
+      return null;
+    }
+
+    try {
+
+      RestAPIClientHistogram histogram = new RestAPIClientHistogram(Long.parseLong(fields[0]));
+
+      histogram._totalCount.set(Long.parseLong(fields[1]));
+
+      histogram._total.set(Long.parseLong(fields[2]));
+
+      histogram._min.set(Long.parseLong(fields[3]));
+
+      histogram._max.set(Long.parseLong(fields[4]));
+
+      for (int f = 5; f < fields.length; f++) {
+
+        int colon = fields[f].indexOf(':');
+
+        histogram._counts.set(Integer.parseInt(fields[f].substring(0, colon)), Long.parseLong(fields[f].substring(colon + 1)));
+      }
+
+      return histogram;
+
+    } catch (RuntimeException e) {
+
+      return null;
+    }
+  }
+
+  /**
+   * Method clears all recorded values.
+   */
+  public void reset() {
+
+    for (int i = 0; i < _counts.length(); i++) {
+
+      _counts.set(i, 0);
+    }
+
+    _totalCount.set(0);
+
+    _total.set(0);
+
+    _min.set(Long.MAX_VALUE);
+
+    _max.set(Long.MIN_VALUE);
+  }
+
+  /**
+   * Method returns number of recorded values.
+   *
+   * @return long number of recorded values.
+   */
+  public long count() {
+
+    return _totalCount.get();
+  }
+
+  /**
+   * Method returns smallest recorded value.
+   *
+   * @return long smallest value, or 0 if empty.
+   */
+  public long min() {
+
+    return count() == 0 ? 0 : _min.get();
+  }
+
+  /**
+   * Method returns largest recorded value.
+   *
+   * @return long largest value, or 0 if empty.
+   */
+  public long max() {
+
+    return count() == 0 ? 0 : _max.get();
+  }
+
+  /**
+   * Method returns mean of recorded values.
+   *
+   * @return double mean value, or 0 if empty.
+   */
+  public double mean() {
+
+    long count = count();
+
+    return count == 0 ? 0 : (double) _total.get() / count;
+  }
+
+  /**
+   * Method returns value at percentile. The result is the highest value
+   * equivalent to the bucket holding the percentile, capped at the largest
+   * recorded value. Values counted in the highest bucket report the largest
+   * recorded value.
+   *
+   * @param percentile percentile between 0 and 100.
+   * @return long value at percentile, or 0 if empty.
+   */
+  public long percentile(double percentile) {
+
+    long count = count();
+
+    if (count == 0) {
+
+      return 0;
+    }
+
+    long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+
+    long cumulative = 0;
+
+    for (int i = 0; i < _counts.length(); i++) {
+
+      cumulative += _counts.get(i);
+
+      if (cumulative >= target) {
+
+        if (i == _counts.length() - 1) {
+
+          break;
+        }
+
+        return Math.min(highestEquivalentValue(valueFromIndex(i)), max());
+      }
+    }
+
+    return max();
+  }
+
+  /**
+   * Method returns length of counts array.
+   *
+   * @return int length of counts array.
+   */
+  int length() {
+
+    return _counts.length();
+  }
+
+  /**
+   * Method returns count held at counts array index.
+   *
+   * @param i counts array index.
+   * @return long count at index.
+   */
+  long countAt(int i) {
+
+    return _counts.get(i);
+  }
+
+  /**
+   * Method returns counts array index of value.
+   *
+   * @param value value to look up.
+   * @return int counts array index.
+   */
+  static int index(long value) {
+
+    int bucketIndex = _LEADING_ZERO_COUNT_BASE - Long.numberOfLeadingZeros(value | _SUB_BUCKET_MASK);
+
+    int subBucketIndex = (int) (value >>> bucketIndex);
+
+    return ((bucketIndex + 1) << _SUB_BUCKET_HALF_COUNT_MAGNITUDE) + (subBucketIndex - _SUB_BUCKET_HALF_COUNT);
+  }
+
+  /**
+   * Method returns lowest value held at counts array index.
+   *
+   * @param index counts array index.
+   * @return long lowest value at index.
+   */
+  static long valueFromIndex(int index) {
+
+    int bucketIndex = (index >> _SUB_BUCKET_HALF_COUNT_MAGNITUDE) - 1;
+
+    int subBucketIndex = (index & (_SUB_BUCKET_HALF_COUNT - 1)) + _SUB_BUCKET_HALF_COUNT;
+
+    if (bucketIndex < 0) {
+
+      subBucketIndex -= _SUB_BUCKET_HALF_COUNT;
+
+      bucketIndex = 0;
+    }
+
+    return ((long) subBucketIndex) << bucketIndex;
+  }
+
+  /**
+   * Method returns highest value that shares the counts array index of value.
+   *
+   * @param value value to look up.
+   * @return long highest equivalent value.
+   */
+  static long highestEquivalentValue(long value) {
+
+    int bucketIndex = _LEADING_ZERO_COUNT_BASE - Long.numberOfLeadingZeros(value | _SUB_BUCKET_MASK);
+
+    return valueFromIndex(index(value)) + (1L << bucketIndex) - 1;
+  }
+
+  /**
+   * Method returns length of counts array needed to track values up to highest
+   * trackable value.
+   *
+   * @param highestTrackableValue largest value tracked.
+   * @return int length of counts array.
+   */
+  private static int countsLength(long highestTrackableValue) {
+
+    return index(highestTrackableValue) + 1;
+  }
+
+  /**
+   * Number of bits of linear sub-bucket resolution per bucket less one.
+   */
+  private static final int _SUB_BUCKET_HALF_COUNT_MAGNITUDE = 7;
+
+  /**
+   * Number of linear sub-buckets per bucket '{@value _SUB_BUCKET_COUNT}'.
+   */
+  static final int _SUB_BUCKET_COUNT = 1 << (_SUB_BUCKET_HALF_COUNT_MAGNITUDE + 1);
+
+  /**
+   * Half the number of linear sub-buckets per bucket.
+   */
+  private static final int _SUB_BUCKET_HALF_COUNT = _SUB_BUCKET_COUNT / 2;
+
+  /**
+   * Mask of values held in the first bucket.
+   */
+  private static final long _SUB_BUCKET_MASK = _SUB_BUCKET_COUNT - 1;
+
+  /**
+   * Leading zero count of values at the top of the first bucket.
+   */
+  private static final int _LEADING_ZERO_COUNT_BASE = 64 - _SUB_BUCKET_HALF_COUNT_MAGNITUDE - 1;
+
+  /**
+   * Default highest trackable value '{@value _DEFAULT_HIGHEST_TRACKABLE_VALUE}'.
+   * One hour in nanoseconds.
+   */
+  public static final long _DEFAULT_HIGHEST_TRACKABLE_VALUE = 3600L * 1000000000L;
+
+  /**
+   * Largest value tracked.
+   */
+  private final long _highestTrackableValue;
+
+  /**
+   * Count of values per counts array index.
+   */
+  private final AtomicLongArray _counts;
+
+  /**
+   * Number of recorded values.
+   */
+  private final AtomicLong _totalCount = new AtomicLong();
+
+  /**
+   * Sum of recorded values.
+   */
+  private final AtomicLong _total = new AtomicLong();
+
+  /**
+   * Smallest recorded value.
+   */
+  private final AtomicLong _min = new AtomicLong(Long.MAX_VALUE);
+
+  /**
+   * Largest recorded value.
+   */
+  private final AtomicLong _max = new AtomicLong(Long.MIN_VALUE);
+}
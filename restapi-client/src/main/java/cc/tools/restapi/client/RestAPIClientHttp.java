@@ -0,0 +1,313 @@
+package cc.tools.restapi.client;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * This class implements a registry of shared {@link java.net.http.HttpClient}
+ * objects. Actions with the same http version, executor and connect timeout
+ * share one client, and with it one connection pool and selector thread, so
+ * warm connections are reused instead of paying for TCP and TLS setup per
+ * action.
+ * <p>
+ * The connection pool size is a jvm wide setting read once by the jdk, so
+ * the -pool-size of the first client built applies to every client and a
+ * different -pool-size asked for later is reported and ignored.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientHttp {
+
+  /**
+   * Constructor {@link RestAPIClientHttp} is private and not meant to be used.
+   */
+  private RestAPIClientHttp() {
+  }
+
+  /**
+   * Method returns shared client for configuration, building it on first use.
+   *
+   * @param config configuration object.
+   * @return HttpClient shared client.
+   */
+  static public HttpClient client(RestAPIClientConfig config) {
+
+    StringBuilder buffer = new StringBuilder();
+
+    buffer.append(config.getHttpVersion());
+    buffer.append("|");
+    buffer.append(config.getExecutor());
+    buffer.append("|");
+    buffer.append(config.getConnectTimeout());
+
+    String key = buffer.toString();
+
+    HttpClient client = _clients.get(key);
+
+    if (client != null) {
+
+      _hits.increment();
+
+      return client;
+    }
+
+    return _clients.computeIfAbsent(key, k -> build(config));
+  }
+
+  /**
+   * Method records a response for connection statistics.
+   *
+   * @param response response received from server.
+   */
+  static public void track(HttpResponse<?> response) {
+
+    _requests.increment();
+
+    if (response.version() == HttpClient.Version.HTTP_2) {
+
+      _http2.increment();
+    }
+
+    if (response.sslSession().isPresent()) {
+
+      _tls.increment();
+
+      if (_sessions.put(response.sslSession().get(), Boolean.TRUE) == null) {
+
+        _handshakes.increment();
+      }
+    }
+  }
+
+  /**
+   * Method prints connection statistics.
+   */
+  static public void dump() {
+
+    long requests = _requests.sum();
+
+    if (requests == 0) {
+
+      return;
+    }
+
+    long http2 = _http2.sum();
+
+    _logger.info("http clients: ",
+        _clients.size(),
+        " built, ",
+        _hits.sum(),
+        " reused by actions. responses: ",
+        requests,
+        " (http/2 ",
+        http2,
+        ", http/1.1 ",
+        requests - http2,
+        ")");
+
+    long tls = _tls.sum();
+
+    if (tls > 0) {
+
+      long handshakes = _handshakes.sum();
+
+      _logger.info("tls sessions: ",
+          handshakes,
+          " for ",
+          tls,
+          " tls responses. reuse ",
+          String.format("%.1f", 100.0 * (tls - handshakes) / tls),
+          "%");
+    }
+  }
+
+  /**
+   * Method returns the connection pool size of every client, fixed when the
+   * first client is built.
+   *
+   * @return int connection pool size, 0 for unbounded, -1 before the first
+   *         client is built.
+   */
+  static int poolSize() {
+
+    return _poolSize;
+  }
+
+  /**
+   * Method builds client for configuration.
+   *
+   * @param config configuration object.
+   * @return HttpClient new client.
+   */
+  private static synchronized HttpClient build(RestAPIClientConfig config) {
+
+    if (_poolSize < 0) {
+
+      if (config.getPoolSize() > 0 && System.getProperty(_PROPERTY_POOL_SIZE) == null) {
+
+        System.setProperty(_PROPERTY_POOL_SIZE, Integer.toString(config.getPoolSize()));
+      }
+
+      _poolSize = Integer.getInteger(_PROPERTY_POOL_SIZE, 0);
+
+      _logger.debug("http client connection pool size ",
+          _poolSize == 0 ? "unbounded" : Integer.toString(_poolSize));
+
+    } else if (config.getPoolSize() != _poolSize) {
+
+      _logger.info("http client connection pool size is fixed at ",
+          _poolSize == 0 ? "unbounded" : Integer.toString(_poolSize),
+          " for this jvm, -pool-size ",
+          config.getPoolSize(),
+          " ignored");
+    }
+
+    HttpClient.Builder builder = HttpClient.newBuilder()
+        .version(config.getHttpVersion().compareTo(_VERSION_1_1) == 0 ? HttpClient.Version.HTTP_1_1 : HttpClient.Version.HTTP_2)
+        .connectTimeout(Duration.ofMillis(config.getConnectTimeout()));
+
+    Executor executor = executor(config.getExecutor());
+
+    if (executor != null) {
+
+      builder.executor(executor);
+    }
+
+    _logger.debug("http client built for ",
+        config.getHttpVersion(),
+        " executor ",
+        config.getExecutor());
+
+    return builder.build();
+  }
+
+  /**
+   * Method returns executor for -executor value.
+   *
+   * @param name -executor value.
+   * @return Executor for client, or null for the client's own default.
+   */
+  private static Executor executor(String name) {
+
+    if (name.compareTo(_EXECUTOR_VIRTUAL) == 0) {
+
+      return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    if (name.compareTo(_EXECUTOR_COMMON) == 0) {
+
+      return ForkJoinPool.commonPool();
+    }
+
+    if (name.startsWith(_EXECUTOR_FIXED)) {
+
+      int threads = Runtime.getRuntime().availableProcessors();
+
+      if (name.length() > _EXECUTOR_FIXED.length()) {
+
+        threads = Integer.parseInt(name.substring(_EXECUTOR_FIXED.length() + 1));
+      }
+
+      return Executors.newFixedThreadPool(threads, Thread.ofPlatform().daemon().factory());
+    }
+
+    return null;
+  }
+
+  /**
+   * Http version value for HTTP/1.1 '{@value _VERSION_1_1}'.
+   */
+  static public final String _VERSION_1_1 = "1.1";
+
+  /**
+   * Http version value for HTTP/2 '{@value _VERSION_2}'.
+   */
+  static public final String _VERSION_2 = "2";
+
+  /**
+   * Executor value for the client's own executor '{@value _EXECUTOR_DEFAULT}'.
+   */
+  static public final String _EXECUTOR_DEFAULT = "default";
+
+  /**
+   * Executor value for a virtual thread per task '{@value _EXECUTOR_VIRTUAL}'.
+   */
+  static public final String _EXECUTOR_VIRTUAL = "virtual";
+
+  /**
+   * Executor value for a fixed thread pool '{@value _EXECUTOR_FIXED}'.
+   * Optionally followed by ':' and number of threads.
+   */
+  static public final String _EXECUTOR_FIXED = "fixed";
+
+  /**
+   * Executor value for the common fork join pool '{@value _EXECUTOR_COMMON}'.
+   */
+  static public final String _EXECUTOR_COMMON = "common";
+
+  /**
+   * System property read by {@link java.net.http.HttpClient} for its
+   * connection pool size '{@value _PROPERTY_POOL_SIZE}'.
+   */
+  private static final String _PROPERTY_POOL_SIZE = "jdk.httpclient.connectionPoolSize";
+
+  /**
+   * Shared clients by settings.
+   */
+  private static final Map<String, HttpClient> _clients = new ConcurrentHashMap<String, HttpClient>();
+
+  /**
+   * Number of times an existing client was handed out.
+   */
+  private static final LongAdder _hits = new LongAdder();
+
+  /**
+   * Number of responses received.
+   */
+  private static final LongAdder _requests = new LongAdder();
+
+  /**
+   * Number of responses received over HTTP/2.
+   */
+  private static final LongAdder _http2 = new LongAdder();
+
+  /**
+   * Number of responses received over TLS.
+   */
+  private static final LongAdder _tls = new LongAdder();
+
+  /**
+   * Number of distinct TLS sessions seen. Each new session is a full
+   * handshake.
+   */
+  private static final LongAdder _handshakes = new LongAdder();
+
+  /**
+   * TLS sessions seen, held weakly so sessions of closed connections can be
+   * collected.
+   */
+  private static final Map<SSLSession, Boolean> _sessions = Collections.synchronizedMap(new WeakHashMap<SSLSession, Boolean>());
+
+  /**
+   * Connection pool size of every client, -1 until the first client is built.
+   */
+  private static volatile int _poolSize = -1;
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientHttp.class.getName());
+}
@@ -0,0 +1,375 @@
+package cc.tools.restapi.client;
+
+import java.util.List;
+
+/**
+ * This class implements the -adaptive concurrency limit of pipelined sends.
+ * The limit starts at 1 and doubles each window until queueing is first seen,
+ * then follows one of two rules:
+ *
+ * <pre>
+ * aimd      estimate queue = limit * (1 - minimum / latency), as tcp vegas.
+ *           add 1 while queue &lt; {@value _ALPHA}, multiply by {@value _DECREASE}
+ *           once queue &gt; {@value _BETA}.
+ * gradient  limit = limit * gradient + sqrt(limit), gradient =
+ *           minimum / latency bounded to [0.5, 1], smoothed by {@value _SMOOTHING}.
+ * </pre>
+ *
+ * Latency is the mean of a window of completed sends, at least
+ * {@value _MINIMUM_WINDOW} and at least the limit, and minimum is the lowest
+ * window latency seen, standing for the server with no queue. A failed send
+ * halves the limit, at most once per round trip as in tcp: failures of sends
+ * started before the last halving belong to the same overload and are
+ * ignored. The limit never exceeds -inflight. It is logged once per
+ * log interval so the concurrency the server sustains can be read off the
+ * log, and the settled limit is reported at the end.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientLimiter {
+
+  /**
+   * Constructor {@link RestAPIClientLimiter}.
+   *
+   * @param algorithm        {@value _AIMD} or {@value _GRADIENT}.
+   * @param maximum          largest limit.
+   * @param logIntervalNanos interval between limit log lines in nanoseconds.
+   */
+  private RestAPIClientLimiter(String algorithm, int maximum, long logIntervalNanos) {
+
+    _algorithm = algorithm;
+
+    _gradient = algorithm.compareTo(_GRADIENT) == 0;
+
+    _maximum = maximum;
+
+    _logIntervalNanos = logIntervalNanos;
+
+    _halved = System.nanoTime();
+  }
+
+  /**
+   * Method parses an -adaptive value.
+   *
+   * @param algorithm        {@value _AIMD} or {@value _GRADIENT}.
+   * @param maximum          largest limit, from -inflight.
+   * @param logIntervalNanos interval between limit log lines in nanoseconds.
+   * @param errors           errors encountered are added to this list.
+   * @return RestAPIClientLimiter limiter, or null on error.
+   */
+  static public RestAPIClientLimiter parse(String algorithm, int maximum, long logIntervalNanos, List<String> errors) {
+
+    algorithm = algorithm.trim().toLowerCase();
+
+    if (algorithm.compareTo(_AIMD) != 0 && algorithm.compareTo(_GRADIENT) != 0) {
+
+      errors.add("-" + RestAPIClientParameterKeys._KEY_ADAPTIVE + " must be '" + _AIMD + "', '" + _GRADIENT + "' or 'off'");
+
+      return null;
+    }
+
+    return new RestAPIClientLimiter(algorithm, maximum, logIntervalNanos);
+  }
+
+  /**
+   * Method waits until fewer sends than the limit are outstanding and counts
+   * one more.
+   *
+   * @throws InterruptedException if interrupted while waiting.
+   */
+  public synchronized void acquire() throws InterruptedException {
+
+    while (_outstanding >= _limit) {
+
+      wait();
+    }
+
+    _outstanding++;
+  }
+
+  /**
+   * Method waits until no send is outstanding.
+   *
+   * @throws InterruptedException if interrupted while waiting.
+   */
+  public synchronized void drain() throws InterruptedException {
+
+    while (_outstanding > 0) {
+
+      wait();
+    }
+  }
+
+  /**
+   * Method counts a completed send and adjusts the limit at the end of each
+   * window.
+   *
+   * @param result completed send, or null if the send was not started.
+   */
+  public synchronized void release(RestAPIClientResult result) {
+
+    _outstanding--;
+
+    if (result == null) {
+
+      notifyAll();
+
+      return;
+    }
+
+    if (result.ok()) {
+
+      _windowNanos += result.latency();
+
+      _windowCount++;
+
+    } else if (result.start() - _halved >= 0) {
+
+      _windowFailed = true;
+    }
+
+    if (_windowFailed || _windowCount >= Math.max(_MINIMUM_WINDOW, (int) _limit)) {
+
+      update();
+    }
+
+    notifyAll();
+  }
+
+  /**
+   * Method adjusts the limit from the window just completed.
+   */
+  private void update() {
+
+    double latency = _windowCount == 0 ? 0 : (double) _windowNanos / _windowCount;
+
+    double limit = _limit;
+
+    if (_windowFailed) {
+
+      limit = limit / 2;
+
+      _slowStart = false;
+
+      _halved = System.nanoTime();
+
+    } else if (latency > 0) {
+
+      _minimum = _minimum == 0 ? latency : Math.min(_minimum, latency);
+
+      double ratio = _minimum / latency;
+
+      double queue = limit * (1 - ratio);
+
+      if (_slowStart && queue <= _ALPHA) {
+
+        limit = limit * 2;
+
+      } else if (_gradient) {
+
+        _slowStart = false;
+
+        double gradient = Math.max(0.5, Math.min(1.0, ratio));
+
+        limit = limit * (1 - _SMOOTHING) + (limit * gradient + Math.sqrt(limit)) * _SMOOTHING;
+
+      } else {
+
+        _slowStart = false;
+
+        if (queue < _ALPHA) {
+
+          limit = limit + 1;
+
+        } else if (queue > _BETA) {
+
+          limit = limit * _DECREASE;
+        }
+      }
+    }
+
+    _limit = Math.max(1, Math.min(_maximum, limit));
+
+    _windows++;
+
+    _limitSum += _limit;
+
+    _peak = Math.max(_peak, _limit);
+
+    _windowNanos = 0;
+
+    _windowCount = 0;
+
+    _windowFailed = false;
+
+    long now = System.nanoTime();
+
+    if (now - _logged >= _logIntervalNanos) {
+
+      _logged = now;
+
+      _logger.info("adaptive limit ",
+          (int) _limit,
+          " latency ",
+          RestAPIClientStats.millis((long) latency),
+          " ms, minimum ",
+          RestAPIClientStats.millis((long) _minimum),
+          " ms");
+    }
+  }
+
+  /**
+   * Method returns the current limit.
+   *
+   * @return int concurrency limit.
+   */
+  public synchronized int limit() {
+
+    return (int) _limit;
+  }
+
+  /**
+   * Method prints the final, mean and peak limit.
+   */
+  public synchronized void dump() {
+
+    _logger.info("adaptive ",
+        _algorithm,
+        ": final limit ",
+        (int) _limit,
+        ", mean ",
+        String.format("%.1f", _windows == 0 ? _limit : _limitSum / _windows),
+        ", peak ",
+        (int) _peak,
+        " of ",
+        _maximum,
+        " over ",
+        _windows,
+        " windows, minimum latency ",
+        RestAPIClientStats.millis((long) _minimum),
+        " ms");
+  }
+
+  /**
+   * Additive increase, multiplicative decrease on estimated queue.
+   */
+  static final String _AIMD = "aimd";
+
+  /**
+   * Gradient of minimum to current latency.
+   */
+  static final String _GRADIENT = "gradient";
+
+  /**
+   * Estimated queue below which aimd adds to the limit.
+   */
+  private static final double _ALPHA = 3;
+
+  /**
+   * Estimated queue above which aimd cuts the limit.
+   */
+  private static final double _BETA = 6;
+
+  /**
+   * Factor aimd cuts the limit by.
+   */
+  private static final double _DECREASE = 0.9;
+
+  /**
+   * Weight of a new gradient limit.
+   */
+  private static final double _SMOOTHING = 0.2;
+
+  /**
+   * Fewest completed sends in a window.
+   */
+  private static final int _MINIMUM_WINDOW = 10;
+
+  /**
+   * Algorithm name.
+   */
+  private final String _algorithm;
+
+  /**
+   * Flag indicating the gradient rule is used, aimd otherwise.
+   */
+  private final boolean _gradient;
+
+  /**
+   * Largest limit.
+   */
+  private final int _maximum;
+
+  /**
+   * Interval between limit log lines in nanoseconds.
+   */
+  private final long _logIntervalNanos;
+
+  /**
+   * Concurrency limit, kept fractional so small steps add up.
+   */
+  private double _limit = 1;
+
+  /**
+   * Flag indicating the limit doubles each window.
+   */
+  private boolean _slowStart = true;
+
+  /**
+   * Number of sends outstanding.
+   */
+  private int _outstanding = 0;
+
+  /**
+   * Sum of latency of successful sends in this window.
+   */
+  private long _windowNanos = 0;
+
+  /**
+   * Number of successful sends in this window.
+   */
+  private int _windowCount = 0;
+
+  /**
+   * Flag indicating a send failed in this window.
+   */
+  private boolean _windowFailed = false;
+
+  /**
+   * Time of the last halving in {@link System#nanoTime()} units. Sends started
+   * before it do not halve the limit again.
+   */
+  private long _halved;
+
+  /**
+   * Lowest window latency seen in nanoseconds.
+   */
+  private double _minimum = 0;
+
+  /**
+   * Number of windows completed.
+   */
+  private long _windows = 0;
+
+  /**
+   * Sum of the limit after each window.
+   */
+  private double _limitSum = 0;
+
+  /**
+   * Highest limit reached.
+   */
+  private double _peak = 1;
+
+  /**
+   * Time of the last limit log line in {@link System#nanoTime()} units.
+   */
+  private long _logged = System.nanoTime();
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientLimiter.class.getName());
+}
@@ -0,0 +1,486 @@
+package cc.tools.restapi.client;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class implements the asynchronous logger backend selected by
+ * -log-async. Producers claim a slot of a bounded lock-free multi-producer,
+ * single-consumer ring and return; one writer thread drains the ring in
+ * batches, so callers never wait on the console lock. When the ring is full
+ * the policy decides: 'block' waits for space, 'drop' discards the record and
+ * 'sample' starts keeping only one record in {@value _SAMPLE_RATE} once the
+ * ring is {@value _SAMPLE_PERCENT}% full, dropping the rest. Error records
+ * always wait for space whatever the policy. Once the writer thread has exited
+ * records are written synchronously by the caller.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientLogRing {
+
+  /**
+   * Constructor {@link RestAPIClientLogRing}. Starts the writer thread.
+   *
+   * @param policy   full ring policy, {@value _POLICY_BLOCK},
+   *                 {@value _POLICY_DROP} or {@value _POLICY_SAMPLE}.
+   * @param capacity ring capacity, rounded up to a power of two.
+   * @param out      standard output stream.
+   * @param err      error output stream.
+   */
+  public RestAPIClientLogRing(String policy, int capacity, PrintStream out, PrintStream err) {
+
+    int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+
+    _policy = policy;
+
+    _mask = size - 1;
+
+    _texts = new String[size];
+
+    _flags = new byte[size];
+
+    _sequences = new AtomicLongArray(size);
+
+    for (int s = 0; s < size; s++) {
+
+      _sequences.set(s, s);
+    }
+
+    _out = out;
+
+    _err = err;
+
+    _writer = new Thread(this::write, "restapi-client-log-writer");
+
+    _writer.setDaemon(true);
+
+    _writer.start();
+  }
+
+  /**
+   * Method adds a record to the ring.
+   *
+   * @param text    record text.
+   * @param error   flag indicating error output stream.
+   * @param newline flag indicating whether newline should be output.
+   */
+  public void offer(String text, boolean error, boolean newline) {
+
+    if (_exited) {
+
+      direct(text, error, newline);
+
+      return;
+    }
+
+    boolean wait = error || _policy.compareTo(_POLICY_BLOCK) == 0;
+
+    if (!wait && _policy.compareTo(_POLICY_SAMPLE) == 0
+        && _tail.get() - _head > (_mask + 1) * _SAMPLE_PERCENT / 100
+        && _sampling.getAndIncrement() % _SAMPLE_RATE != 0) {
+
+      _sampled.increment();
+
+      return;
+    }
+
+    long spins = 0;
+
+    while (true) {
+
+      long tail = _tail.get();
+
+      int slot = (int) (tail & _mask);
+
+      long sequence = _sequences.get(slot);
+
+      if (sequence == tail) {
+
+        if (!_tail.compareAndSet(tail, tail + 1)) {
+
+          continue;
+        }
+
+        _texts[slot] = text;
+
+        _flags[slot] = (byte) ((error ? _FLAG_ERROR : 0) | (newline ? _FLAG_NEWLINE : 0));
+
+        _sequences.set(slot, tail + 1);
+
+        return;
+      }
+
+      if (sequence > tail) {
+
+        continue;
+      }
+
+      if (!wait) {
+
+        _dropped.increment();
+
+        return;
+      }
+
+      if (_exited) {
+
+        direct(text, error, newline);
+
+        return;
+      }
+
+      if (++spins < _SPINS) {
+
+        Thread.onSpinWait();
+
+      } else {
+
+        LockSupport.parkNanos(_PARK_NANOS);
+      }
+    }
+  }
+
+  /**
+   * Method stops the writer once every record offered so far is written, and
+   * reports records lost to the full ring policy.
+   */
+  public void shutdown() {
+
+    _stop = true;
+
+    LockSupport.unpark(_writer);
+
+    try {
+
+      _writer.join();
+
+    } catch (InterruptedException e) {
+
+      Thread.currentThread().interrupt();
+    }
+
+    long dropped = _dropped.sum();
+
+    long sampled = _sampled.sum();
+
+    if (dropped > 0 || sampled > 0) {
+
+      _err.println("log ring (" + _policy + "): " + _written + " records written, " + dropped + " dropped, "
+          + sampled + " sampled out");
+    }
+  }
+
+  /**
+   * Method returns number of records dropped because the ring was full.
+   *
+   * @return long number of dropped records.
+   */
+  public long dropped() {
+
+    return _dropped.sum();
+  }
+
+  /**
+   * Method returns number of records dropped by sampling.
+   *
+   * @return long number of sampled out records.
+   */
+  public long sampled() {
+
+    return _sampled.sum();
+  }
+
+  /**
+   * Method run by the writer thread. Once stopped, or if output fails, the
+   * thread marks itself exited so producers stop waiting for it, then writes
+   * records claimed before they noticed, waiting for any still being
+   * published. The ring is then closed by moving the tail a full lap ahead, so
+   * a late producer finds it full and writes directly or drops.
+   */
+  private void write() {
+
+    StringBuilder batch = new StringBuilder();
+
+    try {
+
+      while (true) {
+
+        boolean stop = _stop;
+
+        if (drain(batch) == 0) {
+
+          if (stop) {
+
+            return;
+          }
+
+          LockSupport.parkNanos(_PARK_NANOS);
+        }
+      }
+
+    } finally {
+
+      _exited = true;
+
+      while (true) {
+
+        while (_head != _tail.get()) {
+
+          if (drain(batch) == 0) {
+
+            Thread.onSpinWait();
+          }
+        }
+
+        if (_tail.compareAndSet(_head, _head + _mask + 1)) {
+
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Method writes up to {@value _BATCH} published records. Records are appended
+   * to a batch per output stream and each batch is written and flushed once.
+   *
+   * @param batch empty batch buffer.
+   * @return int number of records written.
+   */
+  private int drain(StringBuilder batch) {
+
+    boolean batchError = false;
+
+    int count = 0;
+
+    while (count < _BATCH) {
+
+      int slot = (int) (_head & _mask);
+
+      if (_sequences.get(slot) != _head + 1) {
+
+        break;
+      }
+
+      boolean error = (_flags[slot] & _FLAG_ERROR) != 0;
+
+      if (error != batchError && batch.length() > 0) {
+
+        flush(batch, batchError);
+      }
+
+      batchError = error;
+
+      batch.append(_texts[slot]);
+
+      if ((_flags[slot] & _FLAG_NEWLINE) != 0) {
+
+        batch.append(System.lineSeparator());
+      }
+
+      _texts[slot] = null;
+
+      _sequences.set(slot, _head + _mask + 1);
+
+      _head++;
+
+      count++;
+    }
+
+    _written += count;
+
+    if (batch.length() > 0) {
+
+      flush(batch, batchError);
+    }
+
+    return count;
+  }
+
+  /**
+   * Method writes a record synchronously on the caller's thread.
+   *
+   * @param text    record text.
+   * @param error   flag indicating error output stream.
+   * @param newline flag indicating whether newline should be output.
+   */
+  private void direct(String text, boolean error, boolean newline) {
+
+    PrintStream stream = error ? _err : _out;
+
+    if (newline) {
+
+      stream.println(text);
+
+    } else {
+
+      stream.print(text);
+    }
+
+    stream.flush();
+  }
+
+  /**
+   * Method writes and clears a batch.
+   *
+   * @param batch batch text.
+   * @param error flag indicating error output stream.
+   */
+  private void flush(StringBuilder batch, boolean error) {
+
+    PrintStream stream = error ? _err : _out;
+
+    stream.print(batch);
+
+    stream.flush();
+
+    batch.setLength(0);
+  }
+
+  /**
+   * Setting keeping synchronous output, no ring '{@value _POLICY_OFF}'.
+   */
+  static public final String _POLICY_OFF = "off";
+
+  /**
+   * Full ring policy waiting for space '{@value _POLICY_BLOCK}'.
+   */
+  static public final String _POLICY_BLOCK = "block";
+
+  /**
+   * Full ring policy dropping records '{@value _POLICY_DROP}'.
+   */
+  static public final String _POLICY_DROP = "drop";
+
+  /**
+   * Full ring policy sampling records '{@value _POLICY_SAMPLE}'.
+   */
+  static public final String _POLICY_SAMPLE = "sample";
+
+  /**
+   * Default ring capacity '{@value _CAPACITY}' records.
+   */
+  static public final int _CAPACITY = 8192;
+
+  /**
+   * Ring fill level in percent above which sampling starts
+   * '{@value _SAMPLE_PERCENT}'.
+   */
+  static final int _SAMPLE_PERCENT = 75;
+
+  /**
+   * One record in '{@value _SAMPLE_RATE}' is kept while sampling.
+   */
+  static final int _SAMPLE_RATE = 16;
+
+  /**
+   * Maximum records written per batch '{@value _BATCH}'.
+   */
+  private static final int _BATCH = 1024;
+
+  /**
+   * Busy spins before parking '{@value _SPINS}'.
+   */
+  private static final int _SPINS = 100;
+
+  /**
+   * Park time when idle or waiting for space '{@value _PARK_NANOS}' ns.
+   */
+  private static final long _PARK_NANOS = 100000;
+
+  /**
+   * Record flag for error output stream.
+   */
+  private static final byte _FLAG_ERROR = 1;
+
+  /**
+   * Record flag for trailing newline.
+   */
+  private static final byte _FLAG_NEWLINE = 2;
+
+  /**
+   * Full ring policy.
+   */
+  private final String _policy;
+
+  /**
+   * Ring index mask.
+   */
+  private final int _mask;
+
+  /**
+   * Record text per slot.
+   */
+  private final String[] _texts;
+
+  /**
+   * Record flags per slot.
+   */
+  private final byte[] _flags;
+
+  /**
+   * Sequence per slot. Equal to the claiming position when free, one more when
+   * published.
+   */
+  private final AtomicLongArray _sequences;
+
+  /**
+   * Next position claimed by producers.
+   */
+  private final AtomicLong _tail = new AtomicLong();
+
+  /**
+   * Next position read by the writer.
+   */
+  private volatile long _head = 0;
+
+  /**
+   * Records written by the writer.
+   */
+  private long _written = 0;
+
+  /**
+   * Records seen while sampling.
+   */
+  private final AtomicLong _sampling = new AtomicLong();
+
+  /**
+   * Records dropped because the ring was full.
+   */
+  private final LongAdder _dropped = new LongAdder();
+
+  /**
+   * Records dropped by sampling.
+   */
+  private final LongAdder _sampled = new LongAdder();
+
+  /**
+   * Flag telling the writer to finish.
+   */
+  private volatile boolean _stop = false;
+
+  /**
+   * Flag set once the writer thread no longer drains the ring.
+   */
+  private volatile boolean _exited = false;
+
+  /**
+   * Standard output stream.
+   */
+  private final PrintStream _out;
+
+  /**
+   * Error output stream.
+   */
+  private final PrintStream _err;
+
+  /**
+   * Writer thread.
+   */
+  private final Thread _writer;
+}
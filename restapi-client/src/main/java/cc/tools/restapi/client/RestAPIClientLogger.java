@@ -1,12 +1,6 @@
 package cc.tools.restapi.client;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
-import java.util.AbstractMap;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
-import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * This class implements logging single access.
@@ -24,475 +18,250 @@ public class RestAPIClientLogger {
    */
   public RestAPIClientLogger(String name) {
 
-    _name = name;
-  }
-  
-  /**
-   * Method output error level text.
-   * 
-   * @param os objects to be output.
-   */
-  public void error(Object... os) {
-
-    logger().error(_name, " ", logger().concat(os));
-  }
-
-  /**
-   * Method output info level text.
-   * 
-   * @param os objects to be output.
-   */
-  public void info(Object... os) {
-
-    logger().info(_name, " ", logger().concat(os));
+    this(name, _logger);
   }
 
   /**
-   * Method output debug level text.
+   * Constructor {@link RestAPIClientLogger} writing to its own implementation.
    * 
-   * @param os objects to be output.
-   */
-  public void debug(Object... os) {
-
-    logger().debug(_name, " ", logger().concat(os));
-  }
-
-  /**
-   * Method output a raw character.
-   * 
-   * @param c chracter to be output.
-   */
-  public void info(char c) {
-
-    logger().standard_output(c, false);
-  }
-  
-  /**
-   * Method output exception text.
-   * 
-   * @param e exception to be output.
-   */
-  public void exception(Exception e) {
-
-    logger().exception(e);
-  }
-
-  /**
-   * Print all buffered error rows.
-   */
-  public void unbuffer_errors() {
-
-    logger().unbuffer("error");
-  }
-
-  /**
-   * Print all buffered  rows.
-   * 
-   * @param level log level to use for output filtering.
+   * @param name String containing logger name.
+   * @param impl logging implementation object.
    */
-  public void unbuffer(String level) {
+  RestAPIClientLogger(String name, RestAPIClientLoggerImpl impl) {
 
-    logger().unbuffer(level);
-  }
-  
-  /**
-   * Method returns a boolean to indicate whether the log level in parameter is
-   * active.
-   * 
-   * @param level value to be tested.
-   * @return boolean true indicating yes, false no.
-   */
-  public boolean isOn(RestAPIClientLoggerImpl._LOG_LEVEL level) {
+    _name = name;
 
-    return logger().isOn(level);
+    _impl = impl;
   }
   
   /**
-   * Logger simgleton access function.
+   * Method output error level text.
    * 
-   * @return RestAPIClientLoggerImpl logging implementation object.
-   */
-  private RestAPIClientLoggerImpl logger() {
-    return _logger;
-  }
-  
-  /**
-   * Logger name. Normally owning class name.
-   */
-  private String _name = null;
-  
-  /**
-   * Logger singleton.
-   */
-  private static RestAPIClientLoggerImpl _logger = new RestAPIClientLoggerImpl();
-}
-
-/**
- * This class implements logging.
- * 
- * @author cc
- * @version %I%, %G%
- * @since 0.1
- */
-class RestAPIClientLoggerImpl {
-
-  /**
-   * Constructor {@link RestAPIClientLoggerImpl}.
-   */
-  public RestAPIClientLoggerImpl() {
-  }
-  
-  /**
-   * Enum _LOG_LEVEL is used to indicate log level
+   * @param os objects to be output.
    */
-  public enum _LOG_LEVEL {
-
-    /**
-     * Status value {@link _LOG_NONE} indicates no level.
-     */
-    _LOG_NONE(0),
-    /**
-     * Status value {@link _LOG_OFF} indicates off level.
-     */
-    _LOG_OFF(1),
-    /**
-     * Status value {@link _LOG_ERROR} indicates error level.
-     */
-    _LOG_ERROR(2),
-    /**
-     * Status value {@link _LOG_INFO} indicates info level.
-     */
-    _LOG_INFO(3),
-    /**
-     * Status value {@link _LOG_DEBUG} indicates debug level.
-     */
-    _LOG_DEBUG(4);
-
-    /**
-     * Enum number.
-     */
-    private int numVal;
-
-    /**
-     * Constructor
-     * 
-     * @param numVal enum number.
-     */
-    _LOG_LEVEL(int numVal) {
-      this.numVal = numVal;
-    }
+  public void error(Object... os) {
 
-    /**
-     * Method to return enumm number.
-     * @return int enum numver value.
-     */
-    public int getNumVal() {
-      return numVal;
+    if (logger().isActive(RestAPIClientLoggerImpl._LOG_LEVEL._LOG_ERROR)) {
+      
+      logger().error(_name, " ", logger().concat(os));
     }
   }
 
   /**
-   * Print buffered rows with config check filtered on level parameter.
+   * Method output error level text built only if error level is active.
    * 
-   * @param level the log level to used to filter output.
+   * @param supplier supplier of text to be output.
    */
-  public void unbuffer(String level) {
-
-    if (_level == _LOG_LEVEL._LOG_NONE) {
-
-      if (level.compareTo("debug") == 0) {
-
-        _level = _LOG_LEVEL._LOG_DEBUG;
-
-      } else if (level.compareTo("info") == 0) {
-
-        _level = _LOG_LEVEL._LOG_INFO;
-
-      } else if (level.compareTo("error") == 0) {
-
-        _level = _LOG_LEVEL._LOG_ERROR;
-
-      } else if (level.compareTo("off") == 0) {
-
-        _level = _LOG_LEVEL._LOG_OFF;
-      }
-    }
+  public void error(Supplier<String> supplier) {
 
-    for (Map.Entry<Integer, String> entry : _buffer) {
-
-      if (isSet()) {
-
-        if (isOn(entry.getKey())) {
-
-          error_output(entry.getValue(), true);
-        }
-      }
+    if (logger().isActive(RestAPIClientLoggerImpl._LOG_LEVEL._LOG_ERROR)) {
+      
+      logger().error(_name, " ", supplier.get());
     }
   }
 
   /**
-   * Method returns a boolean to indicate whether the configured log level has
-   * been set.
-   * 
-   * @return boolean true indicating yes, false no.
-   */
-  private boolean isSet() {
-
-    return _level.getNumVal() != _LOG_LEVEL._LOG_NONE.getNumVal();
-  }
-
-  /**
-   * Method returns a boolean to indicate whether the log level in parameter is
-   * active.
+   * Method output info level text.
    * 
-   * @param level value to be tested.
-   * @return boolean true indicating yes, false no.
+   * @param os objects to be output.
    */
-  public boolean isOn(_LOG_LEVEL level) {
+  public void info(Object... os) {
 
-    return isSet() && isOn(level.getNumVal());
+    if (logger().isActive(RestAPIClientLoggerImpl._LOG_LEVEL._LOG_INFO)) {
+      
+      logger().info(_name, " ", logger().concat(os));
+    }
   }
 
   /**
-   * Method returns a boolean to indicate whether the log level in parameter is
-   * active.
+   * Method output info level text built only if info level is active.
    * 
-   * @param level value to be tested.
-   * @return boolean true indicating yes, false no.
+   * @param supplier supplier of text to be output.
    */
-  private boolean isOn(Integer level) {
-
-    return isSet() && _level.getNumVal() >= level;
-  }
+  public void info(Supplier<String> supplier) {
 
-  /**
-   * Method output info level text.
-   * 
-   * @param os objects to be output.
-   */
-  public void info(Object... os) {
-
-    if (!isSet()) {
-
-      _buffer.add(
-          new AbstractMap.SimpleEntry<>(_LOG_LEVEL._LOG_INFO.getNumVal(), 
-              concat(this.prefix(), _info, concat(os))));
-
-    } else if (isOn(_LOG_LEVEL._LOG_INFO)) {
-
-      standard_output(concat(this.prefix(), _info, concat(os)), true);
+    if (logger().isActive(RestAPIClientLoggerImpl._LOG_LEVEL._LOG_INFO)) {
+      
+      logger().info(_name, " ", supplier.get());
     }
   }
 
   /**
-   * Method output info level text.
+   * Method output debug level text.
    * 
    * @param os objects to be output.
    */
   public void debug(Object... os) {
 
-    if (!isSet()) {
-
-      _buffer.add(new AbstractMap.SimpleEntry<>(_LOG_LEVEL._LOG_DEBUG.getNumVal(),
-          concat(this.prefix(), _debug, concat(os))));
-    
-    } else if (isOn(_LOG_LEVEL._LOG_DEBUG)) {
-
-      standard_output(concat(this.prefix(), _debug, concat(os)), true);
+    if (isDebug()) {
+      
+      logger().debug(_name, " ", logger().concat(os));
     }
   }
 
   /**
-   * Method output error level text.
+   * Method output debug level text built only if debug level is active.
    * 
-   * @param os objects to be output.
+   * @param supplier supplier of text to be output.
    */
-  public void error(Object... os) {
+  public void debug(Supplier<String> supplier) {
 
-    if (!isSet()) {
-
-      _buffer.add(new AbstractMap.SimpleEntry<>(_LOG_LEVEL._LOG_ERROR.getNumVal(),
-          concat(this.prefix(), _error, concat(os))));
-
-    } else if (isOn(_LOG_LEVEL._LOG_ERROR)) {
-
-      error_output(concat(this.prefix(), _error, concat(os)), true);
+    if (isDebug()) {
+      
+      logger().debug(_name, " ", supplier.get());
     }
   }
 
   /**
-   * Method that outputs data to stderr.
+   * Method output debug level text such as '[i] start' without boxing or an
+   * argument array when debug level is off.
    * 
-   * @param data to be output.
-   * @param newline flag indicating whether newline should be output.
+   * @param a text before number.
+   * @param b number.
+   * @param c text after number.
    */
-  private void error_output(String data, boolean newline) {
+  public void debug(String a, long b, String c) {
 
-    if (newline) {
-
-      System.err.println(data);
-    } else {
+    if (isDebug()) {
       
-      System.err.print(data);
+      logger().debug(_name, " ", a + b + c);
     }
   }
 
   /**
-   * Method that outputs data to stdout.
+   * Method output debug level text such as '[i] code: n' without boxing or an
+   * argument array when debug level is off.
    * 
-   * @param data data to be output.
-   * @param newline flag indicating whether newline should be output.
+   * @param a text before number.
+   * @param b number.
+   * @param c text after number.
+   * @param d trailing number.
    */
-  private void standard_output(String data, boolean newline) {
+  public void debug(String a, long b, String c, long d) {
 
-    if (newline) {
-      
-      System.out.println(data);
-    } else {
+    if (isDebug()) {
       
-      System.out.print(data);      
+      logger().debug(_name, " ", a + b + c + d);
     }
   }
 
   /**
-   * Method that outputs data to stdout.
+   * Method output debug level text such as '[i] url: x' without boxing or an
+   * argument array when debug level is off.
    * 
-   * @param c char to be output.
-   * @param newline flag indicating whether newline should be output.
+   * @param a text before number.
+   * @param b number.
+   * @param c text after number.
+   * @param d trailing value.
    */
-  public void standard_output(char c, boolean newline) {
+  public void debug(String a, long b, String c, Object d) {
 
-    if (newline) {
-      
-      System.out.println(c);
-    } else {
+    if (isDebug()) {
       
-      System.out.print(c);      
+      logger().debug(_name, " ", a + b + c + d);
     }
   }
 
   /**
-   * Method to collate all strings.
+   * Method returns a boolean to indicate whether debug level is active.
    * 
-   * @param os objects to be output.
-   * @return collated string.
+   * @return boolean true indicating yes, false no.
    */
-  public String concat(Object... os) {
-
-    StringBuilder buffer = new StringBuilder();
-
-    for (Object o : os) {
+  public boolean isDebug() {
 
-      buffer.append(o.toString());
-    }
-
-    return buffer.toString();
+    return logger().isActive(RestAPIClientLoggerImpl._LOG_LEVEL._LOG_DEBUG);
   }
 
   /**
-   * Method to collate all strings.
+   * Method output a raw character.
    * 
-   * @param os strings to be output.
-   * @return collated string.
+   * @param c chracter to be output.
    */
-  public String concat(String... os) {
-
-    StringBuilder buffer = new StringBuilder();
-
-    for (Object o : os) {
-
-      buffer.append(o.toString());
-    }
+  public void info(char c) {
 
-    return buffer.toString();
+    logger().standard_output(c, false);
   }
-
+  
   /**
-   * Method output exception level text.
+   * Method output exception text.
    * 
-   * @param e Exception to be output.
+   * @param e exception to be output.
    */
   public void exception(Exception e) {
 
-    if (!isOn(_LOG_LEVEL._LOG_ERROR)) {
-
-      return;
-    }
-
-    StringBuilder buffer = new StringBuilder();
-
-    buffer.append(this.prefix());
-    buffer.append(_exception);
-    buffer.append(e.toString());
-    buffer.append(" ");
-    buffer.append(getStackTraceAsString(e));
-    buffer.append(isSet());
-
-    if (!isSet()) {
-
-      _buffer.add(new AbstractMap.SimpleEntry<>(_LOG_LEVEL._LOG_ERROR.getNumVal(), buffer.toString()));
+    logger().exception(e);
+  }
 
-      return;
-    }
+  /**
+   * Print all buffered error rows.
+   */
+  public void unbuffer_errors() {
 
-    error_output(buffer.toString(), true);
+    logger().unbuffer("error");
   }
 
   /**
-   * Method output log line prefix.
+   * Print all buffered  rows.
    * 
-   * @return String containing output prefix.
+   * @param level log level to use for output filtering.
    */
-  private String prefix() {
+  public void unbuffer(String level) {
 
-    return new Date().toString();
+    logger().unbuffer(level);
   }
-
+  
   /**
-   * Method returns a String containing stack trace from Throwable parameter t.
+   * Method returns a boolean to indicate whether the log level in parameter is
+   * active.
    * 
-   * @param t {@link java.lang.Throwable} object containing stack trace
-   * @return String containing stack trace of throwable parameter
+   * @param level value to be tested.
+   * @return boolean true indicating yes, false no.
    */
-  private String getStackTraceAsString(Throwable t) {
-
-    StringWriter stringWriter = new StringWriter();
-
-    PrintWriter printWriter = new PrintWriter(stringWriter, true);
-
-    t.printStackTrace(printWriter);
+  public boolean isOn(RestAPIClientLoggerImpl._LOG_LEVEL level) {
 
-    return stringWriter.getBuffer().toString();
+    return logger().isOn(level);
   }
 
   /**
-   * Output level text for error.
+   * Method switches output to the asynchronous ring backend.
+   * 
+   * @param policy full ring policy, or 'off' to keep synchronous output.
    */
-  private String _error = " error: ";
+  public void async(String policy) {
+
+    logger().async(policy);
+  }
 
   /**
-   * Output level text for info.
+   * Method writes outstanding asynchronous output and returns to synchronous
+   * output.
    */
-  private String _info = " info:  ";
+  public void shutdown() {
 
+    logger().shutdown();
+  }
+  
   /**
-   * Output level text for info.
+   * Logger simgleton access function.
+   * 
+   * @return RestAPIClientLoggerImpl logging implementation object.
    */
-  private String _debug = " debug: ";
-
+  private RestAPIClientLoggerImpl logger() {
+    return _impl;
+  }
+  
   /**
-   * Output level text for exception.
+   * Logger name. Normally owning class name.
    */
-  private String _exception = " exception: ";
+  private String _name = null;
 
   /**
-   * Buffer for storage until config is ready.
+   * Logging implementation. Normally the singleton.
    */
-  private List<Map.Entry<Integer, String>> _buffer = new ArrayList<Map.Entry<Integer, String>>();
-
+  private final RestAPIClientLoggerImpl _impl;
+  
   /**
-   * Log level mapped to an enum.
+   * Logger singleton.
    */
-  private _LOG_LEVEL _level = _LOG_LEVEL._LOG_NONE;
-
+  private static RestAPIClientLoggerImpl _logger = new RestAPIClientLoggerImpl();
 }
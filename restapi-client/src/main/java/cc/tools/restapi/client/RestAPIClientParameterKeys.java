@@ -170,51 +170,226 @@ public class RestAPIClientParameterKeys {
    */
   final public static String _KEY_ACTION = "action";
 
+  /**
+   * Parameter constant '{@value _KEY_ADAPTIVE}'.
+   */
+  final public static String _KEY_ADAPTIVE = "adaptive";
+
+  /**
+   * Parameter constant '{@value _KEY_AGENT}'.
+   */
+  final public static String _KEY_AGENT = "agent";
+
+  /**
+   * Parameter constant '{@value _KEY_AGENT_BIND}'.
+   */
+  final public static String _KEY_AGENT_BIND = "agent-bind";
+
+  /**
+   * Parameter constant '{@value _KEY_AGENT_TOKEN}'.
+   */
+  final public static String _KEY_AGENT_TOKEN = "agent-token";
+
+  /**
+   * Parameter constant '{@value _KEY_ASSERT}'.
+   */
+  final public static String _KEY_ASSERT = "assert";
+
   /**
    * HTTP timeout '{@value _KEY_COUNT}' seconds.
    **/
   final public static String _KEY_COUNT = "count";
 
+  /**
+   * Parameter constant '{@value _KEY_BODY}'.
+   */
+  final public static String _KEY_BODY = "body";
+
+  /**
+   * Parameter constant '{@value _KEY_CONCURRENCY}'.
+   */
+  final public static String _KEY_CONCURRENCY = "concurrency";
+
+  /**
+   * Parameter constant '{@value _KEY_CONNECT_TIMEOUT}'.
+   */
+  final public static String _KEY_CONNECT_TIMEOUT = "connect-timeout";
+
   /**
    * Parameter constant '{@value _KEY_ENTITY}'.
    */
   final public static String _KEY_ENTITY = "entity";
 
+  /**
+   * Parameter constant '{@value _KEY_EXECUTOR}'.
+   */
+  final public static String _KEY_EXECUTOR = "executor";
+
+  /**
+   * Parameter constant '{@value _KEY_COORDINATOR}'.
+   */
+  final public static String _KEY_COORDINATOR = "coordinator";
+
+  /**
+   * Parameter constant '{@value _KEY_FIND_MAX}'.
+   */
+  final public static String _KEY_FIND_MAX = "find-max";
+
+  /**
+   * Parameter constant '{@value _KEY_HEDGE}'.
+   */
+  final public static String _KEY_HEDGE = "hedge";
+
   /**
    * Parameter constant '{@value _KEY_HOSTNAME}'.
    */
   final public static String _KEY_HOSTNAME = "hostname";
 
+  /**
+   * Parameter constant '{@value _KEY_HTTP_VERSION}'.
+   */
+  final public static String _KEY_HTTP_VERSION = "http-version";
+
+  /**
+   * Parameter constant '{@value _KEY_INFLIGHT}'.
+   */
+  final public static String _KEY_INFLIGHT = "inflight";
+
   /**
    * Parameter constant '{@value _KEY_LOG}'.
    */
   final public static String _KEY_LOG = "log";
 
+  /**
+   * Parameter constant '{@value _KEY_LOG_ASYNC}'.
+   */
+  final public static String _KEY_LOG_ASYNC = "log-async";
+
   /**
    * Parameter constant '{@value _KEY_PAYLOAD}'.
    */
   final public static String _KEY_PAYLOAD = "payload";
 
+  /**
+   * Parameter constant '{@value _KEY_PAYLOAD_FILE}'.
+   */
+  final public static String _KEY_PAYLOAD_FILE = "payload-file";
+
+  /**
+   * Parameter constant '{@value _KEY_PAYLOAD_ORDER}'.
+   */
+  final public static String _KEY_PAYLOAD_ORDER = "payload-order";
+
+  /**
+   * Parameter constant '{@value _KEY_POOL_SIZE}'.
+   */
+  final public static String _KEY_POOL_SIZE = "pool-size";
+
   /**
    * Parameter constant '{@value _KEY_PORT}'.
    */
   final public static String _KEY_PORT = "port";
 
+  /**
+   * Parameter constant '{@value _KEY_PROFILE}'.
+   */
+  final public static String _KEY_PROFILE = "profile";
+
   /**
    * Parameter constant '{@value _KEY_PROTOCOL}'.
    */
   final public static String _KEY_PROTOCOL = "protocol";
 
+  /**
+   * Parameter constant '{@value _KEY_RATE}'.
+   */
+  final public static String _KEY_RATE = "rate";
+
+  /**
+   * Parameter constant '{@value _KEY_REPORT_INTERVAL}'.
+   */
+  final public static String _KEY_REPORT_INTERVAL = "report-interval";
+
+  /**
+   * Parameter constant '{@value _KEY_RESULTS}'.
+   */
+  final public static String _KEY_RESULTS = "results";
+
+  /**
+   * Parameter constant '{@value _KEY_RETRY}'.
+   */
+  final public static String _KEY_RETRY = "retry";
+
+  /**
+   * Parameter constant '{@value _KEY_RETRY_BACKOFF}'.
+   */
+  final public static String _KEY_RETRY_BACKOFF = "retry-backoff";
+
+  /**
+   * Parameter constant '{@value _KEY_SCENARIO}'.
+   */
+  final public static String _KEY_SCENARIO = "scenario";
+
+  /**
+   * Parameter constant '{@value _KEY_SEQ_START}'.
+   */
+  final public static String _KEY_SEQ_START = "seq-start";
+
+  /**
+   * Parameter constant '{@value _KEY_SLO}'.
+   */
+  final public static String _KEY_SLO = "slo";
+
+  /**
+   * Parameter constant '{@value _KEY_TRIAL}'.
+   */
+  final public static String _KEY_TRIAL = "trial";
+
+  /**
+   * Parameter constant '{@value _KEY_WARMUP}'.
+   */
+  final public static String _KEY_WARMUP = "warmup";
+
+  /**
+   * Parameter constant '{@value _KEY_WORKFLOW}'.
+   */
+  final public static String _KEY_WORKFLOW = "workflow";
+
+  /**
+   * Parameter constant '{@value _KEY_SELF_TEST}'.
+   */
+  final public static String _KEY_SELF_TEST = "self-test";
+
   /**
    * HTTP timeout '{@value _KEY_SLEEP}' seconds.
    **/
   final public static String _KEY_SLEEP = "sleep";
 
+  /**
+   * Parameter constant '{@value _KEY_STUB_DELAY}'.
+   */
+  final public static String _KEY_STUB_DELAY = "stub-delay";
+
+  /**
+   * Parameter constant '{@value _KEY_STUB_SIZE}'.
+   */
+  final public static String _KEY_STUB_SIZE = "stub-size";
+
+  /**
+   * Parameter constant '{@value _KEY_STUB_STATUS}'.
+   */
+  final public static String _KEY_STUB_STATUS = "stub-status";
+
   /**
    * Parameter constant '{@value _KEY_UNIQUE}'.
    */
   final public static String _KEY_UNIQUE = "unique";
 
+  /**
+   * Parameter constant '{@value _KEY_UPLOAD_FILE}'.
+   */
+  final public static String _KEY_UPLOAD_FILE = "upload-file";
+
   /**
    * Parameter constant '{@value _KEY_URL}'.
    */
@@ -233,5 +408,37 @@ public class RestAPIClientParameterKeys {
       _KEY_ACTION,
       _KEY_ENTITY,
       _KEY_UNIQUE,
-      _KEY_LOG };
+      _KEY_LOG,
+      _KEY_CONCURRENCY,
+      _KEY_RATE,
+      _KEY_INFLIGHT,
+      _KEY_HTTP_VERSION,
+      _KEY_EXECUTOR,
+      _KEY_CONNECT_TIMEOUT,
+      _KEY_POOL_SIZE,
+      _KEY_PROFILE,
+      _KEY_BODY,
+      _KEY_PAYLOAD_FILE,
+      _KEY_PAYLOAD_ORDER,
+      _KEY_UPLOAD_FILE,
+      _KEY_LOG_ASYNC,
+      _KEY_RESULTS,
+      _KEY_REPORT_INTERVAL,
+      _KEY_SELF_TEST,
+      _KEY_STUB_DELAY,
+      _KEY_STUB_SIZE,
+      _KEY_STUB_STATUS,
+      _KEY_SCENARIO, _KEY_WORKFLOW,
+      _KEY_ASSERT,
+      _KEY_RETRY,
+      _KEY_RETRY_BACKOFF,
+      _KEY_HEDGE,
+      _KEY_ADAPTIVE,
+      _KEY_FIND_MAX,
+      _KEY_SLO,
+      _KEY_TRIAL,
+      _KEY_WARMUP,
+      _KEY_SEQ_START,
+      _KEY_COORDINATOR,
+      _KEY_AGENT_TOKEN };
 }
@@ -0,0 +1,445 @@
+package cc.tools.restapi.client;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class implements a compiled payload template for -unique. The payload
+ * is parsed once into a list of literal and placeholder segments. Each send
+ * measures the segments and renders them straight into an array of the
+ * payload's exact size, so no regex, String concatenation or copy is done per
+ * request. Placeholders are '${seq}' (message
+ * number), '${rand}' (random non-negative long), '${uuid}' (random UUID) and
+ * '${now}' (epoch milliseconds). A -workflow template may also name a variable
+ * extracted from an earlier response, whose value is supplied per send.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientPayloadTemplate {
+
+  /**
+   * Constructor {@link RestAPIClientPayloadTemplate}.
+   *
+   * @param literals  literal bytes per segment, null for placeholder segments.
+   * @param kinds     placeholder kind per segment.
+   * @param variables variable index per segment, -1 for other segments.
+   */
+  private RestAPIClientPayloadTemplate(byte[][] literals, int[] kinds, int[] variables) {
+
+    _literals = literals;
+
+    _kinds = kinds;
+
+    _variables = variables;
+  }
+
+  /**
+   * Method compiles payload text into a template.
+   *
+   * @param text   payload text.
+   * @param errors errors encountered are added to this list.
+   * @return RestAPIClientPayloadTemplate compiled template, or null if text is
+   *         invalid.
+   */
+  static public RestAPIClientPayloadTemplate compile(String text, List<String> errors) {
+
+    return compile(text, List.of(), errors);
+  }
+
+  /**
+   * Method compiles text that may also name variables into a template.
+   *
+   * @param text      payload text.
+   * @param variables names of variables whose values are supplied per send.
+   * @param errors    errors encountered are added to this list.
+   * @return RestAPIClientPayloadTemplate compiled template, or null if text is
+   *         invalid.
+   */
+  static public RestAPIClientPayloadTemplate compile(String text, List<String> variables, List<String> errors) {
+
+    List<byte[]> literals = new ArrayList<byte[]>();
+
+    List<Integer> kinds = new ArrayList<Integer>();
+
+    List<Integer> indexes = new ArrayList<Integer>();
+
+    int position = 0;
+
+    while (position < text.length()) {
+
+      int open = text.indexOf("${", position);
+
+      if (open < 0) {
+
+        break;
+      }
+
+      int close = text.indexOf('}', open);
+
+      if (close < 0) {
+
+        errors.add("payload placeholder at index " + open + " not closed");
+
+        return null;
+      }
+
+      String name = text.substring(open + 2, close);
+
+      int kind = kind(name);
+
+      int variable = variables.indexOf(name);
+
+      if (kind < 0 && variable >= 0) {
+
+        kind = _VARIABLE;
+      }
+
+      if (kind < 0) {
+
+        errors.add("payload placeholder '" + text.substring(open, close + 1) + "' unknown. use ${seq}, ${rand}, ${uuid} or ${now}"
+            + (variables.isEmpty() ? "" : " or an extracted variable " + variables));
+
+        return null;
+      }
+
+      if (open > position) {
+
+        literals.add(text.substring(position, open).getBytes(StandardCharsets.UTF_8));
+
+        kinds.add(_LITERAL);
+
+        indexes.add(-1);
+      }
+
+      literals.add(null);
+
+      kinds.add(kind);
+
+      indexes.add(kind == _VARIABLE ? variable : -1);
+
+      position = close + 1;
+    }
+
+    if (position < text.length()) {
+
+      literals.add(text.substring(position).getBytes(StandardCharsets.UTF_8));
+
+      kinds.add(_LITERAL);
+
+      indexes.add(-1);
+    }
+
+    return new RestAPIClientPayloadTemplate(literals.toArray(new byte[literals.size()][]),
+        kinds.stream().mapToInt(Integer::intValue).toArray(),
+        indexes.stream().mapToInt(Integer::intValue).toArray());
+  }
+
+  /**
+   * Method renders the payload for a send.
+   *
+   * @param i message number.
+   * @return byte array containing rendered payload.
+   */
+  public byte[] render(long i) {
+
+    return render(i, null);
+  }
+
+  /**
+   * Method renders the payload for a send with variable values.
+   *
+   * @param i      message number.
+   * @param values variable values by index, or null if there are none.
+   * @return byte array containing rendered payload.
+   */
+  public byte[] render(long i, String[] values) {
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    byte[][] segments = values == null ? _literals : _literals.clone();
+
+    long[] numbers = new long[_kinds.length];
+
+    int length = 0;
+
+    for (int s = 0; s < _kinds.length; s++) {
+
+      switch (_kinds[s]) {
+
+      case _LITERAL:
+        length += segments[s].length;
+        break;
+
+      case _SEQ:
+        numbers[s] = i;
+        length += digits(numbers[s]);
+        break;
+
+      case _RAND:
+        numbers[s] = random.nextLong() & Long.MAX_VALUE;
+        length += digits(numbers[s]);
+        break;
+
+      case _UUID:
+        length += _UUID_LENGTH;
+        break;
+
+      case _NOW:
+        numbers[s] = System.currentTimeMillis();
+        length += digits(numbers[s]);
+        break;
+
+      case _VARIABLE:
+        segments[s] = values[_variables[s]].getBytes(StandardCharsets.UTF_8);
+        length += segments[s].length;
+        break;
+      }
+    }
+
+    Buffer buffer = new Buffer(length);
+
+    for (int s = 0; s < _kinds.length; s++) {
+
+      switch (_kinds[s]) {
+
+      case _LITERAL:
+      case _VARIABLE:
+        buffer.append(segments[s]);
+        break;
+
+      case _UUID:
+        buffer.appendUuid(random.nextLong(), random.nextLong());
+        break;
+
+      default:
+        buffer.appendLong(numbers[s]);
+        break;
+      }
+    }
+
+    return buffer._bytes;
+  }
+
+  /**
+   * Method returns number of placeholders in template.
+   *
+   * @return int number of placeholders.
+   */
+  public int placeholders() {
+
+    int count = 0;
+
+    for (int kind : _kinds) {
+
+      if (kind != _LITERAL) {
+
+        count++;
+      }
+    }
+
+    return count;
+  }
+
+  /**
+   * Method returns placeholder kind for a name.
+   *
+   * @param name placeholder name.
+   * @return int kind, or -1 if unknown.
+   */
+  private static int kind(String name) {
+
+    switch (name) {
+
+    case "seq":
+      return _SEQ;
+
+    case "rand":
+      return _RAND;
+
+    case "uuid":
+      return _UUID;
+
+    case "now":
+      return _NOW;
+
+    default:
+      return -1;
+    }
+  }
+
+  /**
+   * Method returns number of decimal digits of a non-negative long.
+   *
+   * @param value value to measure.
+   * @return int number of digits.
+   */
+  private static int digits(long value) {
+
+    int digits = 1;
+
+    for (long v = value; v >= 10; v /= 10) {
+
+      digits++;
+    }
+
+    return digits;
+  }
+
+  /**
+   * This class implements a byte buffer of a measured size filled by one
+   * render.
+   */
+  private static class Buffer {
+
+    /**
+     * Constructor {@link Buffer}.
+     *
+     * @param length payload size in bytes.
+     */
+    Buffer(int length) {
+
+      _bytes = new byte[length];
+    }
+
+    /**
+     * Method appends bytes.
+     *
+     * @param bytes bytes to append.
+     */
+    void append(byte[] bytes) {
+
+      System.arraycopy(bytes, 0, _bytes, _length, bytes.length);
+
+      _length += bytes.length;
+    }
+
+    /**
+     * Method appends decimal digits of a non-negative long.
+     *
+     * @param value value to append.
+     */
+    void appendLong(long value) {
+
+      int digits = digits(value);
+
+      for (int d = digits - 1; d >= 0; d--) {
+
+        _bytes[_length + d] = (byte) ('0' + (value % 10));
+
+        value /= 10;
+      }
+
+      _length += digits;
+    }
+
+    /**
+     * Method appends a version 4 UUID in 8-4-4-4-12 hex form.
+     *
+     * @param high random high bits.
+     * @param low  random low bits.
+     */
+    void appendUuid(long high, long low) {
+
+      high = (high & 0xffffffffffff0fffL) | 0x0000000000004000L;
+
+      low = (low & 0x3fffffffffffffffL) | 0x8000000000000000L;
+
+      appendHex(high >>> 32, 8);
+      _bytes[_length++] = '-';
+      appendHex(high >>> 16, 4);
+      _bytes[_length++] = '-';
+      appendHex(high, 4);
+      _bytes[_length++] = '-';
+      appendHex(low >>> 48, 4);
+      _bytes[_length++] = '-';
+      appendHex(low, 12);
+    }
+
+    /**
+     * Method appends low order hex digits of a value.
+     *
+     * @param value  value to append.
+     * @param digits number of hex digits.
+     */
+    private void appendHex(long value, int digits) {
+
+      for (int d = digits - 1; d >= 0; d--) {
+
+        _bytes[_length + d] = _HEX[(int) (value & 0xf)];
+
+        value >>>= 4;
+      }
+
+      _length += digits;
+    }
+
+    /**
+     * Buffer bytes.
+     */
+    private final byte[] _bytes;
+
+    /**
+     * Number of bytes used.
+     */
+    private int _length = 0;
+  }
+
+  /**
+   * Segment kind for literal bytes.
+   */
+  private static final int _LITERAL = 0;
+
+  /**
+   * Segment kind for message number.
+   */
+  private static final int _SEQ = 1;
+
+  /**
+   * Segment kind for random long.
+   */
+  private static final int _RAND = 2;
+
+  /**
+   * Segment kind for random UUID.
+   */
+  private static final int _UUID = 3;
+
+  /**
+   * Segment kind for epoch milliseconds.
+   */
+  private static final int _NOW = 4;
+
+  /**
+   * Segment kind for a variable value.
+   */
+  private static final int _VARIABLE = 5;
+
+  /**
+   * Length of a rendered UUID '{@value _UUID_LENGTH}'.
+   */
+  private static final int _UUID_LENGTH = 36;
+
+  /**
+   * Hex digits.
+   */
+  private static final byte[] _HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  /**
+   * Literal bytes per segment.
+   */
+  private final byte[][] _literals;
+
+  /**
+   * Kind per segment.
+   */
+  private final int[] _kinds;
+
+  /**
+   * Variable index per segment.
+   */
+  private final int[] _variables;
+}
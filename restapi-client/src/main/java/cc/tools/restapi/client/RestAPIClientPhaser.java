@@ -0,0 +1,88 @@
+package cc.tools.restapi.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class implements a writer/reader phaser. Writers bracket each update
+ * of a shared structure with {@link #writerEnter()} and
+ * {@link #writerExit(long)}, which are single wait-free atomic increments. A
+ * reader swaps the structure writers use and then calls {@link #flipPhase()},
+ * which waits until every writer that may still be using the old structure
+ * has left. Writers never wait for the reader.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientPhaser {
+
+  /**
+   * Constructor {@link RestAPIClientPhaser}.
+   */
+  public RestAPIClientPhaser() {
+  }
+
+  /**
+   * Method marks the start of a write.
+   *
+   * @return long value to be passed to {@link #writerExit(long)}.
+   */
+  public long writerEnter() {
+
+    return _startEpoch.getAndIncrement();
+  }
+
+  /**
+   * Method marks the end of a write.
+   *
+   * @param criticalValue value returned by {@link #writerEnter()}.
+   */
+  public void writerExit(long criticalValue) {
+
+    (criticalValue < 0 ? _oddEndEpoch : _evenEndEpoch).getAndIncrement();
+  }
+
+  /**
+   * Method waits until every write started before the call has ended. Must be
+   * called by one reader at a time, after it has swapped the structure written
+   * to.
+   */
+  public synchronized void flipPhase() {
+
+    boolean nextPhaseIsEven = _startEpoch.get() < 0;
+
+    long initialStartValue = nextPhaseIsEven ? 0 : Long.MIN_VALUE;
+
+    (nextPhaseIsEven ? _evenEndEpoch : _oddEndEpoch).set(initialStartValue);
+
+    long startValueAtFlip = _startEpoch.getAndSet(initialStartValue);
+
+    AtomicLong endEpoch = nextPhaseIsEven ? _oddEndEpoch : _evenEndEpoch;
+
+    while (endEpoch.get() != startValueAtFlip) {
+
+      LockSupport.parkNanos(_PARK_NANOS);
+    }
+  }
+
+  /**
+   * Park time while waiting for writers '{@value _PARK_NANOS}' ns.
+   */
+  private static final long _PARK_NANOS = 10000;
+
+  /**
+   * Writes started. Negative in odd phases.
+   */
+  private final AtomicLong _startEpoch = new AtomicLong(0);
+
+  /**
+   * Writes ended that started in an even phase.
+   */
+  private final AtomicLong _evenEndEpoch = new AtomicLong(0);
+
+  /**
+   * Writes ended that started in an odd phase.
+   */
+  private final AtomicLong _oddEndEpoch = new AtomicLong(Long.MIN_VALUE);
+}
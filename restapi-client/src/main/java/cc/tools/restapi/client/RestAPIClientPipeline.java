@@ -0,0 +1,222 @@
+package cc.tools.restapi.client;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * This class implements pipelined sending. Sends are started without waiting
+ * for earlier responses and completions are handled on callbacks. A semaphore
+ * caps the number of outstanding sends at -inflight or, with -adaptive, a
+ * {@link RestAPIClientLimiter} adjusts the cap from observed latency.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientPipeline {
+
+  /**
+   * Constructor {@link RestAPIClientPipeline}.
+   *
+   * @param config   configuration object.
+   * @param actionI  RestAPIClientActionI interface object used to peform action.
+   * @param progress progress object updated on each completed send.
+   * @param stats    stats object receiving latency.
+   */
+  public RestAPIClientPipeline(RestAPIClientConfig config, RestAPIClientActionI actionI,
+      RestAPIClientProgress progress, RestAPIClientStats stats) {
+
+    _actionI = actionI;
+
+    _progress = progress;
+
+    _stats = stats;
+
+    _count = config.getCount();
+
+    _inflight = config.getInflight();
+
+    _window = new Semaphore(_inflight);
+    
+    _limiter = config.getLimiter();
+  }
+
+  /**
+   * Method starts sends until -count is reached or a send fails and waits for
+   * all outstanding sends.
+   *
+   * @return boolean value set to true for success, false otherwise.
+   */
+  public boolean run() {
+
+    try {
+
+      for (long i = 1; !_stop.get() && (_count == 0 || i <= _count); i++) {
+
+        acquire();
+
+        if (_stop.get()) {
+
+          release(null);
+
+          break;
+        }
+
+        send(i);
+      }
+
+      if (_limiter != null) {
+
+        _limiter.drain();
+
+      } else {
+
+        _window.acquire(_inflight);
+      }
+
+    } catch (InterruptedException e) {
+
+      _logger.exception(e);
+
+      Thread.currentThread().interrupt();
+
+      return false;
+    }
+
+    return !_failed.get();
+  }
+
+  /**
+   * Method starts one send. The window permit is released when it completes,
+   * even if recording the result fails.
+   *
+   * @param i message number.
+   */
+  private void send(long i) {
+
+    _logger.debug("[",
+        i,
+        "] start");
+
+    long start = System.nanoTime();
+
+    RestAPIClientResult result = new RestAPIClientResult().begin(i, start, start, 0);
+
+    _actionI.sendAsync(i, result).whenComplete((ok, t) -> {
+
+      try {
+
+        result.end(System.nanoTime());
+
+        if (t != null) {
+
+          result.error(t);
+        }
+
+        _stats.record(result);
+
+        if (ok != null && ok) {
+
+          _progress.update("ok");
+
+        } else {
+
+          _logger.error(_actionI.action() + " to server failed");
+
+          _failed.set(true);
+
+          _stop.set(true);
+        }
+
+      } finally {
+
+        release(result);
+      }
+    });
+  }
+
+  /**
+   * Method waits for a window permit, or for the adaptive limit to allow one
+   * more send.
+   *
+   * @throws InterruptedException if interrupted while waiting.
+   */
+  private void acquire() throws InterruptedException {
+
+    if (_limiter != null) {
+
+      _limiter.acquire();
+
+    } else {
+
+      _window.acquire();
+    }
+  }
+
+  /**
+   * Method returns a window permit.
+   *
+   * @param result completed send, or null if the permit was not used.
+   */
+  private void release(RestAPIClientResult result) {
+
+    if (_limiter != null) {
+
+      _limiter.release(result);
+
+    } else {
+
+      _window.release();
+    }
+  }
+
+  /**
+   * Action used to send to server.
+   */
+  private final RestAPIClientActionI _actionI;
+
+  /**
+   * Progress object updated on each completed send.
+   */
+  private final RestAPIClientProgress _progress;
+
+  /**
+   * Stats object receiving latency.
+   */
+  private final RestAPIClientStats _stats;
+
+  /**
+   * Target number of sends. 0 indicates continuous.
+   */
+  private final long _count;
+
+  /**
+   * Maximum number of outstanding sends.
+   */
+  private final int _inflight;
+
+  /**
+   * Window of permits for outstanding sends.
+   */
+  private final Semaphore _window;
+
+  /**
+   * Adaptive limit of outstanding sends for -adaptive, or null.
+   */
+  private final RestAPIClientLimiter _limiter;
+
+  /**
+   * Flag telling pipeline to stop starting sends.
+   */
+  private final AtomicBoolean _stop = new AtomicBoolean();
+
+  /**
+   * Flag indicating a send failed.
+   */
+  private final AtomicBoolean _failed = new AtomicBoolean();
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientPipeline.class.getName());
+}
@@ -0,0 +1,311 @@
+package cc.tools.restapi.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This class implements a compiled load profile. A profile such as
+ * '30s:0-&gt;500rps,5m:500rps,30s:500-&gt;0rps' is a list of stages, each
+ * holding or linearly ramping the send rate for a duration. The profile is
+ * compiled once into a schedule that returns the intended start time of every
+ * send.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientProfile {
+
+  /**
+   * Constructor {@link RestAPIClientProfile}.
+   *
+   * @param names     stage descriptions.
+   * @param durations stage durations in nanoseconds.
+   * @param from      stage start rates per second.
+   * @param to        stage end rates per second.
+   */
+  private RestAPIClientProfile(String[] names, double[] durations, double[] from, double[] to) {
+
+    int stages = names.length;
+
+    _names = names;
+
+    _durations = durations;
+
+    _from = from;
+
+    _to = to;
+
+    _starts = new double[stages];
+
+    _cumulative = new double[stages + 1];
+
+    for (int s = 0; s < stages; s++) {
+
+      if (s > 0) {
+
+        _starts[s] = _starts[s - 1] + _durations[s - 1];
+      }
+
+      _cumulative[s + 1] = _cumulative[s] + (_from[s] + _to[s]) / 2.0 * _durations[s] / _NANOS_PER_SECOND;
+    }
+  }
+
+  /**
+   * Method compiles profile text into a schedule.
+   *
+   * @param text   profile text.
+   * @param errors errors encountered are added to this list.
+   * @return RestAPIClientProfile compiled profile, or null if text is invalid.
+   */
+  static public RestAPIClientProfile compile(String text, List<String> errors) {
+
+    List<String> names = new ArrayList<String>();
+
+    List<double[]> stages = new ArrayList<double[]>();
+
+    for (String token : text.split(",")) {
+
+      String stage = token.trim().toLowerCase();
+
+      Matcher matcher = _STAGE_PATTERN.matcher(stage);
+
+      if (!matcher.matches()) {
+
+        errors.add("profile stage '" + stage + "' invalid. expected <duration>:<rate>rps or <duration>:<from>-><to>rps");
+
+        return null;
+      }
+
+      double duration = Double.parseDouble(matcher.group(1)) * unitNanos(matcher.group(2));
+
+      double from = Double.parseDouble(matcher.group(3));
+
+      double to = matcher.group(4) == null ? from : Double.parseDouble(matcher.group(4));
+
+      if (duration <= 0) {
+
+        errors.add("profile stage '" + stage + "' has no duration");
+
+        return null;
+      }
+
+      names.add(stage);
+
+      stages.add(new double[] { duration, from, to });
+    }
+
+    int count = stages.size();
+
+    double[] durations = new double[count];
+
+    double[] from = new double[count];
+
+    double[] to = new double[count];
+
+    for (int s = 0; s < count; s++) {
+
+      durations[s] = stages.get(s)[0];
+
+      from[s] = stages.get(s)[1];
+
+      to[s] = stages.get(s)[2];
+    }
+
+    return new RestAPIClientProfile(names.toArray(new String[count]), durations, from, to);
+  }
+
+  /**
+   * Method returns a single stage profile sending at a constant rate forever.
+   *
+   * @param rate sends per second.
+   * @return RestAPIClientProfile constant profile.
+   */
+  static public RestAPIClientProfile constant(double rate) {
+
+    return new RestAPIClientProfile(new String[] { rate + "rps" }, new double[] { Double.POSITIVE_INFINITY },
+        new double[] { rate }, new double[] { rate });
+  }
+
+  /**
+   * Method returns intended start time of a send.
+   *
+   * @param k zero based send number.
+   * @return long nanoseconds from start of profile, or -1 once the profile has
+   *         ended.
+   */
+  public long offset(long k) {
+
+    int s = stage(k);
+
+    if (s < 0) {
+
+      return -1;
+    }
+
+    double n = k - _cumulative[s];
+
+    double from = _from[s] / _NANOS_PER_SECOND;
+
+    double to = _to[s] / _NANOS_PER_SECOND;
+
+    double t;
+
+    if (from == to) {
+
+      t = n / from;
+
+    } else {
+
+      // sends by time t in a ramp: n = from * t + (to - from) * t^2 / (2 * duration)
+      double a = (to - from) / (2.0 * _durations[s]);
+
+      t = (-from + Math.sqrt(Math.max(0.0, from * from + 4.0 * a * n))) / (2.0 * a);
+    }
+
+    return (long) (_starts[s] + t);
+  }
+
+  /**
+   * Method returns stage holding a send.
+   *
+   * @param k zero based send number.
+   * @return int stage index, or -1 once the profile has ended.
+   */
+  public int stage(long k) {
+
+    for (int s = 0; s < _names.length; s++) {
+
+      if (k < _cumulative[s + 1]) {
+
+        return s;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Method returns number of stages.
+   *
+   * @return int number of stages.
+   */
+  public int stages() {
+
+    return _names.length;
+  }
+
+  /**
+   * Method returns stage description.
+   *
+   * @param s stage index.
+   * @return String stage description.
+   */
+  public String name(int s) {
+
+    return _names[s];
+  }
+
+  /**
+   * Method returns total number of sends in the profile.
+   *
+   * @return long number of sends, or 0 if the profile does not end.
+   */
+  public long count() {
+
+    double total = _cumulative[_names.length];
+
+    return Double.isInfinite(total) ? 0 : (long) Math.ceil(total);
+  }
+
+  /**
+   * Method parses a duration such as '500ms', '1s', '5m' or '1h'. A number
+   * without unit is taken as milliseconds.
+   *
+   * @param text duration text.
+   * @return long duration in nanoseconds, or -1 if text is invalid.
+   */
+  static public long durationNanos(String text) {
+
+    Matcher matcher = _DURATION_PATTERN.matcher(text.trim());
+
+    if (!matcher.matches()) {
+
+      return -1;
+    }
+
+    return (long) (Double.parseDouble(matcher.group(1)) * unitNanos(matcher.group(2) == null ? "ms" : matcher.group(2)));
+  }
+
+  /**
+   * Method returns nanoseconds per duration unit.
+   *
+   * @param unit one of 'ms', 's', 'm', 'h'.
+   * @return double nanoseconds per unit.
+   */
+  private static double unitNanos(String unit) {
+
+    switch (unit) {
+
+    case "ms":
+      return 1.0e6;
+
+    case "m":
+      return 60.0 * _NANOS_PER_SECOND;
+
+    case "h":
+      return 3600.0 * _NANOS_PER_SECOND;
+
+    default:
+      return _NANOS_PER_SECOND;
+    }
+  }
+
+  /**
+   * Nanoseconds per second.
+   */
+  private static final double _NANOS_PER_SECOND = 1.0e9;
+
+  /**
+   * Pattern of one stage.
+   */
+  private static final Pattern _STAGE_PATTERN = Pattern
+      .compile("^([0-9]+(?:\\.[0-9]+)?)(ms|s|m|h):([0-9]+(?:\\.[0-9]+)?)(?:rps)?(?:->([0-9]+(?:\\.[0-9]+)?))?rps$");
+
+  /**
+   * Pattern of a duration.
+   */
+  private static final Pattern _DURATION_PATTERN = Pattern.compile("^([0-9]+(?:\\.[0-9]+)?)(ms|s|m|h)?$");
+
+  /**
+   * Stage descriptions.
+   */
+  private final String[] _names;
+
+  /**
+   * Stage durations in nanoseconds.
+   */
+  private final double[] _durations;
+
+  /**
+   * Stage start rates per second.
+   */
+  private final double[] _from;
+
+  /**
+   * Stage end rates per second.
+   */
+  private final double[] _to;
+
+  /**
+   * Stage start times in nanoseconds from start of profile.
+   */
+  private final double[] _starts;
+
+  /**
+   * Number of sends before each stage. Last entry is the profile total.
+   */
+  private final double[] _cumulative;
+}
@@ -0,0 +1,94 @@
+package cc.tools.restapi.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class tracks and reports progress of sends to the server. Sends are
+ * counted in completion order so output stays correct when concurrent sends
+ * complete out of sequence.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientProgress {
+
+  /**
+   * Constructor {@link RestAPIClientProgress}.
+   *
+   * @param count target number of sends. 0 indicates continuous.
+   * @param dots flag indicating whether a '.' is printed per send at info level.
+   */
+  public RestAPIClientProgress(long count, boolean dots) {
+
+    _count = count;
+    
+    _dots = dots;
+  }
+
+  /**
+   * Method records a completed send and prints progress.
+   *
+   * @param status output string.
+   * @return long completion number of this send.
+   */
+  public long update(String status) {
+
+    long done = _completed.incrementAndGet();
+
+    if (_logger.isDebug()) {
+
+      if (_count == 0) {
+
+        _logger.debug("[",
+            done,
+            "] sent ",
+            status);
+
+      } else {
+
+        _logger.debug("[",
+            done,
+            "/",
+            _count,
+            "] sent ",
+            status);
+      }
+    } else if (_dots) {
+
+      _logger.info('.');
+    }
+
+    return done;
+  }
+
+  /**
+   * Method returns number of completed sends.
+   *
+   * @return long number of completed sends.
+   */
+  public long completed() {
+
+    return _completed.get();
+  }
+
+  /**
+   * Target number of sends. 0 indicates continuous.
+   */
+  private final long _count;
+
+  /**
+   * Flag indicating whether a '.' is printed per send.
+   */
+  private final boolean _dots;
+
+  /**
+   * Number of sends completed so far.
+   */
+  private final AtomicLong _completed = new AtomicLong();
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientProgress.class.getName());
+}
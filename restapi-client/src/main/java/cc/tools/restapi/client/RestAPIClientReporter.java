@@ -0,0 +1,234 @@
+package cc.tools.restapi.client;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class implements the -report-interval reporter. Sends are recorded into
+ * an active interval histogram and error counter. Once per interval the
+ * reporter thread swaps in an empty pair, uses {@link RestAPIClientPhaser} to
+ * wait until no send is still writing to the old pair, and prints throughput,
+ * errors, p50, p99 and max for that interval only. Recording never waits for
+ * the reporter.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientReporter {
+
+  /**
+   * Constructor {@link RestAPIClientReporter}.
+   *
+   * @param intervalNanos report interval in nanoseconds.
+   */
+  public RestAPIClientReporter(long intervalNanos) {
+
+    _intervalNanos = intervalNanos;
+  }
+
+  /**
+   * Method records a completed send into the current interval.
+   *
+   * @param result completed send.
+   */
+  public void record(RestAPIClientResult result) {
+
+    long critical = _phaser.writerEnter();
+
+    try {
+
+      Interval active = _active;
+
+      if (result.ok()) {
+
+        active._latency.record(result.latency());
+
+      } else {
+
+        active._errors.increment();
+      }
+
+    } finally {
+
+      _phaser.writerExit(critical);
+    }
+  }
+
+  /**
+   * Method starts the reporter thread.
+   */
+  public void start() {
+
+    _start = System.nanoTime();
+
+    _last = _start;
+
+    _thread = Thread.ofPlatform().daemon().name("restapi-client-reporter").start(this::run);
+  }
+
+  /**
+   * Method stops the reporter thread and reports the final partial interval.
+   */
+  public void stop() {
+
+    _stop = true;
+
+    LockSupport.unpark(_thread);
+
+    try {
+
+      _thread.join();
+
+    } catch (InterruptedException e) {
+
+      Thread.currentThread().interrupt();
+    }
+
+    report();
+  }
+
+  /**
+   * Method run by the reporter thread.
+   */
+  private void run() {
+
+    long next = _start + _intervalNanos;
+
+    while (!_stop) {
+
+      long remaining = next - System.nanoTime();
+
+      if (remaining > 0) {
+
+        LockSupport.parkNanos(remaining);
+
+        continue;
+      }
+
+      report();
+
+      next += _intervalNanos;
+    }
+  }
+
+  /**
+   * Method swaps the active interval and prints the one just ended.
+   */
+  private void report() {
+
+    Interval ended = _active;
+
+    _spare.reset();
+
+    _active = _spare;
+
+    _phaser.flipPhase();
+
+    _spare = ended;
+
+    long now = System.nanoTime();
+
+    double seconds = (now - _last) / 1.0e9;
+
+    _last = now;
+
+    long count = ended._latency.count();
+
+    long errors = ended._errors.sum();
+
+    if (count == 0 && errors == 0) {
+
+      _logger.info("interval ",
+          String.format("%.1f", (now - _start) / 1.0e9),
+          "s: 0 req/s");
+
+      return;
+    }
+
+    _logger.info("interval ",
+        String.format("%.1f", (now - _start) / 1.0e9),
+        "s: ",
+        String.format("%.1f", (count + errors) / seconds),
+        " req/s errors=",
+        errors,
+        " p50=",
+        RestAPIClientStats.millis(ended._latency.percentile(50.0)),
+        " p99=",
+        RestAPIClientStats.millis(ended._latency.percentile(99.0)),
+        " max=",
+        RestAPIClientStats.millis(ended._latency.max()),
+        " ms");
+  }
+
+  /**
+   * This class holds the values recorded in one interval.
+   */
+  private static class Interval {
+
+    /**
+     * Method clears the interval for reuse.
+     */
+    void reset() {
+
+      _latency.reset();
+
+      _errors.reset();
+    }
+
+    /**
+     * Latency of successful sends.
+     */
+    private final RestAPIClientHistogram _latency = new RestAPIClientHistogram();
+
+    /**
+     * Number of failed sends.
+     */
+    private final LongAdder _errors = new LongAdder();
+  }
+
+  /**
+   * Report interval in nanoseconds.
+   */
+  private final long _intervalNanos;
+
+  /**
+   * Phaser guarding swaps of {@link #_active}.
+   */
+  private final RestAPIClientPhaser _phaser = new RestAPIClientPhaser();
+
+  /**
+   * Interval sends are recorded into.
+   */
+  private volatile Interval _active = new Interval();
+
+  /**
+   * Interval swapped in at the next report. Only used by the reporter.
+   */
+  private Interval _spare = new Interval();
+
+  /**
+   * Start time in {@link System#nanoTime()} units.
+   */
+  private long _start;
+
+  /**
+   * Time of last report in {@link System#nanoTime()} units.
+   */
+  private long _last;
+
+  /**
+   * Reporter thread.
+   */
+  private Thread _thread;
+
+  /**
+   * Flag telling reporter thread to stop.
+   */
+  private volatile boolean _stop = false;
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientReporter.class.getName());
+}
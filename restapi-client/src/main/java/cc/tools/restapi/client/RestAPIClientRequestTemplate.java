@@ -0,0 +1,246 @@
+package cc.tools.restapi.client;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class implements a request template. The URI, headers and pre-encoded
+ * body of an action are built once and the resulting immutable
+ * {@link java.net.http.HttpRequest} is reused for every send. Sends whose body
+ * changes reuse the URI and headers and supply only the body. A url holding
+ * payload placeholders, e.g. from a -scenario entity, or -workflow variables is
+ * rendered per send instead. Variable values are percent-encoded, so a value
+ * holding '/', '?', '#', spaces or non-ascii text stays one path segment.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientRequestTemplate {
+
+  /**
+   * Constructor {@link RestAPIClientRequestTemplate}.
+   *
+   * @param method http method name.
+   * @param url    server url to call.
+   * @param body   pre-encoded body, or null for no body.
+   * @param agent  User-Agent header value.
+   */
+  public RestAPIClientRequestTemplate(String method, String url, byte[] body, String agent) {
+
+    this(method, url, body, agent, List.of());
+  }
+
+  /**
+   * Constructor {@link RestAPIClientRequestTemplate} for a url that may name
+   * variables.
+   *
+   * @param method    http method name.
+   * @param url       server url to call.
+   * @param body      pre-encoded body, or null for no body.
+   * @param agent     User-Agent header value.
+   * @param variables names of variables whose values are supplied per send.
+   */
+  public RestAPIClientRequestTemplate(String method, String url, byte[] body, String agent, List<String> variables) {
+
+    _method = method;
+
+    _url = url;
+
+    _body = body;
+
+    _headers = new String[] { "User-Agent", agent, "Content-Type", "application/json" };
+
+    if (url.contains("${")) {
+
+      List<String> errors = new ArrayList<String>();
+
+      _urlTemplate = RestAPIClientPayloadTemplate.compile(url, variables, errors);
+
+      if (_urlTemplate == null) {
+
+        throw new IllegalArgumentException("url '" + url + "' invalid - " + errors);
+      }
+
+      _uri = null;
+
+      _request = null;
+
+      return;
+    }
+
+    _urlTemplate = null;
+
+    _uri = URI.create(url);
+
+    _request = build(_uri, publisher());
+  }
+
+  /**
+   * Method returns the request for a send. Without url placeholders this is
+   * the prebuilt request.
+   *
+   * @param i message number.
+   * @return HttpRequest request.
+   */
+  public HttpRequest request(long i) {
+
+    if (_urlTemplate == null) {
+
+      return _request;
+    }
+
+    return build(uri(i, null), publisher());
+  }
+
+  /**
+   * Method returns a request with the template URI and headers and the body
+   * supplied.
+   *
+   * @param i    message number.
+   * @param body body publisher for this send.
+   * @return HttpRequest new request.
+   */
+  public HttpRequest request(long i, HttpRequest.BodyPublisher body) {
+
+    return build(uri(i, null), body);
+  }
+
+  /**
+   * Method returns a request with the url rendered with variable values and the
+   * body supplied.
+   *
+   * @param i      message number.
+   * @param values variable values by index.
+   * @param body   body publisher for this send.
+   * @return HttpRequest new request.
+   */
+  public HttpRequest request(long i, String[] values, HttpRequest.BodyPublisher body) {
+
+    return build(uri(i, values), body);
+  }
+
+  /**
+   * Method returns the URI for a send.
+   *
+   * @param i      message number.
+   * @param values variable values by index, or null if there are none.
+   * @return URI server URI.
+   */
+  private URI uri(long i, String[] values) {
+
+    if (_urlTemplate == null) {
+
+      return _uri;
+    }
+
+    return URI.create(new String(_urlTemplate.render(i, escape(values)), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Method percent-encodes variable values for a url path.
+   *
+   * @param values variable values by index, or null if there are none.
+   * @return String[] encoded values, or null if there are none.
+   */
+  static String[] escape(String[] values) {
+
+    if (values == null) {
+
+      return null;
+    }
+
+    String[] escaped = new String[values.length];
+
+    for (int k = 0; k < values.length; k++) {
+
+      if (values[k] != null) {
+
+        escaped[k] = URLEncoder.encode(values[k], StandardCharsets.UTF_8).replace("+", "%20");
+      }
+    }
+
+    return escaped;
+  }
+
+  /**
+   * Method returns a publisher of the pre-encoded body.
+   *
+   * @return HttpRequest.BodyPublisher body publisher.
+   */
+  private HttpRequest.BodyPublisher publisher() {
+
+    return _body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofByteArray(_body);
+  }
+
+  /**
+   * Method builds a request.
+   *
+   * @param uri  server URI.
+   * @param body body publisher.
+   * @return HttpRequest new request.
+   */
+  private HttpRequest build(URI uri, HttpRequest.BodyPublisher body) {
+
+    return HttpRequest.newBuilder(uri).method(_method, body).headers(_headers).build();
+  }
+
+  /**
+   * Method returns the template url.
+   *
+   * @return String server url.
+   */
+  public String url() {
+
+    return _url;
+  }
+
+  /**
+   * Method returns length of the pre-encoded body.
+   *
+   * @return int number of body bytes, 0 if there is no body.
+   */
+  public int bodyLength() {
+
+    return _body == null ? 0 : _body.length;
+  }
+
+  /**
+   * Http method name.
+   */
+  private final String _method;
+
+  /**
+   * Server url.
+   */
+  private final String _url;
+
+  /**
+   * Server URI parsed from url, or null if the url has placeholders.
+   */
+  private final URI _uri;
+
+  /**
+   * Url rendered per send, or null if the url has no placeholders.
+   */
+  private final RestAPIClientPayloadTemplate _urlTemplate;
+
+  /**
+   * Pre-encoded body, or null.
+   */
+  private final byte[] _body;
+
+  /**
+   * Header name/value pairs.
+   */
+  private final String[] _headers;
+
+  /**
+   * Prebuilt request, or null if the url has placeholders.
+   */
+  private final HttpRequest _request;
+}
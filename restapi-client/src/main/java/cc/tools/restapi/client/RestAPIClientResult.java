@@ -0,0 +1,380 @@
+package cc.tools.restapi.client;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpTimeoutException;
+
+/**
+ * This class holds the outcome of one send: message number, intended and
+ * actual start time, latency, http status, bytes in and out and an error
+ * class. Engines fill in the timing and actions fill in the rest. A closed
+ * loop worker reuses one object for all its sends.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientResult {
+
+  /**
+   * Constructor {@link RestAPIClientResult}.
+   */
+  public RestAPIClientResult() {
+  }
+
+  /**
+   * Method starts a new send, clearing previous values.
+   *
+   * @param seq      message number.
+   * @param intended intended start time in {@link System#nanoTime()} units.
+   * @param start    actual start time in {@link System#nanoTime()} units.
+   * @param stage    profile stage index.
+   * @return RestAPIClientResult this object.
+   */
+  public RestAPIClientResult begin(long seq, long intended, long start, int stage) {
+
+    _seq = seq;
+
+    _intended = intended;
+
+    _start = start;
+
+    _stage = stage;
+
+    _endpoint = -1;
+
+    _latency = 0;
+
+    _status = -1;
+
+    _bytesIn = -1;
+
+    _bytesOut = 0;
+
+    _error = _ERROR_NONE;
+
+    return this;
+  }
+
+  /**
+   * Method ends the send, setting latency from the intended start time.
+   *
+   * @param end end time in {@link System#nanoTime()} units.
+   */
+  public void end(long end) {
+
+    _latency = end - _intended;
+  }
+
+  /**
+   * Method records the request body length. The lengths of the requests of a
+   * -workflow send add up.
+   *
+   * @param request request sent.
+   */
+  public void request(HttpRequest request) {
+
+    _bytesOut += Math.max(0, request.bodyPublisher().map(HttpRequest.BodyPublisher::contentLength).orElse(0L));
+  }
+
+  /**
+   * Method records http status and response body length. The lengths of the
+   * responses of a -workflow send add up and the last status is kept.
+   *
+   * @param status  http status.
+   * @param bytesIn response body bytes, -1 if unknown.
+   */
+  public void response(int status, long bytesIn) {
+
+    _status = status;
+
+    if (bytesIn >= 0) {
+
+      _bytesIn = Math.max(0, _bytesIn) + bytesIn;
+    }
+
+    if (!success(status)) {
+
+      _error = _ERROR_STATUS;
+    }
+  }
+
+  /**
+   * Method records the class of an exception ending the send.
+   *
+   * @param t exception.
+   */
+  public void error(Throwable t) {
+
+    if (t instanceof HttpConnectTimeoutException || t instanceof ConnectException) {
+
+      _error = _ERROR_CONNECT;
+
+    } else if (t instanceof HttpTimeoutException) {
+
+      _error = _ERROR_TIMEOUT;
+
+    } else if (t instanceof IOException) {
+
+      _error = _ERROR_IO;
+
+    } else {
+
+      _error = _ERROR_OTHER;
+    }
+  }
+
+  /**
+   * Method clears the status and error of a failed attempt before it is
+   * retried. Byte counts keep adding up.
+   */
+  public void retry() {
+
+    _status = -1;
+
+    _error = _ERROR_NONE;
+  }
+
+  /**
+   * Method records a failed -assert.
+   */
+  public void assertion() {
+
+    _error = _ERROR_ASSERT;
+  }
+
+  /**
+   * Method returns whether the send succeeded.
+   *
+   * @return boolean true if no error was recorded and status is 2xx.
+   */
+  public boolean ok() {
+
+    return _error == _ERROR_NONE && success(_status);
+  }
+
+  /**
+   * Method returns whether an http status counts as success.
+   *
+   * @param status http status.
+   * @return boolean true for any 2xx status.
+   */
+  static public boolean success(int status) {
+
+    return status >= HttpURLConnection.HTTP_OK && status < HttpURLConnection.HTTP_MULT_CHOICE;
+  }
+
+  /**
+   * Method returns message number.
+   *
+   * @return long message number.
+   */
+  public long seq() {
+
+    return _seq;
+  }
+
+  /**
+   * Method returns intended start time.
+   *
+   * @return long time in {@link System#nanoTime()} units.
+   */
+  public long intended() {
+
+    return _intended;
+  }
+
+  /**
+   * Method returns actual start time.
+   *
+   * @return long time in {@link System#nanoTime()} units.
+   */
+  public long start() {
+
+    return _start;
+  }
+
+  /**
+   * Method returns profile stage index.
+   *
+   * @return int stage index.
+   */
+  public int stage() {
+
+    return _stage;
+  }
+
+  /**
+   * Method sets the -scenario endpoint the send went to.
+   *
+   * @param endpoint endpoint index.
+   */
+  public void endpoint(int endpoint) {
+
+    _endpoint = endpoint;
+  }
+
+  /**
+   * Method returns the -scenario endpoint the send went to.
+   *
+   * @return int endpoint index, or -1 without -scenario.
+   */
+  public int endpoint() {
+
+    return _endpoint;
+  }
+
+  /**
+   * Method returns latency measured from the intended start time.
+   *
+   * @return long latency in nanoseconds.
+   */
+  public long latency() {
+
+    return _latency;
+  }
+
+  /**
+   * Method returns http status.
+   *
+   * @return int http status, -1 if no response.
+   */
+  public int status() {
+
+    return _status;
+  }
+
+  /**
+   * Method returns response body length.
+   *
+   * @return long bytes in, -1 if unknown.
+   */
+  public long bytesIn() {
+
+    return _bytesIn;
+  }
+
+  /**
+   * Method returns request body length.
+   *
+   * @return long bytes out.
+   */
+  public long bytesOut() {
+
+    return _bytesOut;
+  }
+
+  /**
+   * Method returns error class.
+   *
+   * @return int one of the _ERROR_ constants.
+   */
+  public int error() {
+
+    return _error;
+  }
+
+  /**
+   * Method returns name of an error class.
+   *
+   * @param error error class.
+   * @return String error class name.
+   */
+  static public String errorName(int error) {
+
+    return error >= 0 && error < _ERROR_NAMES.length ? _ERROR_NAMES[error] : "unknown";
+  }
+
+  /**
+   * Error class for no error '{@value _ERROR_NONE}'.
+   */
+  static public final int _ERROR_NONE = 0;
+
+  /**
+   * Error class for unexpected http status '{@value _ERROR_STATUS}'.
+   */
+  static public final int _ERROR_STATUS = 1;
+
+  /**
+   * Error class for connect failure or timeout '{@value _ERROR_CONNECT}'.
+   */
+  static public final int _ERROR_CONNECT = 2;
+
+  /**
+   * Error class for request timeout '{@value _ERROR_TIMEOUT}'.
+   */
+  static public final int _ERROR_TIMEOUT = 3;
+
+  /**
+   * Error class for other i/o failure '{@value _ERROR_IO}'.
+   */
+  static public final int _ERROR_IO = 4;
+
+  /**
+   * Error class for any other failure '{@value _ERROR_OTHER}'.
+   */
+  static public final int _ERROR_OTHER = 5;
+
+  /**
+   * Error class for failed response assertion '{@value _ERROR_ASSERT}'.
+   */
+  static public final int _ERROR_ASSERT = 6;
+
+  /**
+   * Error class names by error class.
+   */
+  private static final String[] _ERROR_NAMES = { "none", "status", "connect", "timeout", "io", "other", "assert" };
+
+  /**
+   * Message number.
+   */
+  private long _seq;
+
+  /**
+   * Intended start time.
+   */
+  private long _intended;
+
+  /**
+   * Actual start time.
+   */
+  private long _start;
+
+  /**
+   * Profile stage index.
+   */
+  private int _stage;
+
+  /**
+   * Scenario endpoint index, or -1.
+   */
+  private int _endpoint;
+
+  /**
+   * Latency from intended start.
+   */
+  private long _latency;
+
+  /**
+   * Http status.
+   */
+  private int _status;
+
+  /**
+   * Response body length.
+   */
+  private long _bytesIn;
+
+  /**
+   * Request body length.
+   */
+  private long _bytesOut;
+
+  /**
+   * Error class.
+   */
+  private int _error;
+}
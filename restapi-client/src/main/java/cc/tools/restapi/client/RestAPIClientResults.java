@@ -0,0 +1,396 @@
+package cc.tools.restapi.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class writes the per-request result log for -results. Records are
+ * appended in completion order to a compact binary file:
+ *
+ * <pre>
+ * header: magic 'RACR', version byte, run start epoch ms (8 bytes)
+ * record: seq delta      zigzag varint
+ *         intended delta zigzag varint, microseconds
+ *         start lag      zigzag varint, microseconds after intended
+ *         latency        varint, microseconds
+ *         status         zigzag varint, -1 if no response
+ *         bytes in       zigzag varint, -1 if unknown
+ *         bytes out      varint
+ *         error class    byte
+ * </pre>
+ *
+ * Deltas are taken from the previous record so a typical record needs around
+ * a dozen bytes. Records are encoded into a buffer under a short lock; full
+ * buffers are written by a separate thread through a {@link FileChannel}, so
+ * sends never wait on the disk. The lock is a {@link ReentrantLock}, not a
+ * monitor, so a virtual thread waiting for it, or for a free buffer while
+ * holding it, unmounts instead of pinning its carrier thread.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientResults {
+
+  /**
+   * Constructor {@link RestAPIClientResults}.
+   *
+   * @param filename name of result file.
+   * @param channel  open result file.
+   * @param origin   run start in {@link System#nanoTime()} units.
+   */
+  private RestAPIClientResults(String filename, FileChannel channel, long origin) {
+
+    _filename = filename;
+
+    _channel = channel;
+
+    _origin = origin;
+
+    for (int b = 0; b < _BUFFERS; b++) {
+
+      _free.add(ByteBuffer.allocateDirect(_BUFFER_BYTES));
+    }
+
+    _buffer = _free.poll();
+
+    _writer = new Thread(this::write, "restapi-client-results-writer");
+
+    _writer.setDaemon(true);
+
+    _writer.start();
+  }
+
+  /**
+   * Method creates a result file and writes its header. Errors are logged.
+   *
+   * @param filename name of result file.
+   * @return RestAPIClientResults writer, or null on error.
+   */
+  static public RestAPIClientResults open(String filename) {
+
+    try {
+
+      FileChannel channel = FileChannel.open(Path.of(filename), StandardOpenOption.CREATE,
+          StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+      long origin = System.nanoTime();
+
+      ByteBuffer header = ByteBuffer.allocate(_HEADER_BYTES);
+
+      header.put(_MAGIC).put(_VERSION).putLong(System.currentTimeMillis()).flip();
+
+      while (header.hasRemaining()) {
+
+        channel.write(header);
+      }
+
+      return new RestAPIClientResults(filename, channel, origin);
+
+    } catch (IOException | RuntimeException e) {
+
+      _logger.error("results file '",
+          filename,
+          "' not writable - ",
+          e);
+    }
+
+    return null;
+  }
+
+  /**
+   * Method appends one result.
+   *
+   * @param result completed send.
+   */
+  public void record(RestAPIClientResult result) {
+
+    long intended = (result.intended() - _origin) / 1000;
+
+    long lag = (result.start() - result.intended()) / 1000;
+
+    _lock.lock();
+
+    try {
+
+      if (_buffer == null) {
+
+        return;
+      }
+
+      if (_buffer.remaining() < _RECORD_BYTES) {
+
+        swap();
+      }
+
+      putZigzag(_buffer, result.seq() - _seq);
+
+      putZigzag(_buffer, intended - _intended);
+
+      putZigzag(_buffer, lag);
+
+      putVarint(_buffer, Math.max(0, result.latency() / 1000));
+
+      putZigzag(_buffer, result.status());
+
+      putZigzag(_buffer, result.bytesIn());
+
+      putVarint(_buffer, Math.max(0, result.bytesOut()));
+
+      _buffer.put((byte) result.error());
+
+      _seq = result.seq();
+
+      _intended = intended;
+
+      _records++;
+
+    } finally {
+
+      _lock.unlock();
+    }
+  }
+
+  /**
+   * Method writes outstanding records, closes the file and prints its size.
+   */
+  public void close() {
+
+    _lock.lock();
+
+    try {
+
+      if (_buffer == null) {
+
+        return;
+      }
+
+      _full.add(_buffer);
+
+      _buffer = null;
+
+      _full.add(_END);
+
+    } finally {
+
+      _lock.unlock();
+    }
+
+    try {
+
+      _writer.join();
+
+      long size = _channel.size();
+
+      _channel.close();
+
+      _logger.info("results: ",
+          _records,
+          " records, ",
+          size,
+          " bytes written to ",
+          _filename);
+
+    } catch (InterruptedException e) {
+
+      Thread.currentThread().interrupt();
+
+    } catch (IOException e) {
+
+      _logger.exception(e);
+    }
+  }
+
+  /**
+   * Method hands the current buffer to the writer and takes a free one. Waits
+   * if the writer is behind by every buffer.
+   */
+  private void swap() {
+
+    _full.add(_buffer);
+
+    try {
+
+      _buffer = _free.take();
+
+    } catch (InterruptedException e) {
+
+      Thread.currentThread().interrupt();
+
+      _buffer = ByteBuffer.allocateDirect(_BUFFER_BYTES);
+    }
+  }
+
+  /**
+   * Method run by the writer thread. Writes full buffers and returns them to
+   * the free list.
+   */
+  private void write() {
+
+    try {
+
+      while (true) {
+
+        ByteBuffer buffer = _full.take();
+
+        if (buffer == _END) {
+
+          return;
+        }
+
+        buffer.flip();
+
+        try {
+
+          while (buffer.hasRemaining()) {
+
+            _channel.write(buffer);
+          }
+
+        } catch (IOException e) {
+
+          _logger.exception(e);
+        }
+
+        buffer.clear();
+
+        _free.add(buffer);
+      }
+
+    } catch (InterruptedException e) {
+
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Method appends an unsigned varint.
+   *
+   * @param buffer target buffer.
+   * @param value  non-negative value.
+   */
+  static void putVarint(ByteBuffer buffer, long value) {
+
+    while ((value & ~0x7fL) != 0) {
+
+      buffer.put((byte) ((value & 0x7f) | 0x80));
+
+      value >>>= 7;
+    }
+
+    buffer.put((byte) value);
+  }
+
+  /**
+   * Method appends a signed value as a zigzag varint.
+   *
+   * @param buffer target buffer.
+   * @param value  signed value.
+   */
+  static void putZigzag(ByteBuffer buffer, long value) {
+
+    putVarint(buffer, (value << 1) ^ (value >> 63));
+  }
+
+  /**
+   * File magic.
+   */
+  static final byte[] _MAGIC = { 'R', 'A', 'C', 'R' };
+
+  /**
+   * File format version '{@value _VERSION}'.
+   */
+  static final byte _VERSION = 1;
+
+  /**
+   * Header length '{@value _HEADER_BYTES}' bytes.
+   */
+  static final int _HEADER_BYTES = 13;
+
+  /**
+   * Largest possible record '{@value _RECORD_BYTES}' bytes.
+   */
+  private static final int _RECORD_BYTES = 7 * 10 + 1;
+
+  /**
+   * Size of each encode buffer '{@value _BUFFER_BYTES}' bytes.
+   */
+  private static final int _BUFFER_BYTES = 1 << 20;
+
+  /**
+   * Number of encode buffers '{@value _BUFFERS}'.
+   */
+  private static final int _BUFFERS = 4;
+
+  /**
+   * Marker telling the writer to finish.
+   */
+  private static final ByteBuffer _END = ByteBuffer.allocate(0);
+
+  /**
+   * Result file name.
+   */
+  private final String _filename;
+
+  /**
+   * Result file.
+   */
+  private final FileChannel _channel;
+
+  /**
+   * Run start in {@link System#nanoTime()} units.
+   */
+  private final long _origin;
+
+  /**
+   * Buffers ready to be encoded into.
+   */
+  private final BlockingQueue<ByteBuffer> _free = new ArrayBlockingQueue<ByteBuffer>(_BUFFERS);
+
+  /**
+   * Buffers waiting to be written, followed by {@link #_END}.
+   */
+  private final BlockingQueue<ByteBuffer> _full = new LinkedBlockingQueue<ByteBuffer>();
+
+  /**
+   * Lock guarding the buffer being encoded into and the previous record.
+   */
+  private final ReentrantLock _lock = new ReentrantLock();
+
+  /**
+   * Buffer being encoded into, null once closed.
+   */
+  private ByteBuffer _buffer;
+
+  /**
+   * Message number of previous record.
+   */
+  private long _seq = 0;
+
+  /**
+   * Intended start of previous record in microseconds.
+   */
+  private long _intended = 0;
+
+  /**
+   * Number of records appended.
+   */
+  private long _records = 0;
+
+  /**
+   * Writer thread.
+   */
+  private final Thread _writer;
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientResults.class.getName());
+}
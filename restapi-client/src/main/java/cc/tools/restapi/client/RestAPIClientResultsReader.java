@@ -0,0 +1,192 @@
+package cc.tools.restapi.client;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * This class converts a -results file to CSV. Times are in microseconds from
+ * the run start given in the file header.
+ *
+ * <pre>
+ * java -cp restapi-client.jar cc.tools.restapi.client.RestAPIClientResultsReader run.bin &gt; run.csv
+ * </pre>
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientResultsReader {
+
+  /**
+   * Constructor {@link RestAPIClientResultsReader} is private and not meant to
+   * be used.
+   */
+  private RestAPIClientResultsReader() {
+  }
+
+  /**
+   * Main method. Writes CSV for the result file named in the first argument to
+   * standard output.
+   *
+   * @param args program arguments.
+   */
+  public static void main(String[] args) {
+
+    if (args.length != 1) {
+
+      System.err.println("usage: " + RestAPIClientResultsReader.class.getName() + " <results file>");
+
+      return;
+    }
+
+    try {
+
+      Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+
+      long records = toCsv(Path.of(args[0]), writer);
+
+      writer.flush();
+
+      System.err.println(records + " records");
+
+    } catch (IOException e) {
+
+      System.err.println("results file '" + args[0] + "' not readable - " + e);
+    }
+  }
+
+  /**
+   * Method converts a result file to CSV.
+   *
+   * @param path   result file.
+   * @param writer CSV output.
+   * @return long number of records converted.
+   * @throws IOException if the file cannot be read or is not a result file.
+   */
+  static public long toCsv(Path path, Writer writer) throws IOException {
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+      byte[] magic = new byte[RestAPIClientResults._MAGIC.length];
+
+      if (buffer.remaining() < RestAPIClientResults._HEADER_BYTES
+          || !Arrays.equals(read(buffer, magic), RestAPIClientResults._MAGIC)) {
+
+        throw new IOException("not a results file");
+      }
+
+      byte version = buffer.get();
+
+      if (version != RestAPIClientResults._VERSION) {
+
+        throw new IOException("unsupported results version " + version);
+      }
+
+      long epoch = buffer.getLong();
+
+      writer.write("# run start epoch ms " + epoch + "\n");
+
+      writer.write("seq,intended_us,start_us,latency_us,status,bytes_in,bytes_out,error\n");
+
+      long seq = 0;
+
+      long intended = 0;
+
+      long records = 0;
+
+      try {
+
+        while (buffer.hasRemaining()) {
+
+          seq += getZigzag(buffer);
+
+          intended += getZigzag(buffer);
+
+          long start = intended + getZigzag(buffer);
+
+          long latency = getVarint(buffer);
+
+          long status = getZigzag(buffer);
+
+          long bytesIn = getZigzag(buffer);
+
+          long bytesOut = getVarint(buffer);
+
+          int error = buffer.get();
+
+          writer.write(seq + "," + intended + "," + start + "," + latency + "," + status + "," + bytesIn + ","
+              + bytesOut + "," + RestAPIClientResult.errorName(error) + "\n");
+
+          records++;
+        }
+
+      } catch (BufferUnderflowException e) {
+
+        throw new IOException("results file truncated after " + records + " records");
+      }
+
+      return records;
+    }
+  }
+
+  /**
+   * Method reads bytes into an array.
+   *
+   * @param buffer source buffer.
+   * @param bytes  target array.
+   * @return byte[] target array.
+   */
+  private static byte[] read(ByteBuffer buffer, byte[] bytes) {
+
+    buffer.get(bytes);
+
+    return bytes;
+  }
+
+  /**
+   * Method reads an unsigned varint.
+   *
+   * @param buffer source buffer.
+   * @return long value.
+   */
+  static long getVarint(ByteBuffer buffer) {
+
+    long value = 0;
+
+    for (int shift = 0;; shift += 7) {
+
+      byte b = buffer.get();
+
+      value |= (long) (b & 0x7f) << shift;
+
+      if (b >= 0) {
+
+        return value;
+      }
+    }
+  }
+
+  /**
+   * Method reads a zigzag varint.
+   *
+   * @param buffer source buffer.
+   * @return long signed value.
+   */
+  static long getZigzag(ByteBuffer buffer) {
+
+    long value = getVarint(buffer);
+
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
@@ -0,0 +1,187 @@
+package cc.tools.restapi.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class implements the -retry policy. A send that fails with a connect,
+ * timeout or i/o error, or with status 429 or 5xx, is sent again up to
+ * -retry times. Before retry n the send waits a random time between 0 and
+ * -retry-backoff * 2^(n-1), capped at {@value _MAXIMUM_BACKOFF_MILLIS} ms
+ * ("full jitter"), so clients failing together do not retry together. Other
+ * statuses and failed -assert checks are not retried.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientRetry {
+
+  /**
+   * Constructor {@link RestAPIClientRetry}.
+   *
+   * @param retries      maximum retries per send.
+   * @param backoffNanos backoff before the first retry in nanoseconds.
+   */
+  public RestAPIClientRetry(int retries, long backoffNanos) {
+
+    _retries = retries;
+
+    _backoffNanos = backoffNanos;
+  }
+
+  /**
+   * Method returns whether a failed attempt is sent again.
+   *
+   * @param result  result of the failed attempt.
+   * @param attempt number of retries already made.
+   * @return boolean true if the send should be retried.
+   */
+  public boolean retry(RestAPIClientResult result, int attempt) {
+
+    if (attempt >= _retries || !retryable(result)) {
+
+      if (attempt > 0) {
+
+        _exhausted.increment();
+      }
+
+      return false;
+    }
+
+    _attempts.increment();
+
+    return true;
+  }
+
+  /**
+   * Method records a send that succeeded.
+   *
+   * @param attempt number of retries made.
+   */
+  public void success(int attempt) {
+
+    if (attempt > 0) {
+
+      _recovered.increment();
+    }
+  }
+
+  /**
+   * Method returns whether the failure recorded in a result is transient.
+   *
+   * @param result result of a failed attempt.
+   * @return boolean true for connect, timeout and i/o errors, 429 and 5xx.
+   */
+  static boolean retryable(RestAPIClientResult result) {
+
+    switch (result.error()) {
+
+    case RestAPIClientResult._ERROR_CONNECT:
+    case RestAPIClientResult._ERROR_TIMEOUT:
+    case RestAPIClientResult._ERROR_IO:
+      return true;
+
+    case RestAPIClientResult._ERROR_STATUS:
+      return result.status() == _TOO_MANY_REQUESTS || result.status() >= 500;
+
+    default:
+      return false;
+    }
+  }
+
+  /**
+   * Method returns a future completed after the backoff before a retry.
+   *
+   * @param attempt number of retries already made.
+   * @return CompletableFuture completed after the jittered backoff.
+   */
+  public CompletableFuture<Void> backoff(int attempt) {
+
+    Executor delayed = CompletableFuture.delayedExecutor(delayNanos(attempt), TimeUnit.NANOSECONDS);
+
+    return CompletableFuture.runAsync(() -> {
+    }, delayed);
+  }
+
+  /**
+   * Method waits the backoff before a retry.
+   *
+   * @param attempt number of retries already made.
+   * @throws InterruptedException if interrupted while waiting.
+   */
+  public void sleep(int attempt) throws InterruptedException {
+
+    TimeUnit.NANOSECONDS.sleep(delayNanos(attempt));
+  }
+
+  /**
+   * Method returns a jittered backoff.
+   *
+   * @param attempt number of retries already made.
+   * @return long delay in nanoseconds.
+   */
+  long delayNanos(int attempt) {
+
+    long ceiling = Math.min(_backoffNanos << Math.min(attempt, 30), _MAXIMUM_BACKOFF_MILLIS * 1000000L);
+
+    return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+  }
+
+  /**
+   * Method prints retry totals.
+   */
+  public void dump() {
+
+    _logger.info("retry: ",
+        _attempts.sum(),
+        " retries, ",
+        _recovered.sum(),
+        " sends recovered, ",
+        _exhausted.sum(),
+        " sends failed after retrying");
+  }
+
+  /**
+   * Http status too many requests.
+   */
+  private static final int _TOO_MANY_REQUESTS = 429;
+
+  /**
+   * Largest backoff '{@value _MAXIMUM_BACKOFF_MILLIS}' ms.
+   */
+  static final long _MAXIMUM_BACKOFF_MILLIS = 30000;
+
+  /**
+   * Maximum retries per send.
+   */
+  private final int _retries;
+
+  /**
+   * Backoff before the first retry in nanoseconds.
+   */
+  private final long _backoffNanos;
+
+  /**
+   * Number of retries made.
+   */
+  private final LongAdder _attempts = new LongAdder();
+
+  /**
+   * Number of sends that succeeded after retrying.
+   */
+  private final LongAdder _recovered = new LongAdder();
+
+  /**
+   * Number of sends that failed after retrying.
+   */
+  private final LongAdder _exhausted = new LongAdder();
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientRetry.class.getName());
+}
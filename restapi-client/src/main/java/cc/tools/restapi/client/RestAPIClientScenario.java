@@ -0,0 +1,357 @@
+package cc.tools.restapi.client;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class implements a -scenario file: a weighted mix of endpoints sent
+ * by one run. Each non-blank line that does not start with '#' is
+ *
+ * <pre>
+ * &lt;weight&gt; &lt;action&gt; &lt;entity&gt; [&lt;payload&gt;]
+ *
+ * 80 get  customer/${rand}
+ * 15 post customer {"firstName":"sven","lastName":"svennis"}
+ * 5  get  fraud-check/${seq}
+ * </pre>
+ *
+ * Weights are relative. The entity may use the payload placeholders, which are
+ * rendered per send. The payload is the rest of the line and is required for
+ * post and put only. Each send picks its endpoint with a
+ * {@link RestAPIClientAliasSampler}.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientScenario {
+
+  /**
+   * Constructor {@link RestAPIClientScenario}.
+   *
+   * @param weights          endpoint weights.
+   * @param actions          endpoint actions.
+   * @param entities         endpoint entities.
+   * @param payloads         endpoint payloads, null for none.
+   * @param payloadTemplates endpoint payloads compiled for -unique, null for
+   *                         none.
+   */
+  private RestAPIClientScenario(double[] weights, String[] actions, String[] entities, String[] payloads,
+      RestAPIClientPayloadTemplate[] payloadTemplates) {
+
+    _weights = weights;
+
+    _actions = actions;
+
+    _entities = entities;
+
+    _payloads = payloads;
+
+    _payloadTemplates = payloadTemplates;
+
+    _sampler = new RestAPIClientAliasSampler(weights);
+  }
+
+  /**
+   * Method reads a scenario file.
+   *
+   * @param filename name of scenario file.
+   * @param errors   errors encountered are added to this list.
+   * @return RestAPIClientScenario scenario, or null on error.
+   */
+  static public RestAPIClientScenario open(String filename, List<String> errors) {
+
+    List<String> lines;
+
+    try {
+
+      lines = Files.readAllLines(Path.of(filename), StandardCharsets.UTF_8);
+
+    } catch (IOException | RuntimeException e) {
+
+      errors.add("-" + RestAPIClientParameterKeys._KEY_SCENARIO + " '" + filename + "' not readable - " + e);
+
+      return null;
+    }
+
+    return parse(lines, errors);
+  }
+
+  /**
+   * Method parses scenario lines.
+   *
+   * @param lines  scenario file lines.
+   * @param errors errors encountered are added to this list.
+   * @return RestAPIClientScenario scenario, or null on error.
+   */
+  static RestAPIClientScenario parse(List<String> lines, List<String> errors) {
+
+    List<Double> weights = new ArrayList<Double>();
+
+    List<String> actions = new ArrayList<String>();
+
+    List<String> entities = new ArrayList<String>();
+
+    List<String> payloads = new ArrayList<String>();
+
+    List<RestAPIClientPayloadTemplate> payloadTemplates = new ArrayList<RestAPIClientPayloadTemplate>();
+
+    int before = errors.size();
+
+    for (int n = 0; n < lines.size(); n++) {
+
+      String line = lines.get(n).trim();
+
+      if (line.isEmpty() || line.charAt(0) == '#') {
+
+        continue;
+      }
+
+      String where = "-" + RestAPIClientParameterKeys._KEY_SCENARIO + " line " + (n + 1) + ": ";
+
+      String[] fields = line.split("\\s+", 4);
+
+      if (fields.length < 3) {
+
+        errors.add(where + "expected '<weight> <action> <entity> [<payload>]'");
+
+        continue;
+      }
+
+      double weight = -1;
+
+      try {
+
+        weight = Double.parseDouble(fields[0]);
+
+      } catch (NumberFormatException e) {
+      }
+
+      if (!(weight > 0) || Double.isInfinite(weight)) {
+
+        errors.add(where + "weight '" + fields[0] + "' must be a positive number");
+
+        continue;
+      }
+
+      String action = fields[1].toLowerCase();
+
+      String payload = fields.length == 4 ? fields[3] : null;
+
+      RestAPIClientPayloadTemplate payloadTemplate = null;
+
+      if (action.compareTo(RestAPIClientValues._ACTION_GET) == 0
+          || action.compareTo(RestAPIClientValues._ACTION_DELETE) == 0) {
+
+        if (payload != null) {
+
+          errors.add(where + action + " takes no payload");
+
+          continue;
+        }
+
+      } else if (RestAPIClientValues.hasBody(action)) {
+
+        if (payload == null) {
+
+          errors.add(where + action + " needs a payload");
+
+          continue;
+        }
+
+        payloadTemplate = RestAPIClientPayloadTemplate.compile(payload, errors);
+
+        if (payloadTemplate == null) {
+
+          continue;
+        }
+
+      } else {
+
+        errors.add(where + "action '" + fields[1] + "' must be 'delete', 'get', 'post' or 'put'");
+
+        continue;
+      }
+
+      String entity = fields[2];
+
+      if (RestAPIClientPayloadTemplate.compile(entity, errors) == null) {
+
+        continue;
+      }
+
+      if (!entity.replaceAll(_PLACEHOLDER_PATTERN, "0").matches(_ENTITY_PATTERN)) {
+
+        errors.add(where + "entity '" + entity + "' invalid");
+
+        continue;
+      }
+
+      weights.add(weight);
+
+      actions.add(action);
+
+      entities.add(entity);
+
+      payloads.add(payload);
+
+      payloadTemplates.add(payloadTemplate);
+    }
+
+    if (errors.size() > before) {
+
+      return null;
+    }
+
+    if (weights.isEmpty()) {
+
+      errors.add("-" + RestAPIClientParameterKeys._KEY_SCENARIO + " has no endpoints");
+
+      return null;
+    }
+
+    return new RestAPIClientScenario(weights.stream().mapToDouble(Double::doubleValue).toArray(),
+        actions.toArray(new String[actions.size()]),
+        entities.toArray(new String[entities.size()]),
+        payloads.toArray(new String[payloads.size()]),
+        payloadTemplates.toArray(new RestAPIClientPayloadTemplate[payloadTemplates.size()]));
+  }
+
+  /**
+   * Method picks the endpoint for a send.
+   *
+   * @return int endpoint index.
+   */
+  public int next() {
+
+    return _sampler.next();
+  }
+
+  /**
+   * Method returns number of endpoints.
+   *
+   * @return int number of endpoints.
+   */
+  public int count() {
+
+    return _weights.length;
+  }
+
+  /**
+   * Method returns share of sends going to an endpoint.
+   *
+   * @param k endpoint index.
+   * @return double share between 0 and 1.
+   */
+  public double share(int k) {
+
+    double total = 0;
+
+    for (double weight : _weights) {
+
+      total += weight;
+    }
+
+    return _weights[k] / total;
+  }
+
+  /**
+   * Method returns action of an endpoint.
+   *
+   * @param k endpoint index.
+   * @return String action.
+   */
+  public String action(int k) {
+
+    return _actions[k];
+  }
+
+  /**
+   * Method returns entity of an endpoint.
+   *
+   * @param k endpoint index.
+   * @return String entity, possibly with placeholders.
+   */
+  public String entity(int k) {
+
+    return _entities[k];
+  }
+
+  /**
+   * Method returns payload of an endpoint.
+   *
+   * @param k endpoint index.
+   * @return String payload, or null if the action takes none.
+   */
+  public String payload(int k) {
+
+    return _payloads[k];
+  }
+
+  /**
+   * Method returns payload of an endpoint compiled for -unique.
+   *
+   * @param k endpoint index.
+   * @return RestAPIClientPayloadTemplate payload template, or null if the
+   *         action takes no payload.
+   */
+  public RestAPIClientPayloadTemplate payloadTemplate(int k) {
+
+    return _payloadTemplates[k];
+  }
+
+  /**
+   * Method returns display name of an endpoint.
+   *
+   * @param k endpoint index.
+   * @return String action and entity.
+   */
+  public String name(int k) {
+
+    return _actions[k].toUpperCase() + " " + _entities[k];
+  }
+
+  /**
+   * Pattern matching a payload placeholder.
+   */
+  private static final String _PLACEHOLDER_PATTERN = "\\$\\{[a-z]+\\}";
+
+  /**
+   * Pattern an entity must match once placeholders are rendered.
+   */
+  private static final String _ENTITY_PATTERN = "^[a-z\\-0-9\\/]+$";
+
+  /**
+   * Endpoint weights.
+   */
+  private final double[] _weights;
+
+  /**
+   * Endpoint actions.
+   */
+  private final String[] _actions;
+
+  /**
+   * Endpoint entities.
+   */
+  private final String[] _entities;
+
+  /**
+   * Endpoint payloads.
+   */
+  private final String[] _payloads;
+
+  /**
+   * Endpoint payloads compiled for -unique.
+   */
+  private final RestAPIClientPayloadTemplate[] _payloadTemplates;
+
+  /**
+   * Sampler picking endpoints by weight.
+   */
+  private final RestAPIClientAliasSampler _sampler;
+}
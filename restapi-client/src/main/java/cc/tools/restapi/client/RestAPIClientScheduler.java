@@ -0,0 +1,411 @@
+package cc.tools.restapi.client;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class implements an open-loop scheduler. Sends are started at fixed
+ * intended start times, taken from a -profile or a constant -rate, whether or
+ * not earlier responses have come back. Latency is measured from the intended
+ * start time so a slow server cannot hide queueing (coordinated omission). How
+ * late each send actually started is recorded separately as scheduler lag.
+ * <p>
+ * A -find-max trial runs the same schedule at a constant rate for a fixed
+ * time. Sends intended during its warmup are recorded in the run stats but
+ * not counted in the trial, a failed send is counted instead of stopping the
+ * run, and sends still outstanding after a grace time are cancelled.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientScheduler {
+
+  /**
+   * Constructor {@link RestAPIClientScheduler}.
+   *
+   * @param config   configuration object.
+   * @param actionI  RestAPIClientActionI interface object used to peform action.
+   * @param progress progress object updated on each completed send.
+   * @param stats    stats object receiving latency and lag.
+   */
+  public RestAPIClientScheduler(RestAPIClientConfig config, RestAPIClientActionI actionI,
+      RestAPIClientProgress progress, RestAPIClientStats stats) {
+
+    _actionI = actionI;
+
+    _progress = progress;
+
+    _stats = stats;
+
+    if (config.getProfile() != null) {
+
+      _profile = config.getProfile();
+
+      _count = 0;
+
+    } else {
+
+      _profile = RestAPIClientProfile.constant(config.getRate());
+
+      _count = config.getCount();
+    }
+
+    _seqStart = config.getSeqStart();
+
+    _warmupNanos = 0;
+
+    _endNanos = 0;
+
+    _graceNanos = 0;
+
+    _trial = null;
+
+    _stats.stages(_profile);
+  }
+
+  /**
+   * Constructor {@link RestAPIClientScheduler} for one -find-max trial.
+   *
+   * @param actionI     RestAPIClientActionI interface object used to peform
+   *                    action.
+   * @param progress    progress object updated on each completed send.
+   * @param stats       stats object receiving latency and lag of every send.
+   * @param rate        sends per second.
+   * @param seqStart    message number of the first send.
+   * @param warmupNanos uncounted start of the trial in nanoseconds.
+   * @param trialNanos  counted length of the trial in nanoseconds.
+   * @param graceNanos  time outstanding sends are waited for in nanoseconds.
+   */
+  RestAPIClientScheduler(RestAPIClientActionI actionI, RestAPIClientProgress progress, RestAPIClientStats stats,
+      long rate, long seqStart, long warmupNanos, long trialNanos, long graceNanos) {
+
+    _actionI = actionI;
+
+    _progress = progress;
+
+    _stats = stats;
+
+    _profile = RestAPIClientProfile.constant(rate);
+
+    _count = 0;
+
+    _seqStart = seqStart;
+
+    _warmupNanos = warmupNanos;
+
+    _endNanos = warmupNanos + trialNanos;
+
+    _graceNanos = graceNanos;
+
+    _trial = new RestAPIClientHistogram();
+  }
+
+  /**
+   * Method runs the schedule and waits for all outstanding sends.
+   *
+   * @return boolean value set to true for success, false otherwise.
+   */
+  public boolean run() {
+
+    ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    try {
+
+      long start = System.nanoTime();
+
+      int last = -1;
+
+      for (long k = 0; !_stop.get() && (_count == 0 || k < _count); k++) {
+
+        long offset = _profile.offset(k);
+
+        if (offset < 0 || (_trial != null && offset >= _endNanos)) {
+
+          break;
+        }
+
+        long intended = start + offset;
+
+        waitUntil(intended);
+
+        int stage = _profile.stage(k);
+
+        if (stage != last && _profile.stages() > 1) {
+
+          _logger.info("stage ",
+              stage + 1,
+              " ",
+              _profile.name(stage),
+              " started at send ",
+              k + 1);
+
+          last = stage;
+        }
+
+        long i = k + _seqStart;
+
+        boolean counted = offset >= _warmupNanos;
+
+        _started++;
+
+        if (counted) {
+
+          _counted++;
+        }
+
+        executor.submit(() -> send(i, intended, stage, counted));
+      }
+
+    } finally {
+
+      finish(executor);
+    }
+
+    return !_failed.get();
+  }
+
+  /**
+   * Method waits for outstanding sends. Sends of a trial still outstanding
+   * after the grace time are cancelled.
+   *
+   * @param executor executor running the sends.
+   */
+  private void finish(ExecutorService executor) {
+
+    if (_trial == null) {
+
+      executor.close();
+
+      return;
+    }
+
+    executor.shutdown();
+
+    try {
+
+      if (!executor.awaitTermination(_graceNanos, TimeUnit.NANOSECONDS)) {
+
+        executor.shutdownNow();
+
+        executor.awaitTermination(_CANCEL_NANOS, TimeUnit.NANOSECONDS);
+      }
+
+    } catch (InterruptedException e) {
+
+      executor.shutdownNow();
+
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Method returns number of sends started.
+   *
+   * @return long number of sends started.
+   */
+  public long started() {
+
+    return _started;
+  }
+
+  /**
+   * Method returns number of sends counted in a trial, those intended after
+   * the warmup.
+   *
+   * @return long number of counted sends.
+   */
+  public long counted() {
+
+    return _counted;
+  }
+
+  /**
+   * Method returns latency of the successful counted sends of a trial.
+   *
+   * @return RestAPIClientHistogram of latency in nanoseconds, or null outside a
+   *         trial.
+   */
+  public RestAPIClientHistogram trial() {
+
+    return _trial;
+  }
+
+  /**
+   * Method returns number of counted sends of a trial that failed.
+   *
+   * @return long number of failed counted sends.
+   */
+  public long trialErrors() {
+
+    return _trialErrors.sum();
+  }
+
+  /**
+   * Method performs one send and records its corrected latency and lag.
+   *
+   * @param i        message number.
+   * @param intended intended start time in {@link System#nanoTime()} units.
+   * @param stage    profile stage index.
+   * @param counted  flag indicating a send counted in a trial.
+   */
+  private void send(long i, long intended, int stage, boolean counted) {
+
+    if (_stop.get()) {
+
+      return;
+    }
+
+    long start = System.nanoTime();
+
+    _stats.recordLag(start - intended);
+
+    _logger.debug("[",
+        i,
+        "] start");
+
+    RestAPIClientResult result = new RestAPIClientResult().begin(i, intended, start, stage);
+
+    boolean ok = _actionI.send(i, result);
+
+    result.end(System.nanoTime());
+
+    _stats.record(result);
+
+    if (_trial != null && counted) {
+
+      if (ok) {
+
+        _trial.record(result.latency());
+
+      } else {
+
+        _trialErrors.increment();
+      }
+    }
+
+    if (!ok) {
+
+      // a trial counts failures against its objective and carries on
+      if (_trial != null) {
+
+        return;
+      }
+
+      _logger.error(_actionI.action() + " to server failed");
+
+      _failed.set(true);
+
+      _stop.set(true);
+
+      return;
+    }
+
+    _progress.update("ok");
+  }
+
+  /**
+   * Method parks the scheduler thread until the intended start time.
+   *
+   * @param intended time in {@link System#nanoTime()} units.
+   */
+  private void waitUntil(long intended) {
+
+    long remaining;
+
+    while ((remaining = intended - System.nanoTime()) > 0) {
+
+      LockSupport.parkNanos(remaining);
+    }
+  }
+
+  /**
+   * Time cancelled sends of a trial are given to finish '{@value _CANCEL_NANOS}'
+   * ns.
+   */
+  private static final long _CANCEL_NANOS = 1000000000L;
+
+  /**
+   * Action used to send to server.
+   */
+  private final RestAPIClientActionI _actionI;
+
+  /**
+   * Progress object updated on each completed send.
+   */
+  private final RestAPIClientProgress _progress;
+
+  /**
+   * Stats object receiving latency and lag.
+   */
+  private final RestAPIClientStats _stats;
+
+  /**
+   * Target number of sends. 0 indicates continuous.
+   */
+  private final long _count;
+
+  /**
+   * Message number of the first send.
+   */
+  private final long _seqStart;
+
+  /**
+   * Compiled profile giving intended start times.
+   */
+  private final RestAPIClientProfile _profile;
+
+  /**
+   * Offset before which sends are not counted in a trial, in nanoseconds.
+   */
+  private final long _warmupNanos;
+
+  /**
+   * Offset from which a trial starts no sends, in nanoseconds.
+   */
+  private final long _endNanos;
+
+  /**
+   * Time outstanding sends of a trial are waited for in nanoseconds.
+   */
+  private final long _graceNanos;
+
+  /**
+   * Latency of successful counted sends of a trial, or null outside a trial.
+   */
+  private final RestAPIClientHistogram _trial;
+
+  /**
+   * Number of failed counted sends of a trial.
+   */
+  private final LongAdder _trialErrors = new LongAdder();
+
+  /**
+   * Number of sends started.
+   */
+  private long _started = 0;
+
+  /**
+   * Number of sends counted in a trial.
+   */
+  private long _counted = 0;
+
+  /**
+   * Flag telling scheduler to stop starting sends.
+   */
+  private final AtomicBoolean _stop = new AtomicBoolean();
+
+  /**
+   * Flag indicating a send failed.
+   */
+  private final AtomicBoolean _failed = new AtomicBoolean();
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientScheduler.class.getName());
+}
@@ -122,6 +122,18 @@ public class RestAPIClientSecurity {
     return HttpRequest.BodyPublishers.ofString(data);
   }
 
+  /**
+   * Method prepares data as bytes for transmission. Bytes can be encoded once
+   * and published for many sends.
+   * 
+   * @param data String value be encoded by method.
+   * @return byte array of encoded data.
+   */
+  public byte[] prepareBytes(String data) {
+  
+    return data.getBytes(StandardCharsets.UTF_8);
+  }
+
   /**
    * Method performs data encryption and returns {@link java.util.Base64} encoded
    * result.
@@ -0,0 +1,204 @@
+package cc.tools.restapi.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This class implements the -slo latency objective of -find-max. An objective
+ * such as 'p99&lt;200ms,p50&lt;20ms,errors&lt;0.5%' is a list of terms separated by
+ * ','. Each latency term bounds one percentile and the errors term bounds
+ * the share of failed sends, the error budget. Without an errors term the
+ * budget is {@value _DEFAULT_ERROR_BUDGET}%.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientSlo {
+
+  /**
+   * Constructor {@link RestAPIClientSlo}.
+   *
+   * @param text        objective text.
+   * @param percentiles bounded percentiles.
+   * @param limits      bound per percentile in nanoseconds.
+   * @param errorBudget largest share of failed sends in percent.
+   */
+  private RestAPIClientSlo(String text, double[] percentiles, long[] limits, double errorBudget) {
+
+    _text = text;
+
+    _percentiles = percentiles;
+
+    _limits = limits;
+
+    _errorBudget = errorBudget;
+  }
+
+  /**
+   * Method parses -slo text.
+   *
+   * @param text   objective text.
+   * @param errors errors encountered are added to this list.
+   * @return RestAPIClientSlo objective, or null on error.
+   */
+  static public RestAPIClientSlo parse(String text, List<String> errors) {
+
+    List<Double> percentiles = new ArrayList<Double>();
+
+    List<Long> limits = new ArrayList<Long>();
+
+    double errorBudget = _DEFAULT_ERROR_BUDGET;
+
+    for (String term : text.toLowerCase().split(",")) {
+
+      term = term.replace(" ", "");
+
+      Matcher latency = _LATENCY_PATTERN.matcher(term);
+
+      Matcher budget = _ERRORS_PATTERN.matcher(term);
+
+      if (latency.matches()) {
+
+        double percentile = Double.parseDouble(latency.group(1));
+
+        long limit = RestAPIClientProfile.durationNanos(latency.group(2));
+
+        if (percentile > 0 && percentile < 100 && limit > 0) {
+
+          percentiles.add(percentile);
+
+          limits.add(limit);
+
+          continue;
+        }
+
+      } else if (budget.matches()) {
+
+        errorBudget = Double.parseDouble(budget.group(1));
+
+        if (errorBudget < 100) {
+
+          continue;
+        }
+      }
+
+      errors.add("-" + RestAPIClientParameterKeys._KEY_SLO + " term '" + term
+          + "' invalid. use p<percentile><<duration> such as 'p99<200ms', or errors<<percent> such as 'errors<1%'");
+
+      return null;
+    }
+
+    if (percentiles.isEmpty()) {
+
+      errors.add("-" + RestAPIClientParameterKeys._KEY_SLO + " needs a latency term such as 'p99<200ms'");
+
+      return null;
+    }
+
+    return new RestAPIClientSlo(text,
+        percentiles.stream().mapToDouble(Double::doubleValue).toArray(),
+        limits.stream().mapToLong(Long::longValue).toArray(),
+        errorBudget);
+  }
+
+  /**
+   * Method checks a trial against the objective.
+   *
+   * @param latency latency of successful sends in nanoseconds.
+   * @param sent    number of sends counted.
+   * @param failed  number of sends counted that failed.
+   * @return String describing the first term broken, or null if all hold.
+   */
+  public String check(RestAPIClientHistogram latency, long sent, long failed) {
+
+    double share = sent == 0 ? 100.0 : failed * 100.0 / sent;
+
+    if (share > _errorBudget) {
+
+      return "errors " + String.format("%.2f", share) + "% over budget " + _errorBudget + "%";
+    }
+
+    for (int k = 0; k < _percentiles.length; k++) {
+
+      long value = latency.percentile(_percentiles[k]);
+
+      if (value >= _limits[k]) {
+
+        return "p" + format(_percentiles[k]) + " " + RestAPIClientStats.millis(value) + " ms not under "
+            + RestAPIClientStats.millis(_limits[k]) + " ms";
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Method returns the error budget.
+   *
+   * @return double largest share of failed sends in percent.
+   */
+  public double errorBudget() {
+
+    return _errorBudget;
+  }
+
+  /**
+   * Method returns the objective text.
+   *
+   * @return String objective as given.
+   */
+  @Override
+  public String toString() {
+
+    return _text;
+  }
+
+  /**
+   * Method formats a percentile without a trailing '.0'.
+   *
+   * @param percentile percentile.
+   * @return String percentile.
+   */
+  private static String format(double percentile) {
+
+    return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+  }
+
+  /**
+   * Error budget without an errors term '{@value _DEFAULT_ERROR_BUDGET}' percent.
+   */
+  static final double _DEFAULT_ERROR_BUDGET = 1.0;
+
+  /**
+   * Pattern of a latency term.
+   */
+  private static final Pattern _LATENCY_PATTERN = Pattern.compile("^p([0-9]+(?:\\.[0-9]+)?)<([0-9.]+(?:ms|s|m|h)?)$");
+
+  /**
+   * Pattern of an errors term.
+   */
+  private static final Pattern _ERRORS_PATTERN = Pattern.compile("^errors<([0-9]+(?:\\.[0-9]+)?)%?$");
+
+  /**
+   * Objective text.
+   */
+  private final String _text;
+
+  /**
+   * Bounded percentiles.
+   */
+  private final double[] _percentiles;
+
+  /**
+   * Bound per percentile in nanoseconds.
+   */
+  private final long[] _limits;
+
+  /**
+   * Largest share of failed sends in percent.
+   */
+  private final double _errorBudget;
+}
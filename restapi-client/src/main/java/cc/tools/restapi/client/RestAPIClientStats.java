@@ -0,0 +1,378 @@
+package cc.tools.restapi.client;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class accumulates request latency and scheduler lag for a run in
+ * {@link RestAPIClientHistogram} objects. Values are recorded in nanoseconds
+ * and may be recorded from many threads.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientStats {
+
+  /**
+   * Constructor {@link RestAPIClientStats}.
+   */
+  public RestAPIClientStats() {
+  }
+
+  /**
+   * Method records a completed send. Latency of a successful send goes to the
+   * histograms and every send goes to the -results file, if any.
+   *
+   * @param result completed send.
+   */
+  public void record(RestAPIClientResult result) {
+
+    _sent.increment();
+
+    if (result.ok()) {
+
+      recordLatency(result.stage(), result.latency());
+    }
+
+    if (_endpoints != null && result.endpoint() >= 0) {
+
+      if (result.ok()) {
+
+        _endpoints[result.endpoint()].record(result.latency());
+
+      } else {
+
+        _endpointErrors[result.endpoint()].increment();
+      }
+    }
+
+    if (_results != null) {
+
+      _results.record(result);
+    }
+
+    if (_reporter != null) {
+
+      _reporter.record(result);
+    }
+  }
+
+  /**
+   * Method sets the interval reporter receiving every completed send.
+   *
+   * @param reporter -report-interval reporter, or null.
+   */
+  public void reporter(RestAPIClientReporter reporter) {
+
+    _reporter = reporter;
+  }
+
+  /**
+   * Method sets the writer receiving every completed send.
+   *
+   * @param results -results writer, or null.
+   */
+  public void results(RestAPIClientResults results) {
+
+    _results = results;
+  }
+
+  /**
+   * Method records the latency of one request.
+   *
+   * @param nanos latency in nanoseconds.
+   */
+  public void recordLatency(long nanos) {
+
+    _latency.record(nanos);
+  }
+
+  /**
+   * Method records the latency of one request sent during a profile stage.
+   *
+   * @param stage profile stage index.
+   * @param nanos latency in nanoseconds.
+   */
+  public void recordLatency(int stage, long nanos) {
+
+    _latency.record(nanos);
+
+    if (_stages != null) {
+
+      _stages[stage].record(nanos);
+    }
+  }
+
+  /**
+   * Method sets profile whose stages are reported separately.
+   *
+   * @param profile compiled load profile.
+   */
+  public void stages(RestAPIClientProfile profile) {
+
+    if (profile.stages() < 2) {
+
+      return;
+    }
+
+    _profile = profile;
+
+    _stages = new RestAPIClientHistogram[profile.stages()];
+
+    for (int s = 0; s < _stages.length; s++) {
+
+      _stages[s] = new RestAPIClientHistogram();
+    }
+  }
+
+  /**
+   * Method sets scenario whose endpoints are reported separately.
+   *
+   * @param scenario -scenario endpoints.
+   */
+  public void endpoints(RestAPIClientScenario scenario) {
+
+    _scenario = scenario;
+
+    _endpoints = new RestAPIClientHistogram[scenario.count()];
+
+    _endpointErrors = new LongAdder[scenario.count()];
+
+    for (int k = 0; k < _endpoints.length; k++) {
+
+      _endpoints[k] = new RestAPIClientHistogram();
+
+      _endpointErrors[k] = new LongAdder();
+    }
+  }
+
+  /**
+   * Method records how late a request was started compared with its intended
+   * start time.
+   *
+   * @param nanos lag in nanoseconds.
+   */
+  public void recordLag(long nanos) {
+
+    _lag.record(nanos);
+  }
+
+  /**
+   * Method prints summary of recorded values.
+   */
+  public void dump() {
+
+    if (_stages != null) {
+
+      for (int s = 0; s < _stages.length; s++) {
+
+        dump("stage " + (s + 1) + " " + _profile.name(s) + " latency", _stages[s]);
+      }
+    }
+
+    dump("latency", _latency);
+
+    dump("scheduler lag", _lag);
+  }
+
+  /**
+   * Method prints throughput and latency of each scenario endpoint.
+   *
+   * @param nanos run time in nanoseconds.
+   */
+  public void dumpEndpoints(long nanos) {
+
+    if (_endpoints == null) {
+
+      return;
+    }
+
+    double seconds = nanos / 1000000000.0;
+
+    for (int k = 0; k < _endpoints.length; k++) {
+
+      long count = _endpoints[k].count();
+
+      _logger.info("endpoint ",
+          _scenario.name(k),
+          ": ok=",
+          count,
+          " errors=",
+          _endpointErrors[k].sum(),
+          " ",
+          String.format("%.1f", count / seconds),
+          " req/s");
+
+      dump("endpoint " + _scenario.name(k) + " latency", _endpoints[k]);
+    }
+  }
+
+  /**
+   * Method marks the start of sending, for a run starting later than the
+   * stats were created.
+   */
+  public void start() {
+
+    _start = System.nanoTime();
+  }
+
+  /**
+   * Method marks the end of sending.
+   */
+  public void stop() {
+
+    _stop = System.nanoTime();
+  }
+
+  /**
+   * Method returns time from the start of sending to its end, or to now while
+   * sending.
+   *
+   * @return long elapsed time in nanoseconds.
+   */
+  public long elapsed() {
+
+    return (_stop == 0 ? System.nanoTime() : _stop) - _start;
+  }
+
+  /**
+   * Method returns number of completed sends, successful or not.
+   *
+   * @return long number of completed sends.
+   */
+  public long sent() {
+
+    return _sent.sum();
+  }
+
+  /**
+   * Method returns request latency histogram.
+   *
+   * @return RestAPIClientHistogram of latency in nanoseconds.
+   */
+  public RestAPIClientHistogram latency() {
+
+    return _latency;
+  }
+
+  /**
+   * Method returns scheduler lag histogram.
+   *
+   * @return RestAPIClientHistogram of lag in nanoseconds.
+   */
+  public RestAPIClientHistogram lag() {
+
+    return _lag;
+  }
+
+  /**
+   * Method prints summary line for histogram.
+   *
+   * @param title     name of value.
+   * @param histogram histogram of values in nanoseconds.
+   */
+  static void dump(String title, RestAPIClientHistogram histogram) {
+
+    long count = histogram.count();
+
+    if (count == 0) {
+
+      return;
+    }
+
+    _logger.info(title,
+        " ms: count=",
+        count,
+        " min=",
+        millis(histogram.min()),
+        " mean=",
+        millis((long) histogram.mean()),
+        " p50=",
+        millis(histogram.percentile(50.0)),
+        " p90=",
+        millis(histogram.percentile(90.0)),
+        " p99=",
+        millis(histogram.percentile(99.0)),
+        " p99.9=",
+        millis(histogram.percentile(99.9)),
+        " max=",
+        millis(histogram.max()));
+  }
+
+  /**
+   * Method formats nanoseconds as milliseconds.
+   *
+   * @param nanos value in nanoseconds.
+   * @return String containing value in milliseconds.
+   */
+  static String millis(long nanos) {
+
+    return String.format("%.3f", nanos / 1000000.0);
+  }
+
+  /**
+   * Start of sending in {@link System#nanoTime()} units, creation time unless
+   * marked.
+   */
+  private volatile long _start = System.nanoTime();
+
+  /**
+   * End of sending in {@link System#nanoTime()} units, 0 while sending.
+   */
+  private volatile long _stop = 0;
+
+  /**
+   * Number of completed sends.
+   */
+  private final LongAdder _sent = new LongAdder();
+
+  /**
+   * Request latency.
+   */
+  private final RestAPIClientHistogram _latency = new RestAPIClientHistogram();
+
+  /**
+   * Scheduler lag.
+   */
+  private final RestAPIClientHistogram _lag = new RestAPIClientHistogram();
+
+  /**
+   * Profile whose stages are reported separately.
+   */
+  private RestAPIClientProfile _profile = null;
+
+  /**
+   * Request latency per profile stage.
+   */
+  private RestAPIClientHistogram[] _stages = null;
+
+  /**
+   * Scenario whose endpoints are reported separately.
+   */
+  private RestAPIClientScenario _scenario = null;
+
+  /**
+   * Request latency per scenario endpoint.
+   */
+  private RestAPIClientHistogram[] _endpoints = null;
+
+  /**
+   * Failed sends per scenario endpoint.
+   */
+  private LongAdder[] _endpointErrors = null;
+
+  /**
+   * Writer receiving every completed send, or null.
+   */
+  private RestAPIClientResults _results = null;
+
+  /**
+   * Interval reporter receiving every completed send, or null.
+   */
+  private RestAPIClientReporter _reporter = null;
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientStats.class.getName());
+}
@@ -0,0 +1,260 @@
+package cc.tools.restapi.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * This class implements the -self-test stub server. It listens on loopback
+ * with the JDK http server and answers every request under the configured url
+ * with the same canned status and body after an optional delay. Each exchange
+ * runs on its own virtual thread so a delay never holds up other requests.
+ * The client run against it measures the client's own ceiling on this
+ * machine.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientStub {
+
+  /**
+   * Constructor {@link RestAPIClientStub}.
+   *
+   * @param server     bound server.
+   * @param delayNanos response delay in nanoseconds.
+   * @param status     response status.
+   * @param body       response body.
+   */
+  private RestAPIClientStub(HttpServer server, long delayNanos, int status, byte[] body) {
+
+    _server = server;
+
+    _delayNanos = delayNanos;
+
+    _status = status;
+
+    _body = body;
+  }
+
+  /**
+   * Method binds a stub server on loopback. The server is not started.
+   *
+   * @param port       port to listen on, or 0 for any free port.
+   * @param url        url prefix served.
+   * @param delayNanos response delay in nanoseconds.
+   * @param size       response body size in bytes.
+   * @param status     response status.
+   * @param errors     errors encountered are added to this list.
+   * @return RestAPIClientStub bound stub, or null on error.
+   */
+  static public RestAPIClientStub open(int port, String url, long delayNanos, int size, int status,
+      List<String> errors) {
+
+    // without TCP_NODELAY small responses stall on delayed acks and loopback
+    // throughput is capped at a few hundred requests per second per connection.
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+
+    try {
+
+      HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+
+      RestAPIClientStub stub = new RestAPIClientStub(server, delayNanos, status, body(size));
+
+      server.createContext(url.startsWith("/") ? url : "/" + url, stub::handle);
+
+      return stub;
+
+    } catch (IOException | RuntimeException e) {
+
+      errors.add("-" + RestAPIClientParameterKeys._KEY_SELF_TEST + " could not listen on loopback port " + port + " - " + e);
+    }
+
+    return null;
+  }
+
+  /**
+   * Method starts serving.
+   */
+  public void start() {
+
+    _server.setExecutor(_executor);
+
+    _server.start();
+
+    _start = System.nanoTime();
+  }
+
+  /**
+   * Method stops serving and prints the number of requests served.
+   */
+  public void stop() {
+
+    long nanos = System.nanoTime() - _start;
+
+    _server.stop(0);
+
+    _executor.shutdown();
+
+    try {
+
+      _executor.awaitTermination(1, TimeUnit.SECONDS);
+
+    } catch (InterruptedException e) {
+
+      Thread.currentThread().interrupt();
+    }
+
+    long served = _served.sum();
+
+    double seconds = nanos / 1000000000.0;
+
+    _logger.info("self-test: stub served ",
+        served,
+        " requests in ",
+        String.format("%.3f", seconds),
+        " s, client sustained ",
+        String.format("%.1f", served / seconds),
+        " req/s");
+  }
+
+  /**
+   * Method returns the port listened on.
+   *
+   * @return int port.
+   */
+  public int port() {
+
+    return _server.getAddress().getPort();
+  }
+
+  /**
+   * Method handles one exchange. The request body is drained so the
+   * connection can be reused. Statuses that cannot carry a body get none.
+   *
+   * @param exchange http exchange.
+   * @throws IOException on connection errors.
+   */
+  private void handle(HttpExchange exchange) throws IOException {
+
+    try (exchange) {
+
+      try (InputStream in = exchange.getRequestBody()) {
+
+        in.transferTo(OutputStream.nullOutputStream());
+      }
+
+      if (_delayNanos > 0) {
+
+        try {
+
+          TimeUnit.NANOSECONDS.sleep(_delayNanos);
+
+        } catch (InterruptedException e) {
+
+          return;
+        }
+      }
+
+      boolean hasBody = _body.length > 0 && _status >= 200 && _status != 204 && _status != 304;
+
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+
+      exchange.sendResponseHeaders(_status, hasBody ? _body.length : -1);
+
+      if (hasBody) {
+
+        try (OutputStream out = exchange.getResponseBody()) {
+
+          out.write(_body);
+        }
+      }
+
+      _served.increment();
+    }
+  }
+
+  /**
+   * Method builds the canned body. Bodies of
+   * {@value _MINIMUM_JSON_BYTES} bytes or more are a json object padded to
+   * the exact size.
+   *
+   * @param size body size in bytes.
+   * @return byte[] body.
+   */
+  static byte[] body(int size) {
+
+    byte[] body = new byte[size];
+
+    Arrays.fill(body, (byte) 'x');
+
+    if (size >= _MINIMUM_JSON_BYTES) {
+
+      byte[] open = "{\"pad\":\"".getBytes();
+
+      System.arraycopy(open, 0, body, 0, open.length);
+
+      body[size - 2] = '"';
+
+      body[size - 1] = '}';
+    }
+
+    return body;
+  }
+
+  /**
+   * Smallest body padded as json '{@value _MINIMUM_JSON_BYTES}' bytes.
+   */
+  private static final int _MINIMUM_JSON_BYTES = 10;
+
+  /**
+   * Bound server.
+   */
+  private final HttpServer _server;
+
+  /**
+   * Executor running one virtual thread per exchange.
+   */
+  private final ExecutorService _executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  /**
+   * Response delay in nanoseconds.
+   */
+  private final long _delayNanos;
+
+  /**
+   * Response status.
+   */
+  private final int _status;
+
+  /**
+   * Response body.
+   */
+  private final byte[] _body;
+
+  /**
+   * Number of requests served.
+   */
+  private final LongAdder _served = new LongAdder();
+
+  /**
+   * Start time in {@link System#nanoTime()} units.
+   */
+  private long _start;
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientStub.class.getName());
+}
@@ -0,0 +1,136 @@
+package cc.tools.restapi.client;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * This class implements a large request body for -upload-file. The file is
+ * mapped read-only once, in chunks of at most
+ * {@value RestAPIClientCorpus#_MAXIMUM_CHUNK_BYTES} bytes, and every send
+ * publishes views of the same mapping. The body never passes through a String
+ * and no per-request copy of it is made.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientUpload {
+
+  /**
+   * Constructor {@link RestAPIClientUpload}.
+   *
+   * @param chunks mapped chunks.
+   * @param size   file size in bytes.
+   */
+  private RestAPIClientUpload(ByteBuffer[] chunks, long size) {
+
+    _chunks = chunks;
+
+    _size = size;
+  }
+
+  /**
+   * Method maps an upload file.
+   *
+   * @param filename name of upload file.
+   * @param errors   errors encountered are added to this list.
+   * @return RestAPIClientUpload mapped upload, or null on error.
+   */
+  static public RestAPIClientUpload open(String filename, List<String> errors) {
+
+    try (FileChannel channel = FileChannel.open(Path.of(filename), StandardOpenOption.READ)) {
+
+      long size = channel.size();
+
+      int count = (int) ((size + RestAPIClientCorpus._MAXIMUM_CHUNK_BYTES - 1) / RestAPIClientCorpus._MAXIMUM_CHUNK_BYTES);
+
+      ByteBuffer[] chunks = new ByteBuffer[count];
+
+      for (int c = 0; c < count; c++) {
+
+        long position = c * RestAPIClientCorpus._MAXIMUM_CHUNK_BYTES;
+
+        chunks[c] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+            Math.min(RestAPIClientCorpus._MAXIMUM_CHUNK_BYTES, size - position));
+      }
+
+      return new RestAPIClientUpload(chunks, size);
+
+    } catch (IOException | RuntimeException e) {
+
+      errors.add("-" + RestAPIClientParameterKeys._KEY_UPLOAD_FILE + " '" + filename + "' not accessible - " + e);
+    }
+
+    return null;
+  }
+
+  /**
+   * Method returns a body publisher for a send.
+   *
+   * @return HttpRequest.BodyPublisher publishing the mapped file.
+   */
+  public HttpRequest.BodyPublisher publisher() {
+
+    return new RestAPIClientBufferPublisher(_chunks);
+  }
+
+  /**
+   * Method returns upload size.
+   *
+   * @return long number of bytes per upload.
+   */
+  public long size() {
+
+    return _size;
+  }
+
+  /**
+   * Method prints upload throughput.
+   *
+   * @param uploads number of completed uploads.
+   * @param nanos   elapsed time in nanoseconds.
+   */
+  public void dump(long uploads, long nanos) {
+
+    if (uploads == 0 || nanos <= 0) {
+
+      return;
+    }
+
+    double megabytes = uploads * (double) _size / 1000000.0;
+
+    double seconds = nanos / 1000000000.0;
+
+    _logger.info("upload: ",
+        uploads,
+        " bodies of ",
+        _size,
+        " bytes, ",
+        String.format("%.3f", megabytes),
+        " MB in ",
+        String.format("%.3f", seconds),
+        " s, ",
+        String.format("%.3f", megabytes / seconds),
+        " MB/s");
+  }
+
+  /**
+   * Mapped chunks.
+   */
+  private final ByteBuffer[] _chunks;
+
+  /**
+   * File size in bytes.
+   */
+  private final long _size;
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientUpload.class.getName());
+}
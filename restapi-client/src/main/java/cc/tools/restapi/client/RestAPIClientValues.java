@@ -1,5 +1,7 @@
 package cc.tools.restapi.client;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.*;
 
 /**
@@ -26,6 +28,8 @@ public class RestAPIClientValues {
 
     Map<String, String> values = new HashMap<String, String>();
 
+    _args = args.clone();
+
     _status = RestAPIClientParameterKeys.load(args, values, _errors);
 
     if (_status != RestAPIClientConfig.VALUES_STATUS.VALUES_STATUS_OK) {
@@ -63,6 +67,107 @@ public class RestAPIClientValues {
     return _action;
   }
 
+  /**
+   * Method returns the {@link #_adaptive} configuration value.
+   * 
+   * @return String -adaptive algorithm, 'off' if the limit is fixed.
+   */
+  protected String getAdaptive() {
+    
+    return _adaptive;
+  }
+
+  /**
+   * Method returns the {@link #_agent} configuration value.
+   * 
+   * @return int -agent listening port, 0 if not an agent.
+   */
+  protected int getAgent() {
+    
+    return _agent;
+  }
+
+  /**
+   * Method returns the {@link #_agentBind} configuration value.
+   * 
+   * @return String -agent listening address.
+   */
+  protected String getAgentBind() {
+    
+    return _agentBind;
+  }
+
+  /**
+   * Method returns the {@link #_agentToken} configuration value.
+   * 
+   * @return String token shared by coordinator and agents, empty if not set.
+   */
+  protected String getAgentToken() {
+    
+    return _agentToken;
+  }
+
+  /**
+   * Method returns the {@link #_args} configuration value.
+   * 
+   * @return String[] command line arguments as given.
+   */
+  protected String[] getArgs() {
+    
+    return _args;
+  }
+
+  /**
+   * Method returns the {@link #_assertions} configuration value.
+   * 
+   * @return RestAPIClientAssertions -assert assertions, or null if -assert is
+   *         not set.
+   */
+  protected RestAPIClientAssertions getAssertions() {
+    
+    return _assertions;
+  }
+
+  /**
+   * Method returns the {@link #_body} configuration value.
+   * 
+   * @return String response body handling mode.
+   */
+  protected String getBody() {
+    
+    return _body;
+  }
+
+  /**
+   * Method returns the {@link #_concurrency} configuration value.
+   * 
+   * @return int number of concurrent workers sending to the server.
+   */
+  protected int getConcurrency() {
+    
+    return _concurrency;
+  }
+
+  /**
+   * Method returns the {@link #_connectTimeout} configuration value.
+   * 
+   * @return int connect timeout in milliseconds.
+   */
+  protected int getConnectTimeout() {
+    
+    return _connectTimeout;
+  }
+
+  /**
+   * Method returns the {@link #_coordinator} configuration value.
+   * 
+   * @return String[] -coordinator agent addresses as host:port, or null.
+   */
+  protected String[] getCoordinator() {
+    
+    return _coordinator;
+  }
+
   /**
    * Method returns the {@link #_count} configuration value.
    * 
@@ -83,6 +188,46 @@ public class RestAPIClientValues {
     return _entity;
   }
 
+  /**
+   * Method returns the {@link #_findMax} configuration value.
+   * 
+   * @return boolean true if -find-max searches for the highest rate meeting -slo.
+   */
+  protected boolean getFindMax() {
+    
+    return _findMax;
+  }
+
+  /**
+   * Method returns the {@link #_executor} configuration value.
+   * 
+   * @return String http client executor.
+   */
+  protected String getExecutor() {
+    
+    return _executor;
+  }
+
+  /**
+   * Method returns the {@link #_hedge} configuration value.
+   * 
+   * @return RestAPIClientHedge -hedge hedge, or null if -hedge is off.
+   */
+  protected RestAPIClientHedge getHedge() {
+    
+    return _hedge;
+  }
+
+  /**
+   * Method returns the {@link #_hedgeText} configuration value.
+   * 
+   * @return String hedge delay as given, '0' for off.
+   */
+  protected String getHedgeText() {
+    
+    return _hedgeText;
+  }
+
   /**
    * Method returns {@link #_hostname} configuration value.
    * 
@@ -93,6 +238,36 @@ public class RestAPIClientValues {
     return _hostname;
   }
 
+  /**
+   * Method returns the {@link #_httpVersion} configuration value.
+   * 
+   * @return String http version.
+   */
+  protected String getHttpVersion() {
+    
+    return _httpVersion;
+  }
+
+  /**
+   * Method returns the {@link #_inflight} configuration value.
+   * 
+   * @return int maximum outstanding asynchronous sends. 0 indicates blocking sends.
+   */
+  protected int getInflight() {
+    
+    return _inflight;
+  }
+
+  /**
+   * Method returns the {@link #_limiter} configuration value.
+   * 
+   * @return RestAPIClientLimiter -adaptive limiter, or null if -adaptive is off.
+   */
+  protected RestAPIClientLimiter getLimiter() {
+    
+    return _limiter;
+  }
+
   /**
    * Method returns {@link #_log} configuration value.
    * 
@@ -103,6 +278,16 @@ public class RestAPIClientValues {
     return _log;
   }
 
+  /**
+   * Method returns {@link #_logAsync} configuration value.
+   * 
+   * @return String asynchronous logging policy, 'off' if synchronous.
+   */
+  protected String getLogAsync() {
+    
+    return _logAsync;
+  }
+
   /**
    * Method returns the {@link #_payload} configuration value.
    * 
@@ -113,6 +298,58 @@ public class RestAPIClientValues {
     return _payload;
   }
 
+  /**
+   * Method returns the {@link #_poolSize} configuration value.
+   * 
+   * @return int http connection pool size. 0 indicates client default.
+   */
+  protected int getPoolSize() {
+    
+    return _poolSize;
+  }
+
+  /**
+   * Method returns the {@link #_corpus} configuration value.
+   * 
+   * @return RestAPIClientCorpus mapped -payload-file corpus, or null if
+   *         -payload-file is not set.
+   */
+  protected RestAPIClientCorpus getCorpus() {
+    
+    return _corpus;
+  }
+
+  /**
+   * Method returns the {@link #_payloadFile} configuration value.
+   * 
+   * @return String payload corpus file name.
+   */
+  protected String getPayloadFile() {
+    
+    return _payloadFile;
+  }
+
+  /**
+   * Method returns the {@link #_payloadOrder} configuration value.
+   * 
+   * @return String payload corpus record order.
+   */
+  protected String getPayloadOrder() {
+    
+    return _payloadOrder;
+  }
+
+  /**
+   * Method returns the {@link #_payloadTemplate} configuration value.
+   * 
+   * @return RestAPIClientPayloadTemplate compiled -payload for -unique, or null
+   *         if -unique is not set.
+   */
+  protected RestAPIClientPayloadTemplate getPayloadTemplate() {
+    
+    return _payloadTemplate;
+  }
+
   /**
    * String Method returns {@link #_port} configuration value.
    * 
@@ -123,6 +360,26 @@ public class RestAPIClientValues {
     return _port;
   }
 
+  /**
+   * Method returns the {@link #_profile} configuration value.
+   * 
+   * @return RestAPIClientProfile compiled load profile, or null if not set.
+   */
+  protected RestAPIClientProfile getProfile() {
+    
+    return _profile;
+  }
+
+  /**
+   * Method returns the {@link #_profileText} configuration value.
+   * 
+   * @return String load profile text.
+   */
+  protected String getProfileText() {
+    
+    return _profileText;
+  }
+
   /**
    * Method returns {@link #_protocol} configuration value.
    * 
@@ -133,6 +390,16 @@ public class RestAPIClientValues {
     return _protocol;
   }
 
+  /**
+   * Method returns the {@link #_rate} configuration value.
+   * 
+   * @return long open-loop send rate per second. 0 indicates closed loop.
+   */
+  protected long getRate() {
+    
+    return _rate;
+  }
+
   /**
    * Method returns the {@link #_sleep} configuration value.
    * 
@@ -143,6 +410,158 @@ public class RestAPIClientValues {
     return _sleep;
   }
 
+  /**
+   * Method returns the {@link #_reportInterval} configuration value.
+   * 
+   * @return long report interval in nanoseconds, 0 if off.
+   */
+  protected long getReportInterval() {
+    
+    return _reportInterval;
+  }
+
+  /**
+   * Method returns the {@link #_reportIntervalText} configuration value.
+   * 
+   * @return String report interval text.
+   */
+  protected String getReportIntervalText() {
+    
+    return _reportIntervalText;
+  }
+
+  /**
+   * Method returns the {@link #_results} configuration value.
+   * 
+   * @return String per-request result file name, empty if not set.
+   */
+  protected String getResults() {
+    
+    return _results;
+  }
+
+  /**
+   * Method returns the {@link #_retry} configuration value.
+   * 
+   * @return RestAPIClientRetry -retry policy, or null if -retry is 0.
+   */
+  protected RestAPIClientRetry getRetry() {
+    
+    return _retry;
+  }
+
+  /**
+   * Method returns the {@link #_retries} configuration value.
+   * 
+   * @return int maximum retries per send.
+   */
+  protected int getRetries() {
+    
+    return _retries;
+  }
+
+  /**
+   * Method returns the {@link #_retryBackoffText} configuration value.
+   * 
+   * @return String backoff before the first retry as given.
+   */
+  protected String getRetryBackoffText() {
+    
+    return _retryBackoffText;
+  }
+
+  /**
+   * Method returns the {@link #_scenario} configuration value.
+   * 
+   * @return RestAPIClientScenario -scenario endpoints, or null if -scenario is
+   *         not set.
+   */
+  protected RestAPIClientScenario getScenario() {
+    
+    return _scenario;
+  }
+
+  /**
+   * Method returns the {@link #_scenarioFile} configuration value.
+   * 
+   * @return String scenario file name.
+   */
+  protected String getScenarioFile() {
+    
+    return _scenarioFile;
+  }
+
+  /**
+   * Method returns the {@link #_selfTest} configuration value.
+   * 
+   * @return boolean true if -self-test is set.
+   */
+  protected boolean getSelfTest() {
+    
+    return _selfTest;
+  }
+
+  /**
+   * Method returns the {@link #_stubDelay} configuration value.
+   * 
+   * @return long stub response delay in nanoseconds.
+   */
+  protected long getStubDelay() {
+    
+    return _stubDelay;
+  }
+
+  /**
+   * Method returns the {@link #_stubDelayText} configuration value.
+   * 
+   * @return String stub response delay text.
+   */
+  protected String getStubDelayText() {
+    
+    return _stubDelayText;
+  }
+
+  /**
+   * Method returns the {@link #_stubSize} configuration value.
+   * 
+   * @return int stub response body size in bytes.
+   */
+  protected int getStubSize() {
+    
+    return _stubSize;
+  }
+
+  /**
+   * Method returns the {@link #_stubStatus} configuration value.
+   * 
+   * @return int stub response status.
+   */
+  protected int getStubStatus() {
+    
+    return _stubStatus;
+  }
+
+  /**
+   * Method returns the {@link #_upload} configuration value.
+   * 
+   * @return RestAPIClientUpload mapped -upload-file body, or null if
+   *         -upload-file is not set.
+   */
+  protected RestAPIClientUpload getUpload() {
+    
+    return _upload;
+  }
+
+  /**
+   * Method returns the {@link #_uploadFile} configuration value.
+   * 
+   * @return String upload file name.
+   */
+  protected String getUploadFile() {
+    
+    return _uploadFile;
+  }
+
   /**
    * Method returns the {@link #_unique} configuration value.
    * 
@@ -163,6 +582,152 @@ public class RestAPIClientValues {
     return _url;
   }
 
+  /**
+   * Method returns the {@link #_slo} configuration value.
+   * 
+   * @return RestAPIClientSlo -slo objective, or null without -find-max.
+   */
+  protected RestAPIClientSlo getSlo() {
+    
+    return _slo;
+  }
+
+  /**
+   * Method returns the {@link #_trial} configuration value.
+   * 
+   * @return long counted length of a -find-max trial in nanoseconds.
+   */
+  protected long getTrial() {
+    
+    return _trial;
+  }
+
+  /**
+   * Method returns the {@link #_trialText} configuration value.
+   * 
+   * @return String trial length as given.
+   */
+  protected String getTrialText() {
+    
+    return _trialText;
+  }
+
+  /**
+   * Method returns the {@link #_warmup} configuration value.
+   * 
+   * @return long uncounted start of a -find-max trial in nanoseconds.
+   */
+  protected long getWarmup() {
+    
+    return _warmup;
+  }
+
+  /**
+   * Method returns the {@link #_warmupText} configuration value.
+   * 
+   * @return String warmup length as given.
+   */
+  protected String getWarmupText() {
+    
+    return _warmupText;
+  }
+
+  /**
+   * Method returns the {@link #_workflow} configuration value.
+   * 
+   * @return RestAPIClientWorkflow -workflow steps, or null if -workflow is not
+   *         set.
+   */
+  protected RestAPIClientWorkflow getWorkflow() {
+    
+    return _workflow;
+  }
+
+  /**
+   * Method returns the {@link #_workflowFile} configuration value.
+   * 
+   * @return String workflow file name.
+   */
+  protected String getWorkflowFile() {
+    
+    return _workflowFile;
+  }
+
+  /**
+   * Method returns the {@link #_seqStart} configuration value.
+   * 
+   * @return long message number of the first open-loop send.
+   */
+  protected long getSeqStart() {
+    
+    return _seqStart;
+  }
+
+  /**
+   * Method returns a numeric parameter value checked against a range. When the
+   * parameter is absent the default value is stored and returned.
+   * 
+   * @param values       contains all loaded configuration parameter values.
+   * @param key          parameter name.
+   * @param defaultValue value used when parameter is not present.
+   * @param minimum      smallest allowed value.
+   * @param maximum      largest allowed value.
+   * @return Long containing value, or null if value is invalid.
+   */
+  private Long getBoundedLong(Map<String, String> values, String key, long defaultValue, long minimum, long maximum) {
+  
+    if (!values.containsKey(key)) {
+      
+      values.put(key, Long.toString(defaultValue));
+      
+      return defaultValue;
+    }
+    
+    String token = values.get(key).trim();
+  
+    long value = -1;
+    
+    try {
+  
+      value = Long.parseLong(token);
+  
+    } catch (NumberFormatException e) {
+  
+      _errors.add("-" + key + " is invalid number");
+  
+      return null;
+    }
+    
+    if (value < minimum || value > maximum) {
+      
+      StringBuilder buffer = new StringBuilder();
+      
+      buffer.append("-");
+      buffer.append(key);
+      buffer.append(" must be between ");
+      buffer.append(minimum);
+      buffer.append(" and ");
+      buffer.append(maximum);
+      
+      _errors.add(buffer.toString());
+      
+      return null;
+    }
+    
+    return value;
+  }
+
+  /**
+   * Method returns whether an action sends a payload.
+   * 
+   * @param action action name.
+   * @return boolean true for post and put, false otherwise.
+   */
+  static boolean hasBody(String action) {
+  
+    return action.compareTo(_ACTION_POST) == 0 || action.compareTo(_ACTION_PUT) == 0;
+  }
+
   /**
    * Method to store 'mandatory parameter missing' error.
    * 
@@ -176,55 +741,291 @@ public class RestAPIClientValues {
     buffer.append(parameterName);
     buffer.append(" missing");
   
-    _errors.add(buffer.toString());
+    _errors.add(buffer.toString());
+  }
+
+  /**
+   * Method to store 'parameter value invalid' error.
+   * 
+   * @param parameterName name of parameter to report.
+   */
+  private void logInvalidParameterError(String parameterName) {
+  
+    StringBuilder buffer = new StringBuilder();
+  
+    buffer.append("parameter -");
+    buffer.append(parameterName);
+    buffer.append(" value invalid");
+  
+    _errors.add(buffer.toString());
+  }
+
+  /**
+   * Method sets parameter fields {@link _agent} and {@link _agentBind} from
+   * {@value RestAPIClientParameterKeys#_KEY_AGENT} and
+   * {@value RestAPIClientParameterKeys#_KEY_AGENT_BIND}. An agent takes every
+   * other parameter from the coordinator, so only -agent-token, -log and
+   * -log-async may be given with it. The agent listens on loopback unless
+   * -agent-bind is given.
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setAgent(Map<String, String> values) {
+  
+    for (String key : values.keySet()) {
+      
+      if (key.compareTo(RestAPIClientParameterKeys._KEY_AGENT) != 0 && key.compareTo(RestAPIClientParameterKeys._KEY_AGENT_BIND) != 0
+          && key.compareTo(RestAPIClientParameterKeys._KEY_AGENT_TOKEN) != 0 && key.compareTo(RestAPIClientParameterKeys._KEY_LOG) != 0
+          && key.compareTo(RestAPIClientParameterKeys._KEY_LOG_ASYNC) != 0) {
+        
+        _errors.add("-" + RestAPIClientParameterKeys._KEY_AGENT + " takes its parameters from the coordinator. only -"
+            + RestAPIClientParameterKeys._KEY_AGENT_BIND + ", -" + RestAPIClientParameterKeys._KEY_AGENT_TOKEN + ", -"
+            + RestAPIClientParameterKeys._KEY_LOG + " and -" + RestAPIClientParameterKeys._KEY_LOG_ASYNC + " can be given, not -" + key);
+        
+        return false;
+      }
+    }
+    
+    Long agent = getBoundedLong(values, RestAPIClientParameterKeys._KEY_AGENT, 0, 1, _MAXIMUM_PORT);
+    
+    if (agent == null || !setLog(values) || !setLogAsync(values) || !setAgentToken(values)) {
+      
+      return false;
+    }
+    
+    String bind = values.getOrDefault(RestAPIClientParameterKeys._KEY_AGENT_BIND, "").trim();
+    
+    if (bind.isEmpty()) {
+      
+      bind = InetAddress.getLoopbackAddress().getHostAddress();
+    }
+    
+    try {
+      
+      InetAddress.getByName(bind);
+      
+    } catch (UnknownHostException e) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_AGENT_BIND + " address '" + bind + "' unknown");
+      
+      return false;
+    }
+    
+    _agent = agent.intValue();
+    
+    _agentBind = bind;
+    
+    return true;
+  }
+
+  /**
+   * Method sets parameter field {@link _agentToken} from
+   * {@value RestAPIClientParameterKeys#_KEY_AGENT_TOKEN}. The token is needed
+   * by -agent and -coordinator, has at least {@value _MINIMUM_AGENT_TOKEN}
+   * characters and no white space.
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setAgentToken(Map<String, String> values) {
+  
+    String token = values.getOrDefault(RestAPIClientParameterKeys._KEY_AGENT_TOKEN, "").trim();
+    
+    if (token.length() < _MINIMUM_AGENT_TOKEN || !token.matches(_AGENT_TOKEN_PATTERN)) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_AGENT + " and -" + RestAPIClientParameterKeys._KEY_COORDINATOR
+          + " need -" + RestAPIClientParameterKeys._KEY_AGENT_TOKEN + " of at least " + _MINIMUM_AGENT_TOKEN
+          + " characters without white space, the same on every agent and the coordinator");
+      
+      return false;
+    }
+    
+    _agentToken = token;
+    
+    return true;
+  }
+
+  /**
+   * Method sets parameter fields {@link _adaptive} and {@link _limiter} from
+   * {@value RestAPIClientParameterKeys#_KEY_ADAPTIVE}. The limit adapts
+   * pipelined sends, so -inflight is needed and is the largest limit.
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setAdaptive(Map<String, String> values) {
+  
+    _adaptive = values.getOrDefault(RestAPIClientParameterKeys._KEY_ADAPTIVE, _ADAPTIVE_OFF).trim().toLowerCase();
+    
+    values.put(RestAPIClientParameterKeys._KEY_ADAPTIVE, _adaptive);
+    
+    if (_adaptive.compareTo(_ADAPTIVE_OFF) == 0) {
+      
+      return true;
+    }
+    
+    if (_inflight == 0 || _rate > 0 || _profile != null) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_ADAPTIVE + " needs -" + RestAPIClientParameterKeys._KEY_INFLIGHT
+          + " <maximum> and cannot be used with -" + RestAPIClientParameterKeys._KEY_RATE + " or -" + RestAPIClientParameterKeys._KEY_PROFILE);
+      
+      return false;
+    }
+    
+    _limiter = RestAPIClientLimiter.parse(_adaptive, _inflight,
+        _reportInterval > 0 ? _reportInterval : _DEFAULT_ADAPTIVE_LOG_NANOS, _errors);
+    
+    return _limiter != null;
+  }
+
+  /**
+   * Method sets parameter field {@link _action} from
+   * {@link RestAPIClientParameterKeys#_KEY_ACTION}
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setAction(Map<String, String> values) {
+  
+    if (_scenario != null || _workflow != null) {
+      
+      _action = _scenario != null ? RestAPIClientParameterKeys._KEY_SCENARIO : RestAPIClientParameterKeys._KEY_WORKFLOW;
+      
+      values.put(RestAPIClientParameterKeys._KEY_ACTION, _action);
+      
+      return true;
+    }
+    
+    if (values.containsKey(RestAPIClientParameterKeys._KEY_ACTION)) {
+  
+      _action = values.get(RestAPIClientParameterKeys._KEY_ACTION).toLowerCase();
+  
+      if (_action.compareTo(RestAPIClientValues._ACTION_DELETE) == 0 ||
+          _action.compareTo(RestAPIClientValues._ACTION_GET)    == 0 ||
+          _action.compareTo(RestAPIClientValues._ACTION_POST)   == 0 ||
+          _action.compareTo(RestAPIClientValues._ACTION_PUT)    == 0) {
+       
+        return true;
+        
+      } else {
+        
+        logInvalidParameterError(RestAPIClientParameterKeys._KEY_ACTION);
+      }
+    } else {
+      
+      logMissingParameterError(RestAPIClientParameterKeys._KEY_ACTION);
+    }
+  
+    return false;
+  }
+
+  /**
+   * Method sets parameter field {@link _assertions} from
+   * {@value RestAPIClientParameterKeys#_KEY_ASSERT}. Assertions read response
+   * bodies themselves, so -body cannot be set with them. -workflow steps are
+   * not asserted.
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setAssert(Map<String, String> values) {
+  
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_ASSERT)) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_ASSERT, "");
+      
+      return true;
+    }
+    
+    if (values.containsKey(RestAPIClientParameterKeys._KEY_BODY) || _workflow != null) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_ASSERT + " cannot be used with -" + RestAPIClientParameterKeys._KEY_BODY + " or -" + RestAPIClientParameterKeys._KEY_WORKFLOW);
+      
+      return false;
+    }
+    
+    _assertions = RestAPIClientAssertions.parse(values.get(RestAPIClientParameterKeys._KEY_ASSERT), _errors);
+    
+    return _assertions != null;
+  }
+
+  /**
+   * Method sets parameter field {@link _body} from
+   * {@link RestAPIClientParameterKeys#_KEY_BODY}. One of 'keep', 'discard',
+   * 'count' or 'checksum'.
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setBody(Map<String, String> values) {
+  
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_BODY)) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_BODY, RestAPIClientBody._BODY_KEEP);
+      
+      _body = RestAPIClientBody._BODY_KEEP;
+      
+      return true;
+    }
+    
+    String body = values.get(RestAPIClientParameterKeys._KEY_BODY).trim().toLowerCase();
+    
+    if (body.compareTo(RestAPIClientBody._BODY_KEEP)     == 0 ||
+        body.compareTo(RestAPIClientBody._BODY_DISCARD)  == 0 ||
+        body.compareTo(RestAPIClientBody._BODY_COUNT)    == 0 ||
+        body.compareTo(RestAPIClientBody._BODY_CHECKSUM) == 0) {
+      
+      _body = body;
+      
+      return true;
+    }
+    
+    logInvalidParameterError(RestAPIClientParameterKeys._KEY_BODY);
+  
+    return false;
   }
 
   /**
-   * Method to store 'parameter value invalid' error.
-   * 
-   * @param parameterName name of parameter to report.
+   * Method sets parameter field {@link _concurrency} from
+   * {@link RestAPIClientParameterKeys#_KEY_CONCURRENCY}
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
    */
-  private void logInvalidParameterError(String parameterName) {
-  
-    StringBuilder buffer = new StringBuilder();
+  private boolean setConcurrency(Map<String, String> values) {
   
-    buffer.append("parameter -");
-    buffer.append(parameterName);
-    buffer.append(" value invalid");
+    Long concurrency = getBoundedLong(values, RestAPIClientParameterKeys._KEY_CONCURRENCY, 1, 1, _MAXIMUM_CONCURRENCY);
+    
+    if (concurrency == null) {
+      
+      return false;
+    }
+    
+    _concurrency = concurrency.intValue();
   
-    _errors.add(buffer.toString());
+    return true;
   }
 
   /**
-   * Method sets parameter field {@link _action} from
-   * {@link RestAPIClientParameterKeys#_KEY_ACTION}
+   * Method sets parameter field {@link _connectTimeout} from
+   * {@link RestAPIClientParameterKeys#_KEY_CONNECT_TIMEOUT}
    *
    * @param values contains all loaded configuration parameter values.
    * @return boolean indicating success or fail.
    */
-  private boolean setAction(Map<String, String> values) {
-  
-    if (values.containsKey(RestAPIClientParameterKeys._KEY_ACTION)) {
+  private boolean setConnectTimeout(Map<String, String> values) {
   
-      _action = values.get(RestAPIClientParameterKeys._KEY_ACTION).toLowerCase();
-  
-      if (_action.compareTo(RestAPIClientValues._ACTION_DELETE) == 0 ||
-          _action.compareTo(RestAPIClientValues._ACTION_GET)    == 0 ||
-          _action.compareTo(RestAPIClientValues._ACTION_POST)   == 0 ||
-          _action.compareTo(RestAPIClientValues._ACTION_PUT)    == 0) {
-       
-        return true;
-        
-      } else {
-        
-        logInvalidParameterError(RestAPIClientParameterKeys._KEY_ACTION);
-      }
-    } else {
+    Long timeout = getBoundedLong(values, RestAPIClientParameterKeys._KEY_CONNECT_TIMEOUT, 10000, 1, 600000);
+    
+    if (timeout == null) {
       
-      logMissingParameterError(RestAPIClientParameterKeys._KEY_ACTION);
+      return false;
     }
+    
+    _connectTimeout = timeout.intValue();
   
-    return false;
+    return true;
   }
 
   /**
@@ -289,6 +1090,13 @@ public class RestAPIClientValues {
   
     String entity = null;
     
+    if (_scenario != null || _workflow != null) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_ENTITY, "");
+      
+      return true;
+    }
+    
     if (values.containsKey(RestAPIClientParameterKeys._KEY_ENTITY)) {
   
       entity = values.get(RestAPIClientParameterKeys._KEY_ENTITY).trim();
@@ -312,6 +1120,236 @@ public class RestAPIClientValues {
     return false;
   }
 
+  /**
+   * Method sets parameter fields {@link _findMax}, {@link _slo}, {@link _trial}
+   * and {@link _warmup} from {@value RestAPIClientParameterKeys#_KEY_FIND_MAX},
+   * {@value RestAPIClientParameterKeys#_KEY_SLO},
+   * {@value RestAPIClientParameterKeys#_KEY_TRIAL} and
+   * {@value RestAPIClientParameterKeys#_KEY_WARMUP}. -slo, -trial and -warmup
+   * are only used by -find-max, which runs its own fixed-rate trials.
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setFindMax(Map<String, String> values) {
+  
+    _trialText = values.getOrDefault(RestAPIClientParameterKeys._KEY_TRIAL, _DEFAULT_TRIAL).trim();
+    
+    _warmupText = values.getOrDefault(RestAPIClientParameterKeys._KEY_WARMUP, _DEFAULT_WARMUP).trim();
+    
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_FIND_MAX)) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_FIND_MAX, "");
+      
+      for (String key : new String[] { RestAPIClientParameterKeys._KEY_SLO,
+          RestAPIClientParameterKeys._KEY_TRIAL, RestAPIClientParameterKeys._KEY_WARMUP }) {
+        
+        if (values.containsKey(key)) {
+          
+          _errors.add("-" + key + " can only be used with -" + RestAPIClientParameterKeys._KEY_FIND_MAX);
+          
+          return false;
+        }
+        
+        values.put(key, "");
+      }
+      
+      return true;
+    }
+    
+    String value = values.get(RestAPIClientParameterKeys._KEY_FIND_MAX);
+    
+    if (!(value == null || value.isBlank())) {
+      
+      _errors.add("flag parameter -" + RestAPIClientParameterKeys._KEY_FIND_MAX + " should not have a value");
+      
+      return false;
+    }
+    
+    _findMax = true;
+    
+    values.put(RestAPIClientParameterKeys._KEY_TRIAL, _trialText);
+    
+    values.put(RestAPIClientParameterKeys._KEY_WARMUP, _warmupText);
+    
+    if (_profile != null || _inflight > 0) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_FIND_MAX + " sets the rate itself and cannot be used with -"
+          + RestAPIClientParameterKeys._KEY_PROFILE + " or -" + RestAPIClientParameterKeys._KEY_INFLIGHT);
+      
+      return false;
+    }
+    
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_SLO)) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_FIND_MAX + " needs -" + RestAPIClientParameterKeys._KEY_SLO + " such as 'p99<200ms'");
+      
+      return false;
+    }
+    
+    _trial = RestAPIClientProfile.durationNanos(_trialText);
+    
+    _warmup = RestAPIClientProfile.durationNanos(_warmupText);
+    
+    if (_trial < _MINIMUM_TRIAL_NANOS || _warmup < 0) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_TRIAL + " must be a duration of at least 1s and -"
+          + RestAPIClientParameterKeys._KEY_WARMUP + " a duration such as '2s'");
+      
+      return false;
+    }
+    
+    _slo = RestAPIClientSlo.parse(values.get(RestAPIClientParameterKeys._KEY_SLO), _errors);
+    
+    return _slo != null;
+  }
+
+  /**
+   * Method sets parameter field {@link _coordinator} from
+   * {@value RestAPIClientParameterKeys#_KEY_COORDINATOR}, a list of agent
+   * addresses such as 'host1:7000,host2:7000'. The coordinator splits -rate
+   * and -count across the agents, so -rate is needed and -profile, -inflight
+   * and -find-max are not supported. Agents read and write no files, so
+   * -results, -upload-file, -payload-file, -scenario and -workflow cannot be
+   * forwarded.
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setCoordinator(Map<String, String> values) {
+  
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_COORDINATOR)) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_COORDINATOR, "");
+      
+      if (values.containsKey(RestAPIClientParameterKeys._KEY_AGENT_TOKEN)) {
+        
+        _errors.add("-" + RestAPIClientParameterKeys._KEY_AGENT_TOKEN + " can only be used with -" + RestAPIClientParameterKeys._KEY_COORDINATOR
+            + " or -" + RestAPIClientParameterKeys._KEY_AGENT);
+        
+        return false;
+      }
+      
+      values.put(RestAPIClientParameterKeys._KEY_AGENT_TOKEN, "");
+      
+      return true;
+    }
+    
+    if (!setAgentToken(values)) {
+      
+      return false;
+    }
+    
+    for (String key : RestAPIClientAgent._FILE_KEYS) {
+      
+      if (!values.getOrDefault(key, "").isBlank()) {
+        
+        _errors.add("-" + key + " reads or writes files, which agents do not do, and cannot be used with -"
+            + RestAPIClientParameterKeys._KEY_COORDINATOR);
+        
+        return false;
+      }
+    }
+    
+    String[] agents = values.get(RestAPIClientParameterKeys._KEY_COORDINATOR).trim().split(",");
+    
+    for (int k = 0; k < agents.length; k++) {
+      
+      agents[k] = agents[k].trim();
+      
+      int colon = agents[k].lastIndexOf(':');
+      
+      if (colon < 1 || !agents[k].substring(colon + 1).matches(_PORT_PATTERN)
+          || Integer.parseInt(agents[k].substring(colon + 1)) > _MAXIMUM_PORT) {
+        
+        _errors.add("-" + RestAPIClientParameterKeys._KEY_COORDINATOR + " agent '" + agents[k] + "' invalid. use <host>:<port>,...");
+        
+        return false;
+      }
+    }
+    
+    if (_rate < agents.length || (_count > 0 && _count < agents.length) || _profile != null || _inflight > 0 || _findMax) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_COORDINATOR + " needs -" + RestAPIClientParameterKeys._KEY_RATE
+          + " and -" + RestAPIClientParameterKeys._KEY_COUNT + " of at least 1 per agent and cannot be used with -" + RestAPIClientParameterKeys._KEY_PROFILE + ", -"
+          + RestAPIClientParameterKeys._KEY_INFLIGHT + " or -" + RestAPIClientParameterKeys._KEY_FIND_MAX);
+      
+      return false;
+    }
+    
+    _coordinator = agents;
+    
+    return true;
+  }
+
+  /**
+   * Method sets parameter field {@link _executor} from
+   * {@link RestAPIClientParameterKeys#_KEY_EXECUTOR}. One of 'default',
+   * 'virtual', 'common', 'fixed' or 'fixed:n'.
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setExecutor(Map<String, String> values) {
+  
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_EXECUTOR)) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_EXECUTOR, RestAPIClientHttp._EXECUTOR_DEFAULT);
+      
+      _executor = RestAPIClientHttp._EXECUTOR_DEFAULT;
+      
+      return true;
+    }
+    
+    String executor = values.get(RestAPIClientParameterKeys._KEY_EXECUTOR).trim().toLowerCase();
+    
+    if (executor.compareTo(RestAPIClientHttp._EXECUTOR_DEFAULT) == 0 ||
+        executor.compareTo(RestAPIClientHttp._EXECUTOR_VIRTUAL) == 0 ||
+        executor.compareTo(RestAPIClientHttp._EXECUTOR_COMMON)  == 0 ||
+        executor.compareTo(RestAPIClientHttp._EXECUTOR_FIXED)   == 0 ||
+        executor.matches(RestAPIClientHttp._EXECUTOR_FIXED + ":[1-9][0-9]{0,3}")) {
+      
+      _executor = executor;
+      
+      return true;
+    }
+    
+    logInvalidParameterError(RestAPIClientParameterKeys._KEY_EXECUTOR);
+  
+    return false;
+  }
+
+  /**
+   * Method sets parameter fields {@link _hedgeText} and {@link _hedge} from
+   * {@value RestAPIClientParameterKeys#_KEY_HEDGE}. Only gets are hedged, so
+   * the action must be get or -scenario. '0' turns hedging off.
+   * 
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setHedge(Map<String, String> values) {
+  
+    _hedgeText = values.getOrDefault(RestAPIClientParameterKeys._KEY_HEDGE, "0").trim();
+    
+    values.put(RestAPIClientParameterKeys._KEY_HEDGE, _hedgeText);
+    
+    if (_hedgeText.compareTo("0") == 0) {
+      
+      return true;
+    }
+    
+    if (getAction().compareTo(_ACTION_GET) != 0 && getAction().compareTo(RestAPIClientParameterKeys._KEY_SCENARIO) != 0) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_HEDGE + " needs -" + RestAPIClientParameterKeys._KEY_ACTION + " get or -" + RestAPIClientParameterKeys._KEY_SCENARIO);
+      
+      return false;
+    }
+    
+    _hedge = RestAPIClientHedge.parse(_hedgeText, _errors);
+    
+    return _hedge != null;
+  }
+
   /**
    * Method sets parameter field {@link _hostname} from
    * {@link RestAPIClientParameterKeys#_KEY_HOSTNAME}
@@ -333,6 +1371,60 @@ public class RestAPIClientValues {
     return false;
   }
 
+  /**
+   * Method sets parameter field {@link _httpVersion} from
+   * {@link RestAPIClientParameterKeys#_KEY_HTTP_VERSION}. One of '1.1' or '2'.
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setHttpVersion(Map<String, String> values) {
+  
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_HTTP_VERSION)) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_HTTP_VERSION, RestAPIClientHttp._VERSION_2);
+      
+      _httpVersion = RestAPIClientHttp._VERSION_2;
+      
+      return true;
+    }
+    
+    String version = values.get(RestAPIClientParameterKeys._KEY_HTTP_VERSION).trim();
+    
+    if (version.compareTo(RestAPIClientHttp._VERSION_1_1) == 0 ||
+        version.compareTo(RestAPIClientHttp._VERSION_2)   == 0) {
+      
+      _httpVersion = version;
+      
+      return true;
+    }
+    
+    logInvalidParameterError(RestAPIClientParameterKeys._KEY_HTTP_VERSION);
+  
+    return false;
+  }
+
+  /**
+   * Method sets parameter field {@link _inflight} from
+   * {@link RestAPIClientParameterKeys#_KEY_INFLIGHT}
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setInflight(Map<String, String> values) {
+  
+    Long inflight = getBoundedLong(values, RestAPIClientParameterKeys._KEY_INFLIGHT, 0, 0, _MAXIMUM_INFLIGHT);
+    
+    if (inflight == null) {
+      
+      return false;
+    }
+    
+    _inflight = inflight.intValue();
+  
+    return true;
+  }
+
   /**
    * Method sets parameter field {@link _log} from
    * {@value RestAPIClientParameterKeys#_KEY_LOG}.
@@ -373,6 +1465,42 @@ public class RestAPIClientValues {
     return true;
   }
 
+  /**
+   * Method sets parameter field {@link _logAsync} from
+   * {@value RestAPIClientParameterKeys#_KEY_LOG_ASYNC}. Can be 'off', 'block',
+   * 'drop' or 'sample'.
+   * 
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setLogAsync(Map<String, String> values) {
+
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_LOG_ASYNC)) {
+
+      values.put(RestAPIClientParameterKeys._KEY_LOG_ASYNC, RestAPIClientLogRing._POLICY_OFF);
+
+      _logAsync = RestAPIClientLogRing._POLICY_OFF;
+
+      return true;
+    }
+
+    String logAsync = values.get(RestAPIClientParameterKeys._KEY_LOG_ASYNC).trim().toLowerCase();
+
+    if (logAsync.compareTo(RestAPIClientLogRing._POLICY_OFF) == 0 ||
+        logAsync.compareTo(RestAPIClientLogRing._POLICY_BLOCK) == 0 ||
+        logAsync.compareTo(RestAPIClientLogRing._POLICY_DROP) == 0 ||
+        logAsync.compareTo(RestAPIClientLogRing._POLICY_SAMPLE) == 0) {
+
+      _logAsync = logAsync;
+
+      return true;
+    }
+
+    _errors.add("-" + RestAPIClientParameterKeys._KEY_LOG_ASYNC + " must be value 'off', 'block', 'drop' or 'sample'");
+
+    return false;
+  }
+
   /**
    * Method sets parameter field {@link _payload} from
    * {@link RestAPIClientParameterKeys#_KEY_PAYLOAD}
@@ -382,12 +1510,22 @@ public class RestAPIClientValues {
    */
   private boolean setPayload(Map<String, String> values) {
 
-    boolean inverted = getAction().compareTo(RestAPIClientValues._ACTION_POST) != 0;
+    boolean inverted = !hasBody(getAction());
     
     boolean present = values.containsKey(RestAPIClientParameterKeys._KEY_PAYLOAD);
     
+    boolean file = values.containsKey(RestAPIClientParameterKeys._KEY_PAYLOAD_FILE)
+        || values.containsKey(RestAPIClientParameterKeys._KEY_UPLOAD_FILE);
+    
     if (present) {
 
+      if (!inverted && file) {
+        
+        _errors.add("-" + RestAPIClientParameterKeys._KEY_PAYLOAD + " cannot be used with -" + RestAPIClientParameterKeys._KEY_PAYLOAD_FILE + " or -" + RestAPIClientParameterKeys._KEY_UPLOAD_FILE);
+        
+        return false;
+      }
+      
       if (!inverted) {
         
         _payload = values.get(RestAPIClientParameterKeys._KEY_PAYLOAD);
@@ -400,7 +1538,7 @@ public class RestAPIClientValues {
       return false;
     }
 
-    if (!inverted) {
+    if (!inverted && !file) {
 
       logMissingParameterError(RestAPIClientParameterKeys._KEY_PAYLOAD);
       
@@ -412,6 +1550,85 @@ public class RestAPIClientValues {
     return true;
   }
 
+  /**
+   * Method sets parameter fields {@link _payloadFile} and {@link _corpus} from
+   * {@link RestAPIClientParameterKeys#_KEY_PAYLOAD_FILE} and
+   * {@link RestAPIClientParameterKeys#_KEY_PAYLOAD_ORDER}. The file is mapped
+   * and indexed here so a bad corpus is reported with the other errors.
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setPayloadFile(Map<String, String> values) {
+
+    if (values.containsKey(RestAPIClientParameterKeys._KEY_PAYLOAD_ORDER)) {
+      
+      _payloadOrder = values.get(RestAPIClientParameterKeys._KEY_PAYLOAD_ORDER).trim().toLowerCase();
+      
+      if (_payloadOrder.compareTo(RestAPIClientCorpus._ORDER_ROUND_ROBIN) != 0 &&
+          _payloadOrder.compareTo(RestAPIClientCorpus._ORDER_RANDOM) != 0) {
+        
+        _errors.add("-" + RestAPIClientParameterKeys._KEY_PAYLOAD_ORDER + " must be value '" + RestAPIClientCorpus._ORDER_ROUND_ROBIN + "' or '" + RestAPIClientCorpus._ORDER_RANDOM + "'");
+        
+        return false;
+      }
+      
+    } else {
+      
+      _payloadOrder = RestAPIClientCorpus._ORDER_ROUND_ROBIN;
+      
+      values.put(RestAPIClientParameterKeys._KEY_PAYLOAD_ORDER, _payloadOrder);
+    }
+    
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_PAYLOAD_FILE)) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_PAYLOAD_FILE, "");
+      
+      return true;
+    }
+    
+    if (!hasBody(getAction())) {
+      
+      logInvalidParameterError(RestAPIClientParameterKeys._KEY_PAYLOAD_FILE);
+      
+      return false;
+    }
+    
+    if (getUnique()) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_UNIQUE + " cannot be used with -" + RestAPIClientParameterKeys._KEY_PAYLOAD_FILE);
+      
+      return false;
+    }
+    
+    _payloadFile = values.get(RestAPIClientParameterKeys._KEY_PAYLOAD_FILE).trim();
+    
+    _corpus = RestAPIClientCorpus.open(_payloadFile, _payloadOrder, _errors);
+    
+    return _corpus != null;
+  }
+
+  /**
+   * Method sets parameter field {@link _poolSize} from
+   * {@link RestAPIClientParameterKeys#_KEY_POOL_SIZE}
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setPoolSize(Map<String, String> values) {
+  
+    Long poolSize = getBoundedLong(values, RestAPIClientParameterKeys._KEY_POOL_SIZE, 0, 0, 100000);
+    
+    if (poolSize == null) {
+      
+      return false;
+    }
+    
+    _poolSize = poolSize.intValue();
+  
+    return true;
+  }
+
   /**
    * Method sets parameter field {@link _port} from
    * {@value RestAPIClientParameterKeys#_KEY_PORT} Port value must be more than 0.
@@ -487,6 +1704,29 @@ public class RestAPIClientValues {
     return true;
   }
 
+  /**
+   * Method sets parameter field {@link _profile} from
+   * {@link RestAPIClientParameterKeys#_KEY_PROFILE}
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setProfile(Map<String, String> values) {
+  
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_PROFILE)) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_PROFILE, "");
+      
+      return true;
+    }
+    
+    _profileText = values.get(RestAPIClientParameterKeys._KEY_PROFILE).trim();
+    
+    _profile = RestAPIClientProfile.compile(_profileText, _errors);
+    
+    return _profile != null;
+  }
+
   /**
    * Method sets parameter field {@link _protocol} from
    * {@value RestAPIClientParameterKeys#_KEY_PROTOCOL}. Can be 'http' or 'https'.
@@ -521,6 +1761,299 @@ public class RestAPIClientValues {
     return true;
   }
 
+  /**
+   * Method sets parameter field {@link _rate} from
+   * {@link RestAPIClientParameterKeys#_KEY_RATE}
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setRate(Map<String, String> values) {
+  
+    Long rate = getBoundedLong(values, RestAPIClientParameterKeys._KEY_RATE, 0, 0, _MAXIMUM_RATE);
+    
+    if (rate == null) {
+      
+      return false;
+    }
+    
+    _rate = rate;
+  
+    return true;
+  }
+
+  /**
+   * Method sets parameter field {@link _reportInterval} from
+   * {@value RestAPIClientParameterKeys#_KEY_REPORT_INTERVAL}. Takes a duration
+   * such as '1s' or '500ms'. 0 turns the reporter off.
+   * 
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setReportInterval(Map<String, String> values) {
+  
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_REPORT_INTERVAL)) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_REPORT_INTERVAL, "0");
+      
+      _reportIntervalText = "0";
+      
+      return true;
+    }
+    
+    _reportIntervalText = values.get(RestAPIClientParameterKeys._KEY_REPORT_INTERVAL).trim();
+    
+    _reportInterval = RestAPIClientProfile.durationNanos(_reportIntervalText);
+    
+    if (_reportInterval != 0 && _reportInterval < _MINIMUM_REPORT_INTERVAL_NANOS) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_REPORT_INTERVAL + " must be a duration of at least 10ms such as '1s', or 0 for off");
+      
+      return false;
+    }
+    
+    return true;
+  }
+
+  /**
+   * Method sets parameter field {@link _results} from
+   * {@value RestAPIClientParameterKeys#_KEY_RESULTS}.
+   * 
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setResults(Map<String, String> values) {
+  
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_RESULTS)) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_RESULTS, "");
+      
+      return true;
+    }
+    
+    _results = values.get(RestAPIClientParameterKeys._KEY_RESULTS).trim();
+    
+    if (_results.isEmpty()) {
+      
+      logInvalidParameterError(RestAPIClientParameterKeys._KEY_RESULTS);
+      
+      return false;
+    }
+    
+    return true;
+  }
+
+  /**
+   * Method sets parameter fields {@link _retries} and {@link _retry} from
+   * {@value RestAPIClientParameterKeys#_KEY_RETRY} and
+   * {@value RestAPIClientParameterKeys#_KEY_RETRY_BACKOFF}, a duration such as
+   * '100ms'.
+   * 
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setRetry(Map<String, String> values) {
+  
+    boolean backoff = values.containsKey(RestAPIClientParameterKeys._KEY_RETRY_BACKOFF);
+    
+    Long retries = getBoundedLong(values, RestAPIClientParameterKeys._KEY_RETRY, 0, 0, _MAXIMUM_RETRIES);
+    
+    _retryBackoffText = values.getOrDefault(RestAPIClientParameterKeys._KEY_RETRY_BACKOFF, _DEFAULT_RETRY_BACKOFF).trim();
+    
+    values.put(RestAPIClientParameterKeys._KEY_RETRY_BACKOFF, _retryBackoffText);
+    
+    if (retries == null) {
+      
+      return false;
+    }
+    
+    _retries = retries.intValue();
+    
+    if (backoff && _retries == 0) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_RETRY_BACKOFF + " needs -" + RestAPIClientParameterKeys._KEY_RETRY);
+      
+      return false;
+    }
+    
+    long backoffNanos = RestAPIClientProfile.durationNanos(_retryBackoffText);
+    
+    if (backoffNanos < 0 || backoffNanos > RestAPIClientRetry._MAXIMUM_BACKOFF_MILLIS * 1000000L) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_RETRY_BACKOFF + " must be a duration up to 30s such as '100ms'");
+      
+      return false;
+    }
+    
+    if (_retries > 0) {
+      
+      _retry = new RestAPIClientRetry(_retries, backoffNanos);
+    }
+    
+    return true;
+  }
+
+  /**
+   * Method sets parameter field {@link _scenario} from
+   * {@value RestAPIClientParameterKeys#_KEY_SCENARIO}. The scenario supplies
+   * the action, entity and payload of every send, so -action, -entity,
+   * -payload, -payload-file and -upload-file cannot be set with it.
+   * 
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setScenario(Map<String, String> values) {
+  
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_SCENARIO)) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_SCENARIO, "");
+      
+      return true;
+    }
+    
+    for (String key : new String[] { RestAPIClientParameterKeys._KEY_ACTION, RestAPIClientParameterKeys._KEY_ENTITY,
+        RestAPIClientParameterKeys._KEY_PAYLOAD, RestAPIClientParameterKeys._KEY_PAYLOAD_FILE,
+        RestAPIClientParameterKeys._KEY_UPLOAD_FILE }) {
+      
+      if (values.containsKey(key)) {
+        
+        _errors.add("-" + key + " cannot be used with -" + RestAPIClientParameterKeys._KEY_SCENARIO);
+        
+        return false;
+      }
+    }
+    
+    _scenarioFile = values.get(RestAPIClientParameterKeys._KEY_SCENARIO).trim();
+    
+    _scenario = RestAPIClientScenario.open(_scenarioFile, _errors);
+    
+    return _scenario != null;
+  }
+
+  /**
+   * Method sets parameter field {@link _selfTest} from
+   * {@value RestAPIClientParameterKeys#_KEY_SELF_TEST} and the -stub-delay,
+   * -stub-size and -stub-status values. -hostname and -protocol point the
+   * client at loopback. The stub is bound on a free port when the run starts,
+   * which then sets -port through {@link #setStubPort(int)}. -url defaults to
+   * '{@value _SELF_TEST_URL}'.
+   * 
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setSelfTest(Map<String, String> values) {
+  
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_SELF_TEST)) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_SELF_TEST, "");
+      
+      for (String key : new String[] { RestAPIClientParameterKeys._KEY_STUB_DELAY,
+          RestAPIClientParameterKeys._KEY_STUB_SIZE, RestAPIClientParameterKeys._KEY_STUB_STATUS }) {
+        
+        if (values.containsKey(key)) {
+          
+          _errors.add("-" + key + " can only be used with -" + RestAPIClientParameterKeys._KEY_SELF_TEST);
+          
+          return false;
+        }
+        
+        values.put(key, "");
+      }
+      
+      return true;
+    }
+    
+    String value = values.get(RestAPIClientParameterKeys._KEY_SELF_TEST);
+    
+    if (!(value == null || value.isBlank())) {
+      
+      _errors.add("flag parameter -" + RestAPIClientParameterKeys._KEY_SELF_TEST + " should not have a value");
+      
+      return false;
+    }
+    
+    values.putIfAbsent(RestAPIClientParameterKeys._KEY_URL, _SELF_TEST_URL);
+    
+    if (values.containsKey(RestAPIClientParameterKeys._KEY_HOSTNAME)
+        || values.containsKey(RestAPIClientParameterKeys._KEY_PROTOCOL)
+        || values.containsKey(RestAPIClientParameterKeys._KEY_PORT)) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_SELF_TEST + " sets -" + RestAPIClientParameterKeys._KEY_HOSTNAME 
+          + ", -" + RestAPIClientParameterKeys._KEY_PROTOCOL + " and -" + RestAPIClientParameterKeys._KEY_PORT + " itself");
+      
+      return false;
+    }
+    
+    _stubDelayText = values.getOrDefault(RestAPIClientParameterKeys._KEY_STUB_DELAY, "0").trim();
+    
+    values.put(RestAPIClientParameterKeys._KEY_STUB_DELAY, _stubDelayText);
+    
+    long delay = RestAPIClientProfile.durationNanos(_stubDelayText);
+    
+    if (delay < 0) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_STUB_DELAY + " must be a duration such as '5ms', or 0 for none");
+      
+      return false;
+    }
+    
+    Long size = getBoundedLong(values, RestAPIClientParameterKeys._KEY_STUB_SIZE, _DEFAULT_STUB_SIZE, 0, _MAXIMUM_STUB_SIZE);
+    
+    Long status = getBoundedLong(values, RestAPIClientParameterKeys._KEY_STUB_STATUS, 200, 200, 599);
+    
+    if (size == null || status == null) {
+      
+      return false;
+    }
+    
+    _stubSize = size.intValue();
+    
+    _stubStatus = status.intValue();
+    
+    _stubDelay = delay;
+    
+    _selfTest = true;
+    
+    values.put(RestAPIClientParameterKeys._KEY_HOSTNAME, InetAddress.getLoopbackAddress().getHostAddress());
+    
+    values.put(RestAPIClientParameterKeys._KEY_PROTOCOL, "http");
+    
+    values.put(RestAPIClientParameterKeys._KEY_PORT, "0");
+    
+    return true;
+  }
+
+  /**
+   * Method points {@link #_port} at the -self-test stub once it is bound.
+   * 
+   * @param port port the stub listens on.
+   */
+  void setStubPort(int port) {
+    
+    _port = port;
+  }
+
+  /**
+   * Method sets parameter field {@link _seqStart} from
+   * {@value RestAPIClientParameterKeys#_KEY_SEQ_START}.
+   *
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setSeqStart(Map<String, String> values) {
+  
+    Long seqStart = getBoundedLong(values, RestAPIClientParameterKeys._KEY_SEQ_START, 1, 1, Long.MAX_VALUE / 2);
+    
+    if (seqStart == null) {
+      
+      return false;
+    }
+    
+    _seqStart = seqStart;
+    
+    return true;
+  }
+
   /**
    * Method sets parameter field {@link _sleep} from
    * {@link RestAPIClientParameterKeys#_KEY_SLEEP}
@@ -599,8 +2132,10 @@ public class RestAPIClientValues {
       }
   
       _unique = true;
+      
+      _payloadTemplate = RestAPIClientPayloadTemplate.compile(getPayload(), _errors);
   
-      return true;
+      return _payloadTemplate != null;
   
     } else {
   
@@ -613,6 +2148,43 @@ public class RestAPIClientValues {
     return true;
   }
 
+  /**
+   * Method sets parameter fields {@link _uploadFile} and {@link _upload} from
+   * {@value RestAPIClientParameterKeys#_KEY_UPLOAD_FILE}.
+   * 
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setUploadFile(Map<String, String> values) {
+  
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_UPLOAD_FILE)) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_UPLOAD_FILE, "");
+      
+      return true;
+    }
+    
+    if (!hasBody(getAction())) {
+      
+      logInvalidParameterError(RestAPIClientParameterKeys._KEY_UPLOAD_FILE);
+      
+      return false;
+    }
+    
+    if (getUnique() || getCorpus() != null) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_UPLOAD_FILE + " cannot be used with -" + RestAPIClientParameterKeys._KEY_UNIQUE + " or -" + RestAPIClientParameterKeys._KEY_PAYLOAD_FILE);
+      
+      return false;
+    }
+    
+    _uploadFile = values.get(RestAPIClientParameterKeys._KEY_UPLOAD_FILE).trim();
+    
+    _upload = RestAPIClientUpload.open(_uploadFile, _errors);
+    
+    return _upload != null;
+  }
+
   /**
    * Method sets parameter field {@link _url} from
    * {@value RestAPIClientParameterKeys#_KEY_URL}.
@@ -647,8 +2219,20 @@ public class RestAPIClientValues {
   private boolean setValues(Map<String, String> values) {
  
     // NOTE: order is significant. check function content before moving.
-    if (!setAction(values) | !setLog(values) | !setHostname(values) | !setProtocol(values) | !setPort(values) | !setPayload(values)
-        | !setEntity(values) | !setCount(values) | !setSleep(values) | !setURL(values) | !setUnique(values)) {
+    if (values.containsKey(RestAPIClientParameterKeys._KEY_AGENT)) {
+      
+      return setAgent(values);
+    }
+    
+    if (!setScenario(values) | !setWorkflow(values) | !setAction(values) | !setLog(values) | !setSelfTest(values) | !setHostname(values) | !setProtocol(values) | !setPort(values) | !setPayload(values)
+        | !setEntity(values) | !setCount(values) | !setSleep(values) | !setURL(values) | !setUnique(values)
+        | !setConcurrency(values) | !setRate(values) | !setInflight(values)
+        | !setHttpVersion(values) | !setExecutor(values) | !setConnectTimeout(values) | !setPoolSize(values)
+        | !setProfile(values) | !setAssert(values) | !setBody(values) | !setPayloadFile(values)
+        | !setUploadFile(values) | !setLogAsync(values)
+        | !setResults(values) | !setReportInterval(values)
+        | !setRetry(values) | !setHedge(values) | !setAdaptive(values)
+        | !setFindMax(values) | !setSeqStart(values) | !setCoordinator(values)) {
   
       return false;
     }
@@ -679,12 +2263,132 @@ public class RestAPIClientValues {
     return false;
   }
 
+  /**
+   * Method sets parameter field {@link _workflow} from
+   * {@value RestAPIClientParameterKeys#_KEY_WORKFLOW}. The workflow supplies
+   * the action, entity and payload of every step, so -action, -entity,
+   * -payload, -payload-file, -upload-file and -scenario cannot be set with it.
+   * 
+   * @param values contains all loaded configuration parameter values.
+   * @return boolean indicating success or fail.
+   */
+  private boolean setWorkflow(Map<String, String> values) {
+  
+    if (!values.containsKey(RestAPIClientParameterKeys._KEY_WORKFLOW)) {
+      
+      values.put(RestAPIClientParameterKeys._KEY_WORKFLOW, "");
+      
+      return true;
+    }
+    
+    for (String key : new String[] { RestAPIClientParameterKeys._KEY_ACTION, RestAPIClientParameterKeys._KEY_ENTITY,
+        RestAPIClientParameterKeys._KEY_PAYLOAD, RestAPIClientParameterKeys._KEY_PAYLOAD_FILE,
+        RestAPIClientParameterKeys._KEY_UPLOAD_FILE }) {
+      
+      if (values.containsKey(key)) {
+        
+        _errors.add("-" + key + " cannot be used with -" + RestAPIClientParameterKeys._KEY_WORKFLOW);
+        
+        return false;
+      }
+    }
+    
+    if (!values.get(RestAPIClientParameterKeys._KEY_SCENARIO).isEmpty()) {
+      
+      _errors.add("-" + RestAPIClientParameterKeys._KEY_SCENARIO + " cannot be used with -" + RestAPIClientParameterKeys._KEY_WORKFLOW);
+      
+      return false;
+    }
+    
+    _workflowFile = values.get(RestAPIClientParameterKeys._KEY_WORKFLOW).trim();
+    
+    _workflow = RestAPIClientWorkflow.open(_workflowFile, _errors);
+    
+    return _workflow != null;
+  }
+
   /**
    * {@code List<String>} containing a list of errors encountered during parameter
    * processing.
    */
   protected List<String> _errors = new ArrayList<String>();
 
+  /**
+   * Default stub response body size '{@value _DEFAULT_STUB_SIZE}' bytes.
+   */
+  private static final long _DEFAULT_STUB_SIZE = 64;
+
+  /**
+   * Maximum stub response body size '{@value _MAXIMUM_STUB_SIZE}' bytes.
+   */
+  private static final long _MAXIMUM_STUB_SIZE = 64 * 1024 * 1024;
+
+  /**
+   * Url served by the -self-test stub when -url is not set '{@value _SELF_TEST_URL}'.
+   */
+  private static final String _SELF_TEST_URL = "/api/v1/";
+
+  /**
+   * Largest tcp port '{@value _MAXIMUM_PORT}'.
+   */
+  private static final long _MAXIMUM_PORT = 65535;
+
+  /**
+   * Fewest characters of an -agent-token '{@value _MINIMUM_AGENT_TOKEN}'.
+   */
+  private static final int _MINIMUM_AGENT_TOKEN = 16;
+
+  /**
+   * Pattern of an -agent-token.
+   */
+  private static final String _AGENT_TOKEN_PATTERN = "^\\S+$";
+
+  /**
+   * Pattern of a tcp port.
+   */
+  private static final String _PORT_PATTERN = "^[0-9]{1,5}$";
+
+  /**
+   * -adaptive value leaving the limit fixed '{@value _ADAPTIVE_OFF}'.
+   */
+  private static final String _ADAPTIVE_OFF = "off";
+
+  /**
+   * Interval between -adaptive limit log lines without -report-interval
+   * '{@value _DEFAULT_ADAPTIVE_LOG_NANOS}' ns.
+   */
+  private static final long _DEFAULT_ADAPTIVE_LOG_NANOS = 1000000000L;
+
+  /**
+   * Default counted length of a -find-max trial '{@value _DEFAULT_TRIAL}'.
+   */
+  private static final String _DEFAULT_TRIAL = "10s";
+
+  /**
+   * Default uncounted start of a -find-max trial '{@value _DEFAULT_WARMUP}'.
+   */
+  private static final String _DEFAULT_WARMUP = "2s";
+
+  /**
+   * Shortest -find-max trial '{@value _MINIMUM_TRIAL_NANOS}' ns.
+   */
+  private static final long _MINIMUM_TRIAL_NANOS = 1000000000L;
+
+  /**
+   * Maximum retries per send '{@value _MAXIMUM_RETRIES}'.
+   */
+  private static final long _MAXIMUM_RETRIES = 10;
+
+  /**
+   * Default backoff before the first retry '{@value _DEFAULT_RETRY_BACKOFF}'.
+   */
+  private static final String _DEFAULT_RETRY_BACKOFF = "100ms";
+
+  /**
+   * Minimum report interval '{@value _MINIMUM_REPORT_INTERVAL_NANOS}' ns.
+   */
+  private static final long _MINIMUM_REPORT_INTERVAL_NANOS = 10000000;
+
   /**
    * Valid values for {@link _log} log setting.
    */
@@ -696,11 +2400,71 @@ public class RestAPIClientValues {
     add("off");
   } };
 
+  /**
+   * Command line arguments as given.
+   */
+  private String[] _args = new String[0];
+
+  /**
+   * Configured -agent listening port, 0 if not an agent.
+   */
+  private int _agent = 0;
+
+  /**
+   * Configured -agent listening address.
+   */
+  private String _agentBind = "";
+
+  /**
+   * Configured token shared by coordinator and agents.
+   */
+  private String _agentToken = "";
+
+  /**
+   * Configured -coordinator agent addresses, or null.
+   */
+  private String[] _coordinator = null;
+
+  /**
+   * Configured message number of the first open-loop send.
+   */
+  private long _seqStart = 1;
+
   /**
    * Action name for server data.
    */
   private String _action = "";
 
+  /**
+   * Configured -adaptive algorithm.
+   */
+  private String _adaptive = _ADAPTIVE_OFF;
+
+  /**
+   * Limiter built from {@link #_adaptive}, or null.
+   */
+  private RestAPIClientLimiter _limiter = null;
+
+  /**
+   * Response assertions, or null.
+   */
+  private RestAPIClientAssertions _assertions = null;
+
+  /**
+   * Configured response body handling mode.
+   */
+  private String _body = "";
+
+  /**
+   * Configured number of concurrent workers.
+   */
+  private int _concurrency = 1;
+
+  /**
+   * Configured http connect timeout in milliseconds.
+   */
+  private int _connectTimeout = 10000;
+
   /**
    * Configured number of payloads to send to server.
    */
@@ -711,31 +2475,132 @@ public class RestAPIClientValues {
    */
   private String _entity = "";
 
+  /**
+   * Configured -find-max flag.
+   */
+  private boolean _findMax = false;
+
+  /**
+   * Objective of -find-max trials, or null.
+   */
+  private RestAPIClientSlo _slo = null;
+
+  /**
+   * Configured counted length of a -find-max trial.
+   */
+  private String _trialText = "";
+
+  /**
+   * Counted length of a -find-max trial in nanoseconds.
+   */
+  private long _trial = 0;
+
+  /**
+   * Configured uncounted start of a -find-max trial.
+   */
+  private String _warmupText = "";
+
+  /**
+   * Uncounted start of a -find-max trial in nanoseconds.
+   */
+  private long _warmup = 0;
+
+  /**
+   * Configured http client executor.
+   */
+  private String _executor = "";
+
+  /**
+   * Configured hedge delay, '0' for off.
+   */
+  private String _hedgeText = "0";
+
+  /**
+   * Hedge built from {@link #_hedgeText}, or null.
+   */
+  private RestAPIClientHedge _hedge = null;
+
   /**
    * Configured server name. Use Ip address (IPv4 only) or name.
    */
   private String _hostname = "";
 
+  /**
+   * Configured http version.
+   */
+  private String _httpVersion = "";
+
+  /**
+   * Configured maximum number of outstanding asynchronous sends.
+   */
+  private int _inflight = 0;
+
   /**
    * Configured value for additional log output.
    */
   private String _log = "";
 
+  /**
+   * Configured asynchronous logging policy.
+   */
+  private String _logAsync = "";
+
   /**
    * Payload to be sent to, and logged, by the remote service.
    */
   private String _payload = "";
 
+  /**
+   * Payload template compiled from {@link #_payload} when {@link #_unique} is
+   * set.
+   */
+  private RestAPIClientPayloadTemplate _payloadTemplate = null;
+
+  /**
+   * Configured payload corpus file name.
+   */
+  private String _payloadFile = "";
+
+  /**
+   * Configured payload corpus record order.
+   */
+  private String _payloadOrder = "";
+
+  /**
+   * Payload corpus mapped from {@link #_payloadFile}, or null.
+   */
+  private RestAPIClientCorpus _corpus = null;
+
+  /**
+   * Configured http connection pool size.
+   */
+  private int _poolSize = 0;
+
   /**
    * Configured server port.
    */
   private int _port = -1;
 
+  /**
+   * Configured load profile compiled from {@link #_profileText}.
+   */
+  private RestAPIClientProfile _profile = null;
+
+  /**
+   * Configured load profile text.
+   */
+  private String _profileText = "";
+
   /**
    * Configured connection protocol. Must be either 'http' or 'https'.
    */
   private String _protocol = "";
 
+  /**
+   * Configured open-loop send rate per second.
+   */
+  private long _rate = 0;
+
   /**
    * Configured intra-payload send sleep.
    */
@@ -752,11 +2617,111 @@ public class RestAPIClientValues {
    */
   private boolean _unique = false;
 
+  /**
+   * Configured report interval in nanoseconds, 0 if off.
+   */
+  private long _reportInterval = 0;
+
+  /**
+   * Configured report interval text.
+   */
+  private String _reportIntervalText = "";
+
+  /**
+   * Configured per-request result file name.
+   */
+  private String _results = "";
+
+  /**
+   * Configured maximum retries per send.
+   */
+  private int _retries = 0;
+
+  /**
+   * Configured backoff before the first retry.
+   */
+  private String _retryBackoffText = "";
+
+  /**
+   * Retry policy built from {@link #_retries}, or null.
+   */
+  private RestAPIClientRetry _retry = null;
+
+  /**
+   * Configured scenario file name.
+   */
+  private String _scenarioFile = "";
+
+  /**
+   * Scenario read from {@link #_scenarioFile}, or null.
+   */
+  private RestAPIClientScenario _scenario = null;
+
+  /**
+   * Configured workflow file name.
+   */
+  private String _workflowFile = "";
+
+  /**
+   * Workflow read from {@link #_workflowFile}, or null.
+   */
+  private RestAPIClientWorkflow _workflow = null;
+
+  /**
+   * Flag indicating -self-test.
+   */
+  private boolean _selfTest = false;
+
+  /**
+   * Configured stub response delay in nanoseconds.
+   */
+  private long _stubDelay = 0;
+
+  /**
+   * Configured stub response delay text.
+   */
+  private String _stubDelayText = "";
+
+  /**
+   * Configured stub response body size in bytes.
+   */
+  private int _stubSize = 0;
+
+  /**
+   * Configured stub response status.
+   */
+  private int _stubStatus = 0;
+
+  /**
+   * Configured upload file name.
+   */
+  private String _uploadFile = "";
+
+  /**
+   * Upload body mapped from {@link #_uploadFile}, or null.
+   */
+  private RestAPIClientUpload _upload = null;
+
   /**
    * Configured servlet Url prefix value.
    */
   private String _url = "";
 
+  /**
+   * Maximum number of concurrent workers '{@value _MAXIMUM_CONCURRENCY}'.
+   */
+  private static final int _MAXIMUM_CONCURRENCY = 100000;
+
+  /**
+   * Maximum number of outstanding asynchronous sends '{@value _MAXIMUM_INFLIGHT}'.
+   */
+  private static final int _MAXIMUM_INFLIGHT = 1000000;
+
+  /**
+   * Maximum open-loop send rate per second '{@value _MAXIMUM_RATE}'.
+   */
+  private static final long _MAXIMUM_RATE = 1000000;
+
   /**
    * Pattern for simple name checks.
    */
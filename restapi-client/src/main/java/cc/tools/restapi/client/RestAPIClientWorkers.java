@@ -0,0 +1,181 @@
+package cc.tools.restapi.client;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class implements a pool of workers sending to the server. Each worker
+ * runs on its own virtual thread and claims the next message number from a
+ * shared sequence until -count is reached or a send fails.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientWorkers {
+
+  /**
+   * Constructor {@link RestAPIClientWorkers}.
+   *
+   * @param config   configuration object.
+   * @param actionI  RestAPIClientActionI interface object used to peform action.
+   * @param progress progress object updated on each completed send.
+   * @param stats    stats object receiving latency.
+   */
+  public RestAPIClientWorkers(RestAPIClientConfig config, RestAPIClientActionI actionI,
+      RestAPIClientProgress progress, RestAPIClientStats stats) {
+
+    _config = config;
+
+    _actionI = actionI;
+
+    _progress = progress;
+
+    _stats = stats;
+
+    _count = config.getCount();
+  }
+
+  /**
+   * Method runs configured number of workers and waits for them to finish. A
+   * single worker runs on the calling thread.
+   *
+   * @return boolean value set to true for success, false otherwise.
+   */
+  public boolean run() {
+
+    int concurrency = _config.getConcurrency();
+
+    if (concurrency == 1) {
+
+      work();
+
+    } else {
+
+      try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+        for (int w = 0; w < concurrency; w++) {
+
+          executor.submit(this::work);
+        }
+      }
+    }
+
+    return !_failed.get();
+  }
+
+  /**
+   * Method implements worker loop. Claims message numbers from shared sequence
+   * and sends them until stopped.
+   */
+  private void work() {
+
+    RestAPIClientResult result = new RestAPIClientResult();
+
+    while (!_stop.get()) {
+
+      long i = _sequence.incrementAndGet();
+
+      if (_count != 0 && i > _count) {
+
+        _stop.set(true);
+
+        break;
+      }
+
+      _logger.debug("[",
+          i,
+          "] start");
+
+      long start = System.nanoTime();
+
+      boolean ok = _actionI.send(i, result.begin(i, start, start, 0));
+
+      result.end(System.nanoTime());
+
+      _stats.record(result);
+
+      if (!ok) {
+
+        _logger.error(_actionI.action() + " to server failed");
+
+        _failed.set(true);
+
+        _stop.set(true);
+
+        break;
+      }
+
+      _progress.update("ok");
+
+      if (_count != 0 && _sequence.get() >= _count) {
+
+        break;
+      }
+
+      pause();
+    }
+  }
+
+  /**
+   * Method to sleep in production loop.
+   */
+  private void pause() {
+
+    try {
+
+      Thread.sleep(_config.getSleep());
+
+    } catch (Exception e) {
+
+      _logger.exception(e);
+    }
+  }
+
+  /**
+   * Configuration object containing parameter settings.
+   */
+  private final RestAPIClientConfig _config;
+
+  /**
+   * Action used to send to server.
+   */
+  private final RestAPIClientActionI _actionI;
+
+  /**
+   * Progress object updated on each completed send.
+   */
+  private final RestAPIClientProgress _progress;
+
+  /**
+   * Stats object receiving latency.
+   */
+  private final RestAPIClientStats _stats;
+
+  /**
+   * Target number of sends. 0 indicates continuous.
+   */
+  private final long _count;
+
+  /**
+   * Last message number claimed by a worker.
+   */
+  private final AtomicLong _sequence = new AtomicLong();
+
+  /**
+   * Flag telling workers to stop claiming message numbers.
+   */
+  private final AtomicBoolean _stop = new AtomicBoolean();
+
+  /**
+   * Flag indicating a send failed.
+   */
+  private final AtomicBoolean _failed = new AtomicBoolean();
+
+  /**
+   * Local logger reference for logging operations.
+   */
+  final private static RestAPIClientLogger _logger = new RestAPIClientLogger(RestAPIClientWorkers.class.getName());
+}
@@ -0,0 +1,405 @@
+package cc.tools.restapi.client;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class implements a -workflow file: the steps one send runs in order,
+ * each step starting when the previous response has arrived. Each non-blank
+ * line that does not start with '#' is a step or an extract of the step above
+ *
+ * <pre>
+ * &lt;action&gt; &lt;entity&gt; [&lt;payload&gt;]
+ * extract &lt;field&gt; [&lt;variable&gt;]
+ *
+ * post    customer {"firstName":"sven","lastName":"svennis"}
+ * extract id
+ * get     customer/${id}
+ * delete  customer/${id}
+ * </pre>
+ *
+ * An extract takes the value of a json field from the step's response into a
+ * variable, named after the field unless given. Later entities and payloads
+ * use it as '${variable}' next to the payload placeholders, which are always
+ * rendered. The payload is required for post and put only.
+ *
+ * @author cc
+ * @version %I%, %G%
+ * @since 0.1
+ */
+public class RestAPIClientWorkflow {
+
+  /**
+   * Constructor {@link RestAPIClientWorkflow}.
+   *
+   * @param variables        variable names.
+   * @param actions          step actions.
+   * @param entities         step entities.
+   * @param payloadTemplates step payloads, null for none.
+   * @param fields           fields extracted by each step.
+   * @param targets          variable index of each extracted field.
+   */
+  private RestAPIClientWorkflow(List<String> variables, String[] actions, String[] entities,
+      RestAPIClientPayloadTemplate[] payloadTemplates, String[][] fields, int[][] targets) {
+
+    _variables = variables;
+
+    _actions = actions;
+
+    _entities = entities;
+
+    _payloadTemplates = payloadTemplates;
+
+    _fields = fields;
+
+    _targets = targets;
+  }
+
+  /**
+   * Method reads a workflow file.
+   *
+   * @param filename name of workflow file.
+   * @param errors   errors encountered are added to this list.
+   * @return RestAPIClientWorkflow workflow, or null on error.
+   */
+  static public RestAPIClientWorkflow open(String filename, List<String> errors) {
+
+    List<String> lines;
+
+    try {
+
+      lines = Files.readAllLines(Path.of(filename), StandardCharsets.UTF_8);
+
+    } catch (IOException | RuntimeException e) {
+
+      errors.add("-" + RestAPIClientParameterKeys._KEY_WORKFLOW + " '" + filename + "' not readable - " + e);
+
+      return null;
+    }
+
+    return parse(lines, errors);
+  }
+
+  /**
+   * Method parses workflow lines.
+   *
+   * @param lines  workflow file lines.
+   * @param errors errors encountered are added to this list.
+   * @return RestAPIClientWorkflow workflow, or null on error.
+   */
+  static RestAPIClientWorkflow parse(List<String> lines, List<String> errors) {
+
+    List<String> variables = new ArrayList<String>();
+
+    List<String> actions = new ArrayList<String>();
+
+    List<String> entities = new ArrayList<String>();
+
+    List<RestAPIClientPayloadTemplate> payloadTemplates = new ArrayList<RestAPIClientPayloadTemplate>();
+
+    List<List<String>> fields = new ArrayList<List<String>>();
+
+    List<List<Integer>> targets = new ArrayList<List<Integer>>();
+
+    int before = errors.size();
+
+    for (int n = 0; n < lines.size(); n++) {
+
+      String line = lines.get(n).trim();
+
+      if (line.isEmpty() || line.charAt(0) == '#') {
+
+        continue;
+      }
+
+      String where = "-" + RestAPIClientParameterKeys._KEY_WORKFLOW + " line " + (n + 1) + ": ";
+
+      String[] words = line.split("\\s+", 3);
+
+      String action = words[0].toLowerCase();
+
+      if (action.compareTo(_EXTRACT) == 0) {
+
+        if (actions.isEmpty()) {
+
+          errors.add(where + "extract must follow a step");
+
+          continue;
+        }
+
+        String[] names = line.split("\\s+");
+
+        if (names.length < 2 || names.length > 3) {
+
+          errors.add(where + "expected 'extract <field> [<variable>]'");
+
+          continue;
+        }
+
+        String variable = names[names.length - 1];
+
+        if (!variable.matches(_VARIABLE_PATTERN)
+            || RestAPIClientPayloadTemplate.compile("${" + variable + "}", new ArrayList<String>()) != null) {
+
+          errors.add(where + "variable '" + variable + "' invalid");
+
+          continue;
+        }
+
+        if (variables.contains(variable)) {
+
+          errors.add(where + "variable '" + variable + "' already extracted");
+
+          continue;
+        }
+
+        variables.add(variable);
+
+        fields.get(fields.size() - 1).add(names[1]);
+
+        targets.get(targets.size() - 1).add(variables.size() - 1);
+
+        continue;
+      }
+
+      if (words.length < 2) {
+
+        errors.add(where + "expected '<action> <entity> [<payload>]'");
+
+        continue;
+      }
+
+      String payload = words.length == 3 ? words[2] : null;
+
+      RestAPIClientPayloadTemplate payloadTemplate = null;
+
+      if (action.compareTo(RestAPIClientValues._ACTION_GET) == 0
+          || action.compareTo(RestAPIClientValues._ACTION_DELETE) == 0) {
+
+        if (payload != null) {
+
+          errors.add(where + action + " takes no payload");
+
+          continue;
+        }
+
+      } else if (RestAPIClientValues.hasBody(action)) {
+
+        if (payload == null) {
+
+          errors.add(where + action + " needs a payload");
+
+          continue;
+        }
+
+        payloadTemplate = RestAPIClientPayloadTemplate.compile(payload, variables, errors);
+
+        if (payloadTemplate == null) {
+
+          continue;
+        }
+
+      } else {
+
+        errors.add(where + "action '" + words[0] + "' must be 'delete', 'get', 'post', 'put' or 'extract'");
+
+        continue;
+      }
+
+      String entity = words[1];
+
+      if (RestAPIClientPayloadTemplate.compile(entity, variables, errors) == null) {
+
+        continue;
+      }
+
+      if (!entity.replaceAll(_PLACEHOLDER_PATTERN, "0").matches(_ENTITY_PATTERN)) {
+
+        errors.add(where + "entity '" + entity + "' invalid");
+
+        continue;
+      }
+
+      actions.add(action);
+
+      entities.add(entity);
+
+      payloadTemplates.add(payloadTemplate);
+
+      fields.add(new ArrayList<String>());
+
+      targets.add(new ArrayList<Integer>());
+    }
+
+    if (errors.size() > before) {
+
+      return null;
+    }
+
+    if (actions.isEmpty()) {
+
+      errors.add("-" + RestAPIClientParameterKeys._KEY_WORKFLOW + " has no steps");
+
+      return null;
+    }
+
+    String[][] stepFields = new String[actions.size()][];
+
+    int[][] stepTargets = new int[actions.size()][];
+
+    for (int k = 0; k < stepFields.length; k++) {
+
+      stepFields[k] = fields.get(k).toArray(new String[fields.get(k).size()]);
+
+      stepTargets[k] = targets.get(k).stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    return new RestAPIClientWorkflow(List.copyOf(variables),
+        actions.toArray(new String[actions.size()]),
+        entities.toArray(new String[entities.size()]),
+        payloadTemplates.toArray(new RestAPIClientPayloadTemplate[payloadTemplates.size()]),
+        stepFields,
+        stepTargets);
+  }
+
+  /**
+   * Method returns number of steps.
+   *
+   * @return int number of steps.
+   */
+  public int count() {
+
+    return _actions.length;
+  }
+
+  /**
+   * Method returns names of the extracted variables.
+   *
+   * @return {@code List<String>} variable names in order of extraction.
+   */
+  public List<String> variables() {
+
+    return _variables;
+  }
+
+  /**
+   * Method returns action of a step.
+   *
+   * @param k step index.
+   * @return String action.
+   */
+  public String action(int k) {
+
+    return _actions[k];
+  }
+
+  /**
+   * Method returns entity of a step.
+   *
+   * @param k step index.
+   * @return String entity, possibly with placeholders and variables.
+   */
+  public String entity(int k) {
+
+    return _entities[k];
+  }
+
+  /**
+   * Method returns payload of a step.
+   *
+   * @param k step index.
+   * @return RestAPIClientPayloadTemplate payload template, or null if the
+   *         action takes no payload.
+   */
+  public RestAPIClientPayloadTemplate payloadTemplate(int k) {
+
+    return _payloadTemplates[k];
+  }
+
+  /**
+   * Method returns fields extracted from the response of a step.
+   *
+   * @param k step index.
+   * @return String[] field names, empty if none.
+   */
+  public String[] fields(int k) {
+
+    return _fields[k];
+  }
+
+  /**
+   * Method returns variables receiving the fields extracted by a step.
+   *
+   * @param k step index.
+   * @return int[] variable index per field.
+   */
+  public int[] targets(int k) {
+
+    return _targets[k];
+  }
+
+  /**
+   * Method returns display name of a step.
+   *
+   * @param k step index.
+   * @return String step number, action and entity.
+   */
+  public String name(int k) {
+
+    return (k + 1) + " " + _actions[k].toUpperCase() + " " + _entities[k];
+  }
+
+  /**
+   * Workflow keyword '{@value _EXTRACT}' taking a response field.
+   */
+  private static final String _EXTRACT = "extract";
+
+  /**
+   * Pattern a variable name must match.
+   */
+  private static final String _VARIABLE_PATTERN = "^[a-zA-Z][a-zA-Z0-9_]*$";
+
+  /**
+   * Pattern matching a placeholder or variable.
+   */
+  private static final String _PLACEHOLDER_PATTERN = "\\$\\{[a-zA-Z0-9_]+\\}";
+
+  /**
+   * Pattern an entity must match once placeholders are rendered.
+   */
+  private static final String _ENTITY_PATTERN = "^[a-z\\-0-9\\/]+$";
+
+  /**
+   * Variable names.
+   */
+  private final List<String> _variables;
+
+  /**
+   * Step actions.
+   */
+  private final String[] _actions;
+
+  /**
+   * Step entities.
+   */
+  private final String[] _entities;
+
+  /**
+   * Step payloads.
+   */
+  private final RestAPIClientPayloadTemplate[] _payloadTemplates;
+
+  /**
+   * Fields extracted by each step.
+   */
+  private final String[][] _fields;
+
+  /**
+   * Variable index of each extracted field.
+   */
+  private final int[][] _targets;
+}
@@ -0,0 +1,59 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class RestAPIClientAgentTest {
+
+  @Test
+  public void shouldEncodeArgsOnOneLine() {
+
+    for (String arg : new String[] { "plain", "{\"name\": \"a b\"}", "line\nbreak", "carriage\r\nreturn", "100%", "+" }) {
+
+      String encoded = RestAPIClientAgent.encode(arg);
+
+      assertFalse(encoded, encoded.contains("\n") || encoded.contains("\r") || encoded.contains(" "));
+      assertEquals(arg, RestAPIClientAgent.decode(encoded));
+    }
+  }
+
+  @Test
+  public void shouldRefuseFileAndModeParameters() {
+
+    assertNull(RestAPIClientAgent.refused(Arrays.asList("-action", "get", "-payload", "results")));
+
+    for (String key : new String[] { "-results", "-upload-file", "-payload-file", "-Scenario", " -workflow", "-agent",
+        "-coordinator" }) {
+
+      assertEquals(key.trim().substring(1).toLowerCase(),
+          RestAPIClientAgent.refused(Arrays.asList("-action", "get", key, "x")));
+    }
+  }
+
+  @Test
+  public void shouldNeedTokenAndListenOnLoopback() {
+
+    assertFalse(new RestAPIClientConfig(new String[] { "-agent", "7000" }).isValid());
+    assertFalse(new RestAPIClientConfig(new String[] { "-agent", "7000", "-agent-token", "short" }).isValid());
+
+    RestAPIClientConfig config = new RestAPIClientConfig(
+        new String[] { "-agent", "7000", "-agent-token", "0123456789abcdef", "-log", "off" });
+
+    assertTrue(config.getErrors().toString(), config.isValid());
+    assertEquals("127.0.0.1", config.getAgentBind());
+    assertEquals("0123456789abcdef", config.getAgentToken());
+  }
+
+  @Test
+  public void shouldNotAcceptTokenOutsideAgentOrCoordinator() {
+
+    assertFalse(new RestAPIClientConfig(new String[] { "-hostname", "localhost", "-url", "/api/", "-entity", "item",
+        "-action", "get", "-log", "off", "-agent-token", "0123456789abcdef" }).isValid());
+  }
+}
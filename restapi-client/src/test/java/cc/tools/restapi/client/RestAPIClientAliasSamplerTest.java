@@ -0,0 +1,41 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class RestAPIClientAliasSamplerTest {
+
+  @Test
+  public void shouldPickInProportionToWeight() {
+
+    double[] weights = new double[] { 80, 15, 5, 0 };
+
+    RestAPIClientAliasSampler sampler = new RestAPIClientAliasSampler(weights);
+
+    int[] picks = new int[weights.length];
+
+    int total = 1000000;
+
+    for (int n = 0; n < total; n++) {
+
+      picks[sampler.next()]++;
+    }
+
+    assertEquals(0.80, picks[0] / (double) total, 0.005);
+    assertEquals(0.15, picks[1] / (double) total, 0.005);
+    assertEquals(0.05, picks[2] / (double) total, 0.005);
+    assertEquals(0, picks[3]);
+  }
+
+  @Test
+  public void shouldAlwaysPickSingleWeight() {
+
+    RestAPIClientAliasSampler sampler = new RestAPIClientAliasSampler(new double[] { 3 });
+
+    for (int n = 0; n < 1000; n++) {
+
+      assertEquals(0, sampler.next());
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class RestAPIClientAssertionsTest {
+
+  @Test
+  public void shouldDecideBeforeEndOfBody() {
+
+    List<String> errors = new ArrayList<String>();
+
+    RestAPIClientAssertions assertions = RestAPIClientAssertions.parse("status=OK; items[]; id; status!=ERROR", errors);
+
+    assertEquals(errors.toString(), 4, assertions.count());
+
+    String[] fields = { "status", "items", "id" };
+
+    RestAPIClientFieldScanner passing = scan(fields, assertions,
+        "{\"status\":\"OK\",\"id\":3,\"items\":[{\"id\":1}],\"tail\":\"not read\"");
+
+    assertTrue(passing.decided());
+    assertNull(assertions.check(passing.values()));
+
+    RestAPIClientFieldScanner failing = scan(fields, assertions, "{\"status\":\"ERROR\",\"items\":[");
+
+    assertTrue(failing.decided());
+    assertEquals("status=OK - was ERROR", assertions.check(failing.values()));
+
+    RestAPIClientFieldScanner empty = scan(fields, assertions, "{\"status\":\"OK\",\"id\":3,\"items\":[ ]}");
+
+    assertEquals("items[] - was []", assertions.check(empty.values()));
+
+    RestAPIClientFieldScanner missing = scan(fields, assertions, "{\"status\":\"OK\",\"items\":[2]");
+
+    assertFalse(missing.decided());
+    assertEquals("id - field missing", assertions.check(missing.values()));
+  }
+
+  @Test
+  public void shouldReportBadAssertions() {
+
+    List<String> errors = new ArrayList<String>();
+
+    assertNull(RestAPIClientAssertions.parse("=OK;a b;ok", errors));
+    assertEquals(2, errors.size());
+
+    assertNull(RestAPIClientAssertions.parse(" ; ", errors));
+    assertEquals(3, errors.size());
+  }
+
+  private static RestAPIClientFieldScanner scan(String[] fields, RestAPIClientAssertions assertions, String body) {
+
+    RestAPIClientFieldScanner scanner = new RestAPIClientFieldScanner(fields, assertions, false);
+
+    scanner.onNext(List.of(ByteBuffer.wrap(body.getBytes(StandardCharsets.UTF_8))));
+
+    return scanner;
+  }
+}
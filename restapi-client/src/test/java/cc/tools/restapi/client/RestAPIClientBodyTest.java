@@ -0,0 +1,94 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.zip.CRC32C;
+
+import org.junit.Test;
+
+public class RestAPIClientBodyTest {
+
+  @Test
+  public void shouldCountAndChecksumWithoutString() {
+
+    byte[] bytes = "{\"id\": 1, \"firstName\": \"sven\"}".getBytes(StandardCharsets.UTF_8);
+
+    CRC32C crc = new CRC32C();
+
+    crc.update(bytes);
+
+    Object counted = body(RestAPIClientBody._BODY_COUNT, bytes);
+
+    Object checked = body(RestAPIClientBody._BODY_CHECKSUM, bytes);
+
+    assertEquals(bytes.length, ((RestAPIClientBody.Result) counted).bytes());
+    assertEquals(-1, ((RestAPIClientBody.Result) counted).checksum());
+    assertEquals(bytes.length, ((RestAPIClientBody.Result) checked).bytes());
+    assertEquals(crc.getValue(), ((RestAPIClientBody.Result) checked).checksum());
+    assertEquals(bytes.length + " bytes", RestAPIClientBody.describe(counted));
+  }
+
+  @Test
+  public void shouldKeepOrDiscardBody() {
+
+    byte[] bytes = "ok".getBytes(StandardCharsets.UTF_8);
+
+    assertEquals("ok", body(RestAPIClientBody._BODY_KEEP, bytes));
+    assertEquals("(discarded)", RestAPIClientBody.describe(body(RestAPIClientBody._BODY_DISCARD, bytes)));
+  }
+
+  private static Object body(String mode, byte[] bytes) {
+
+    HttpResponse.BodySubscriber<?> subscriber = RestAPIClientBody.handler(mode).apply(_INFO);
+
+    subscriber.onSubscribe(new Flow.Subscription() {
+
+      @Override
+      public void request(long n) {
+      }
+
+      @Override
+      public void cancel() {
+      }
+    });
+
+    int half = bytes.length / 2;
+
+    subscriber.onNext(List.of(ByteBuffer.wrap(bytes, 0, half)));
+
+    subscriber.onNext(List.of(ByteBuffer.wrap(bytes, half, bytes.length - half)));
+
+    subscriber.onComplete();
+
+    return subscriber.getBody().toCompletableFuture().join();
+  }
+
+  private static final HttpResponse.ResponseInfo _INFO = new HttpResponse.ResponseInfo() {
+
+    @Override
+    public int statusCode() {
+
+      return 200;
+    }
+
+    @Override
+    public HttpHeaders headers() {
+
+      return HttpHeaders.of(Map.of(), (name, value) -> true);
+    }
+
+    @Override
+    public HttpClient.Version version() {
+
+      return HttpClient.Version.HTTP_1_1;
+    }
+  };
+}
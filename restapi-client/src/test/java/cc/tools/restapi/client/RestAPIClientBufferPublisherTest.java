@@ -0,0 +1,70 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Flow;
+
+import org.junit.Test;
+
+public class RestAPIClientBufferPublisherTest {
+
+  @Test
+  public void shouldDeliverBuffersOnDemandAndRepeatably() {
+
+    RestAPIClientBufferPublisher publisher = new RestAPIClientBufferPublisher(buffer("ab"), buffer("cd"), buffer("e"));
+
+    assertEquals(5, publisher.contentLength());
+    assertEquals("abcde", drain(publisher));
+    assertEquals("abcde", drain(publisher));
+  }
+
+  private static ByteBuffer buffer(String text) {
+
+    return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String drain(RestAPIClientBufferPublisher publisher) {
+
+    StringBuilder buffer = new StringBuilder();
+
+    boolean[] complete = new boolean[1];
+
+    publisher.subscribe(new Flow.Subscriber<ByteBuffer>() {
+
+      @Override
+      public void onSubscribe(Flow.Subscription subscription) {
+
+        _subscription = subscription;
+
+        subscription.request(1);
+      }
+
+      @Override
+      public void onNext(ByteBuffer item) {
+
+        buffer.append(StandardCharsets.UTF_8.decode(item));
+
+        _subscription.request(1);
+      }
+
+      @Override
+      public void onError(Throwable throwable) {
+      }
+
+      @Override
+      public void onComplete() {
+
+        complete[0] = true;
+      }
+
+      private Flow.Subscription _subscription;
+    });
+
+    assertTrue(complete[0]);
+
+    return buffer.toString();
+  }
+}
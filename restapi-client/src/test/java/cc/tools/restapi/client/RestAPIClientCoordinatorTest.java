@@ -0,0 +1,74 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class RestAPIClientCoordinatorTest {
+
+  @Test
+  public void shouldForwardAllButSplitParameters() {
+
+    String[] args = { "-self-test", "-rate", "100", "-action", "get", "-Count", "10", "-unique", "-coordinator",
+        "a:1,b:2", "-seq-start", "5", "-entity", "item", "-agent-token", "0123456789abcdef" };
+
+    assertEquals(Arrays.asList("-self-test", "-action", "get", "-unique", "-entity", "item"),
+        RestAPIClientCoordinator.forwarded(args));
+  }
+
+  @Test
+  public void shouldParseDoneMessage() {
+
+    assertArrayEquals(new String[] { "true", "1200", "2000000000" },
+        RestAPIClientCoordinator.done("done true 1200 2000000000"));
+    assertNull(RestAPIClientCoordinator.done("done true"));
+    assertNull(RestAPIClientCoordinator.done("done true -1 5"));
+    assertNull(RestAPIClientCoordinator.done("latency true 1 5"));
+    assertNull(RestAPIClientCoordinator.done(null));
+  }
+
+  @Test
+  public void shouldNeedTokenAndRefuseFileParameters() {
+
+    String[] args = { "-self-test", "-action", "get", "-entity", "item", "-log", "off", "-rate", "10", "-count", "10",
+        "-coordinator", "a:1" };
+
+    assertFalse(new RestAPIClientConfig(args).isValid());
+
+    String[] token = Arrays.copyOf(args, args.length + 2);
+
+    token[args.length] = "-agent-token";
+    token[args.length + 1] = "0123456789abcdef";
+
+    assertTrue(new RestAPIClientConfig(token).isValid());
+
+    String[] results = Arrays.copyOf(token, token.length + 2);
+
+    results[token.length] = "-results";
+    results[token.length + 1] = "/tmp/results.bin";
+
+    assertFalse(new RestAPIClientConfig(results).isValid());
+  }
+
+  @Test
+  public void shouldSplitRemainderAcrossFirstAgents() {
+
+    long total = 0;
+
+    for (int k = 0; k < 3; k++) {
+
+      total += RestAPIClientCoordinator.share(100, 3, k);
+    }
+
+    assertEquals(100, total);
+    assertEquals(34, RestAPIClientCoordinator.share(100, 3, 0));
+    assertEquals(33, RestAPIClientCoordinator.share(100, 3, 2));
+    assertEquals(0, RestAPIClientCoordinator.share(0, 3, 1));
+  }
+}
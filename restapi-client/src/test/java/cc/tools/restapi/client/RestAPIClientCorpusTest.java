@@ -0,0 +1,76 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RestAPIClientCorpusTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldIndexRecordsSkippingBlankLines() throws Exception {
+
+    RestAPIClientCorpus corpus = open("{\"a\":1}\r\n\n{\"b\":2}\n{\"c\":3}", RestAPIClientCorpus._ORDER_ROUND_ROBIN);
+
+    assertEquals(3, corpus.count());
+    assertEquals("{\"a\":1}", text(corpus.record(1)));
+    assertEquals("{\"b\":2}", text(corpus.record(2)));
+    assertEquals("{\"c\":3}", text(corpus.record(3)));
+    assertEquals("{\"a\":1}", text(corpus.record(4)));
+  }
+
+  @Test
+  public void shouldPickRecordsInRandomOrder() throws Exception {
+
+    RestAPIClientCorpus corpus = open("x\ny\n", RestAPIClientCorpus._ORDER_RANDOM);
+
+    for (int i = 1; i <= 20; i++) {
+
+      String record = text(corpus.record(i));
+
+      assertTrue(record.equals("x") || record.equals("y"));
+    }
+  }
+
+  @Test
+  public void shouldRejectEmptyOrMissingFile() throws Exception {
+
+    List<String> errors = new ArrayList<String>();
+
+    assertNull(RestAPIClientCorpus.open(write("\n\n").getPath(), RestAPIClientCorpus._ORDER_ROUND_ROBIN, errors));
+    assertNull(RestAPIClientCorpus.open(folder.getRoot() + "/missing.jsonl", RestAPIClientCorpus._ORDER_ROUND_ROBIN, errors));
+    assertEquals(2, errors.size());
+  }
+
+  private RestAPIClientCorpus open(String content, String order) throws Exception {
+
+    return RestAPIClientCorpus.open(write(content).getPath(), order, new ArrayList<String>());
+  }
+
+  private File write(String content) throws Exception {
+
+    File file = folder.newFile();
+
+    Files.writeString(file.toPath(), content);
+
+    return file;
+  }
+
+  private static String text(ByteBuffer buffer) {
+
+    return StandardCharsets.UTF_8.decode(buffer).toString();
+  }
+}
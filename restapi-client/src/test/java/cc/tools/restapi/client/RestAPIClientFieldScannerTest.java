@@ -0,0 +1,42 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Test;
+
+public class RestAPIClientFieldScannerTest {
+
+  @Test
+  public void shouldFindFieldsSplitAcrossBuffers() {
+
+    byte[] body = ("{\"name\": \"id\", \"data\": {\"id\" : 42, \"tags\": [\"a\"], \"note\": \"say \\\"hi\\\"\"},"
+        + " \"id\": 7, \"ok\": true}").getBytes(StandardCharsets.UTF_8);
+
+    for (int split = 1; split < body.length; split++) {
+
+      RestAPIClientFieldScanner scanner = new RestAPIClientFieldScanner(new String[] { "id", "note", "ok", "tags", "missing" });
+
+      scanner.onNext(List.of(ByteBuffer.wrap(body, 0, split), ByteBuffer.wrap(body, split, body.length - split)));
+
+      scanner.onComplete();
+
+      assertArrayEquals(new String[] { "42", "say \"hi\"", "true", "[...]", null }, scanner.values());
+    }
+  }
+
+  @Test
+  public void shouldTakeBareValueEndingBody() {
+
+    RestAPIClientFieldScanner scanner = new RestAPIClientFieldScanner(new String[] { "id" });
+
+    scanner.onNext(List.of(ByteBuffer.wrap("{\"id\":12".getBytes(StandardCharsets.UTF_8))));
+
+    scanner.onComplete();
+
+    assertArrayEquals(new String[] { "12" }, scanner.values());
+  }
+}
@@ -0,0 +1,223 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+
+import org.junit.Test;
+
+public class RestAPIClientHedgeTest {
+
+  @Test
+  public void shouldCancelHedgeWhenPrimaryWins() throws Exception {
+
+    FakeClient client = new FakeClient();
+
+    CompletableFuture<HttpResponse<Object>> winner = hedge().send(client, _REQUEST, _HANDLER);
+
+    CompletableFuture<HttpResponse<Object>> hedge = client.exchange(1);
+
+    client.exchange(0).complete(null);
+
+    winner.get(10, TimeUnit.SECONDS);
+
+    assertTrue(cancelled(hedge));
+  }
+
+  @Test
+  public void shouldCancelPrimaryWhenHedgeWins() throws Exception {
+
+    FakeClient client = new FakeClient();
+
+    CompletableFuture<HttpResponse<Object>> winner = hedge().send(client, _REQUEST, _HANDLER);
+
+    client.exchange(1).complete(null);
+
+    winner.get(10, TimeUnit.SECONDS);
+
+    assertTrue(cancelled(client.exchange(0)));
+    assertFalse(client.exchange(1).isCancelled());
+  }
+
+  @Test
+  public void shouldReportUnhedgedTailWhenHedgeWins() throws Exception {
+
+    FakeClient client = new FakeClient();
+
+    RestAPIClientHedge hedge = hedge();
+
+    CompletableFuture<HttpResponse<Object>> winner = hedge.send(client, _REQUEST, _HANDLER);
+
+    CompletableFuture<HttpResponse<Object>> sent = client.exchange(1);
+
+    Thread.sleep(20);
+
+    sent.complete(null);
+
+    winner.get(10, TimeUnit.SECONDS);
+
+    assertTrue(cancelled(client.exchange(0)));
+    assertEquals(1, hedge.hedged().count());
+    assertEquals(1, hedge.unhedged().count());
+    assertTrue(hedge.unhedged().max() + " " + hedge.hedged().max(), hedge.unhedged().max() > hedge.hedged().max());
+  }
+
+  @Test
+  public void shouldNotHedgeFastResponses() throws Exception {
+
+    FakeClient client = new FakeClient();
+
+    RestAPIClientHedge hedge = RestAPIClientHedge.parse("1s", new ArrayList<String>());
+
+    hedge.send(client, _REQUEST, _HANDLER);
+
+    client.exchange(0).complete(null);
+
+    Thread.sleep(50);
+
+    assertEquals(1, client._exchanges.size());
+  }
+
+  private static RestAPIClientHedge hedge() {
+
+    List<String> errors = new ArrayList<String>();
+
+    RestAPIClientHedge hedge = RestAPIClientHedge.parse("1ms", errors);
+
+    assertNotNull(errors.toString(), hedge);
+
+    return hedge;
+  }
+
+  private static boolean cancelled(CompletableFuture<?> exchange) throws InterruptedException {
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+    while (!exchange.isDone() && System.nanoTime() < deadline) {
+
+      Thread.sleep(1);
+    }
+
+    return exchange.isCancelled();
+  }
+
+  private static class FakeClient extends HttpClient {
+
+    CompletableFuture<HttpResponse<Object>> exchange(int k) throws InterruptedException {
+
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+      while (_exchanges.size() <= k && System.nanoTime() < deadline) {
+
+        Thread.sleep(1);
+      }
+
+      return _exchanges.get(k);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+
+      CompletableFuture<HttpResponse<T>> exchange = new CompletableFuture<HttpResponse<T>>();
+
+      _exchanges.add((CompletableFuture<HttpResponse<Object>>) (CompletableFuture<?>) exchange);
+
+      return exchange;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> handler,
+        HttpResponse.PushPromiseHandler<T> pushPromiseHandler) {
+
+      return sendAsync(request, handler);
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler) throws IOException {
+
+      throw new IOException("not supported");
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+
+      return Optional.empty();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+
+      return Optional.empty();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+
+      return Redirect.NEVER;
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+
+      return Optional.empty();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+
+      return null;
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+
+      return null;
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+
+      return Optional.empty();
+    }
+
+    @Override
+    public Version version() {
+
+      return Version.HTTP_1_1;
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+
+      return Optional.empty();
+    }
+
+    private final List<CompletableFuture<HttpResponse<Object>>> _exchanges = new CopyOnWriteArrayList<CompletableFuture<HttpResponse<Object>>>();
+  }
+
+  private static final HttpRequest _REQUEST = HttpRequest.newBuilder(URI.create("http://localhost/api/customer")).build();
+
+  private static final HttpResponse.BodyHandler<Object> _HANDLER = info -> HttpResponse.BodySubscribers.replacing(null);
+}
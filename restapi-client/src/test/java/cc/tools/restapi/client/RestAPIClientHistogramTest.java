@@ -0,0 +1,114 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class RestAPIClientHistogramTest {
+
+  @Test
+  public void shouldKeepExactValuesInFirstBucket() {
+
+    RestAPIClientHistogram histogram = new RestAPIClientHistogram();
+
+    for (long v = 1; v <= 100; v++) {
+      histogram.record(v);
+    }
+
+    assertEquals(100, histogram.count());
+    assertEquals(1, histogram.min());
+    assertEquals(100, histogram.max());
+    assertEquals(50.5, histogram.mean(), 0.0001);
+    assertEquals(50, histogram.percentile(50.0));
+    assertEquals(99, histogram.percentile(99.0));
+    assertEquals(100, histogram.percentile(100.0));
+  }
+
+  @Test
+  public void shouldRoundTripIndexAndValue() {
+
+    for (long v = 0; v < 10000000; v += 997) {
+
+      long lowest = RestAPIClientHistogram.valueFromIndex(RestAPIClientHistogram.index(v));
+      long highest = RestAPIClientHistogram.highestEquivalentValue(v);
+
+      assertTrue(lowest <= v && v <= highest);
+      assertTrue(highest - lowest <= Math.max(1, v / 128));
+    }
+  }
+
+  @Test
+  public void shouldReportPercentilesWithinPrecision() {
+
+    RestAPIClientHistogram histogram = new RestAPIClientHistogram();
+
+    for (long v = 1; v <= 100000; v++) {
+      histogram.record(v * 1000);
+    }
+
+    assertEquals(50000000, histogram.percentile(50.0), 50000000 / 100);
+    assertEquals(99000000, histogram.percentile(99.0), 99000000 / 100);
+    assertEquals(99900000, histogram.percentile(99.9), 99900000 / 100);
+    assertEquals(100000000, histogram.max());
+  }
+
+  @Test
+  public void shouldClampValuesAboveHighestTrackable() {
+
+    RestAPIClientHistogram histogram = new RestAPIClientHistogram(1000000);
+
+    histogram.record(5000000);
+
+    assertEquals(1, histogram.count());
+    assertEquals(5000000, histogram.max());
+    assertEquals(5000000, histogram.percentile(99.0));
+  }
+
+  @Test
+  public void shouldAddAndReset() {
+
+    RestAPIClientHistogram a = new RestAPIClientHistogram();
+    RestAPIClientHistogram b = new RestAPIClientHistogram();
+
+    a.record(10);
+    b.record(20);
+    b.record(30);
+
+    a.add(b);
+
+    assertEquals(3, a.count());
+    assertEquals(10, a.min());
+    assertEquals(30, a.max());
+
+    a.reset();
+
+    assertEquals(0, a.count());
+    assertEquals(0, a.percentile(50.0));
+  }
+
+  @Test
+  public void shouldEncodeAndDecode() {
+
+    RestAPIClientHistogram histogram = new RestAPIClientHistogram();
+
+    for (long v = 1; v < 1000000000L; v *= 3) {
+
+      histogram.record(v);
+    }
+
+    RestAPIClientHistogram decoded = RestAPIClientHistogram.decode(histogram.encode());
+
+    assertEquals(histogram.count(), decoded.count());
+    assertEquals(histogram.min(), decoded.min());
+    assertEquals(histogram.max(), decoded.max());
+    assertEquals(histogram.mean(), decoded.mean(), 0.0);
+    assertEquals(histogram.percentile(90.0), decoded.percentile(90.0));
+    assertEquals(histogram.encode(), decoded.encode());
+
+    assertEquals(0, RestAPIClientHistogram.decode(new RestAPIClientHistogram().encode()).count());
+    assertNull(RestAPIClientHistogram.decode("1 2 3"));
+    assertNull(RestAPIClientHistogram.decode("3600000000000 1 5 5 5 x:1"));
+  }
+}
@@ -0,0 +1,68 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.net.http.HttpClient;
+
+import org.junit.Test;
+
+public class RestAPIClientHttpTest {
+
+  @Test
+  public void shouldShareClientForSameSettings() {
+
+    HttpClient get = RestAPIClientHttp.client(config("get", "-connect-timeout", "1234"));
+
+    HttpClient delete = RestAPIClientHttp.client(config("delete", "-connect-timeout", "1234"));
+
+    assertSame(get, delete);
+    assertEquals(1234, get.connectTimeout().get().toMillis());
+  }
+
+  @Test
+  public void shouldBuildClientPerSettings() {
+
+    HttpClient http2 = RestAPIClientHttp.client(config("get", "-connect-timeout", "4321"));
+
+    HttpClient http11 = RestAPIClientHttp.client(config("get", "-connect-timeout", "4321", "-http-version", "1.1"));
+
+    HttpClient common = RestAPIClientHttp.client(config("get", "-connect-timeout", "4321", "-executor", "common"));
+
+    assertNotSame(http2, http11);
+    assertNotSame(http2, common);
+    assertEquals(HttpClient.Version.HTTP_2, http2.version());
+    assertEquals(HttpClient.Version.HTTP_1_1, http11.version());
+    assertTrue(common.executor().isPresent());
+  }
+
+  @Test
+  public void shouldShareClientAcrossPoolSizes() {
+
+    HttpClient four = RestAPIClientHttp.client(config("get", "-connect-timeout", "5678", "-pool-size", "4"));
+
+    HttpClient eight = RestAPIClientHttp.client(config("get", "-connect-timeout", "5678", "-pool-size", "8"));
+
+    assertSame(four, eight);
+    assertTrue(RestAPIClientHttp.poolSize() >= 0);
+  }
+
+  private static RestAPIClientConfig config(String action, String... options) {
+
+    String[] base = { "-hostname", "localhost", "-url", "api", "-entity", "customer", "-action", action, "-log", "off" };
+
+    String[] args = new String[base.length + options.length];
+
+    System.arraycopy(base, 0, args, 0, base.length);
+
+    System.arraycopy(options, 0, args, base.length, options.length);
+
+    RestAPIClientConfig config = new RestAPIClientConfig(args);
+
+    assertTrue(config.getErrors().toString(), config.isValid());
+
+    return config;
+  }
+}
@@ -0,0 +1,124 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class RestAPIClientLimiterTest {
+
+  @Test
+  public void shouldSettleNearServerCapacity() throws InterruptedException {
+
+    for (String algorithm : new String[] { "aimd", "gradient" }) {
+
+      RestAPIClientLimiter limiter = RestAPIClientLimiter.parse(algorithm, 1000, Long.MAX_VALUE, new ArrayList<String>());
+
+      for (int round = 0; round < 300; round++) {
+
+        int limit = limiter.limit();
+
+        for (int n = 0; n < limit; n++) {
+
+          limiter.acquire();
+        }
+
+        for (int n = 0; n < limit; n++) {
+
+          limiter.release(result(latency(limit), 200));
+        }
+      }
+
+      int limit = limiter.limit();
+
+      assertTrue(algorithm + " " + limit, limit >= _CAPACITY / 2 && limit <= _CAPACITY * 3);
+    }
+  }
+
+  @Test
+  public void shouldHalveOnFailure() throws InterruptedException {
+
+    RestAPIClientLimiter limiter = RestAPIClientLimiter.parse("aimd", 64, Long.MAX_VALUE, new ArrayList<String>());
+
+    while (limiter.limit() < 64) {
+
+      limiter.acquire();
+
+      limiter.release(result(1000000, 200));
+    }
+
+    limiter.acquire();
+
+    limiter.release(result(1000000, 503));
+
+    assertEquals(32, limiter.limit());
+  }
+
+  @Test
+  public void shouldHalveOncePerRoundTrip() throws InterruptedException {
+
+    RestAPIClientLimiter limiter = RestAPIClientLimiter.parse("aimd", 64, Long.MAX_VALUE, new ArrayList<String>());
+
+    while (limiter.limit() < 64) {
+
+      limiter.acquire();
+
+      limiter.release(result(1000000, 200));
+    }
+
+    List<RestAPIClientResult> burst = new ArrayList<RestAPIClientResult>();
+
+    for (int n = 0; n < 64; n++) {
+
+      limiter.acquire();
+
+      burst.add(result(1000000, 503));
+    }
+
+    for (RestAPIClientResult result : burst) {
+
+      limiter.release(result);
+    }
+
+    assertEquals(32, limiter.limit());
+
+    limiter.acquire();
+
+    limiter.release(result(1000000, 503));
+
+    assertEquals(16, limiter.limit());
+  }
+
+  @Test
+  public void shouldReportUnknownAlgorithm() {
+
+    List<String> errors = new ArrayList<String>();
+
+    assertNull(RestAPIClientLimiter.parse("vegas", 10, 0, errors));
+    assertEquals(1, errors.size());
+  }
+
+  private static long latency(int outstanding) {
+
+    return 10000000L * Math.max(1, (outstanding + _CAPACITY - 1) / _CAPACITY);
+  }
+
+  private static RestAPIClientResult result(long latency, int status) {
+
+    long start = System.nanoTime();
+
+    RestAPIClientResult result = new RestAPIClientResult().begin(1, start, start, 0);
+
+    result.response(status, 0);
+
+    result.end(start + latency);
+
+    return result;
+  }
+
+  private static final int _CAPACITY = 20;
+}
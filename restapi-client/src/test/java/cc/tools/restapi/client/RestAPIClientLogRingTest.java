@@ -0,0 +1,137 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+
+public class RestAPIClientLogRingTest {
+
+  @Test
+  public void shouldWriteAllRecordsInOrderWhenBlocking() {
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    RestAPIClientLogRing ring = new RestAPIClientLogRing(RestAPIClientLogRing._POLICY_BLOCK, 4,
+        new PrintStream(out, true), new PrintStream(new ByteArrayOutputStream(), true));
+
+    StringBuilder expected = new StringBuilder();
+
+    for (int i = 0; i < 1000; i++) {
+
+      ring.offer(Integer.toString(i), false, false);
+
+      expected.append(i);
+    }
+
+    ring.shutdown();
+
+    assertEquals(expected.toString(), out.toString());
+    assertEquals(0, ring.dropped());
+  }
+
+  @Test
+  public void shouldCountDroppedRecordsWhenFull() {
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    RestAPIClientLogRing ring = new RestAPIClientLogRing(RestAPIClientLogRing._POLICY_DROP, 4,
+        new PrintStream(slow(out), true), new PrintStream(new ByteArrayOutputStream(), true));
+
+    for (int i = 0; i < 200; i++) {
+
+      ring.offer("x", false, false);
+    }
+
+    ring.shutdown();
+
+    assertTrue(ring.dropped() > 0);
+    assertEquals(200, out.size() + ring.dropped());
+  }
+
+  @Test(timeout = 10000)
+  public void shouldWriteSynchronouslyOnceWriterHasExited() {
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    RestAPIClientLogRing ring = new RestAPIClientLogRing(RestAPIClientLogRing._POLICY_BLOCK, 4,
+        new PrintStream(out, true), new PrintStream(new ByteArrayOutputStream(), true));
+
+    ring.offer("a", false, false);
+
+    ring.shutdown();
+
+    for (int i = 0; i < 10; i++) {
+
+      ring.offer(Integer.toString(i), false, false);
+    }
+
+    assertEquals("a0123456789", out.toString());
+    assertEquals(0, ring.dropped());
+  }
+
+  @Test(timeout = 10000)
+  public void shouldNotLoseRecordsOfferedDuringShutdown() throws InterruptedException {
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    RestAPIClientLogRing ring = new RestAPIClientLogRing(RestAPIClientLogRing._POLICY_BLOCK, 4,
+        new PrintStream(out, true), new PrintStream(new ByteArrayOutputStream(), true));
+
+    Thread[] producers = new Thread[4];
+
+    for (int p = 0; p < producers.length; p++) {
+
+      producers[p] = new Thread(() -> {
+
+        for (int i = 0; i < 2000; i++) {
+
+          ring.offer("x", false, false);
+        }
+      });
+
+      producers[p].start();
+    }
+
+    ring.shutdown();
+
+    for (Thread producer : producers) {
+
+      producer.join();
+    }
+
+    assertEquals(producers.length * 2000, out.size());
+    assertEquals(0, ring.dropped());
+  }
+
+  private static OutputStream slow(ByteArrayOutputStream out) {
+
+    return new OutputStream() {
+
+      @Override
+      public void write(int b) {
+
+        out.write(b);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) {
+
+        try {
+
+          Thread.sleep(5);
+
+        } catch (InterruptedException e) {
+
+          Thread.currentThread().interrupt();
+        }
+
+        out.write(b, off, len);
+      }
+    };
+  }
+}
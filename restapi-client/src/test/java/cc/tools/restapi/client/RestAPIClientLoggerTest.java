@@ -0,0 +1,64 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class RestAPIClientLoggerTest {
+
+  @Test
+  public void shouldNotBuildTextBelowLevel() {
+
+    RestAPIClientLoggerImpl impl = new RestAPIClientLoggerImpl();
+
+    impl.unbuffer("off");
+
+    RestAPIClientLogger logger = new RestAPIClientLogger("test", impl);
+
+    AtomicInteger built = new AtomicInteger();
+
+    logger.debug(() -> "debug " + built.incrementAndGet());
+
+    logger.info(() -> "info " + built.incrementAndGet());
+
+    logger.error(() -> "error " + built.incrementAndGet());
+
+    assertFalse(logger.isDebug());
+    assertEquals(0, built.get());
+  }
+
+  @Test
+  public void shouldBuildTextAtLevel() {
+
+    RestAPIClientLoggerImpl impl = new RestAPIClientLoggerImpl();
+
+    impl.unbuffer("error");
+
+    RestAPIClientLogger logger = new RestAPIClientLogger("test", impl);
+
+    AtomicInteger built = new AtomicInteger();
+
+    logger.info(() -> "info " + built.incrementAndGet());
+
+    logger.error(() -> "error " + built.incrementAndGet());
+
+    assertEquals(1, built.get());
+  }
+
+  @Test
+  public void shouldBuildEveryLevelBeforeLevelIsSet() {
+
+    RestAPIClientLoggerImpl impl = new RestAPIClientLoggerImpl();
+
+    assertTrue(impl.isActive(RestAPIClientLoggerImpl._LOG_LEVEL._LOG_DEBUG));
+
+    impl.unbuffer("info");
+
+    assertTrue(impl.isActive(RestAPIClientLoggerImpl._LOG_LEVEL._LOG_INFO));
+    assertFalse(impl.isActive(RestAPIClientLoggerImpl._LOG_LEVEL._LOG_DEBUG));
+  }
+}
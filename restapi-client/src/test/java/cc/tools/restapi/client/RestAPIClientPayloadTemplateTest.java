@@ -0,0 +1,69 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class RestAPIClientPayloadTemplateTest {
+
+  @Test
+  public void shouldRenderLiteralPayloadUnchanged() {
+
+    RestAPIClientPayloadTemplate template = compile("{\"name\":\"sven\"}");
+
+    assertEquals(0, template.placeholders());
+    assertEquals("{\"name\":\"sven\"}", render(template, 1));
+  }
+
+  @Test
+  public void shouldRenderSequenceNumber() {
+
+    RestAPIClientPayloadTemplate template = compile("{\"id\":${seq},\"copy\":\"${seq}\"}");
+
+    assertEquals(2, template.placeholders());
+    assertEquals("{\"id\":0,\"copy\":\"0\"}", render(template, 0));
+    assertEquals("{\"id\":9876543210,\"copy\":\"9876543210\"}", render(template, 9876543210L));
+  }
+
+  @Test
+  public void shouldRenderRandomValues() {
+
+    RestAPIClientPayloadTemplate template = compile("${uuid}|${rand}|${now}");
+
+    String[] first = render(template, 1).split("\\|");
+    String[] second = render(template, 2).split("\\|");
+
+    assertEquals(4, UUID.fromString(first[0]).version());
+    assertNotEquals(first[0], second[0]);
+    assertTrue(Long.parseLong(first[1]) >= 0);
+    assertTrue(Long.parseLong(first[2]) > 0);
+  }
+
+  @Test
+  public void shouldRejectUnknownOrOpenPlaceholders() {
+
+    List<String> errors = new ArrayList<String>();
+
+    assertNull(RestAPIClientPayloadTemplate.compile("{\"a\":${nope}}", errors));
+    assertNull(RestAPIClientPayloadTemplate.compile("{\"a\":${seq", errors));
+    assertEquals(2, errors.size());
+  }
+
+  private static RestAPIClientPayloadTemplate compile(String text) {
+
+    return RestAPIClientPayloadTemplate.compile(text, new ArrayList<String>());
+  }
+
+  private static String render(RestAPIClientPayloadTemplate template, long i) {
+
+    return new String(template.render(i), StandardCharsets.UTF_8);
+  }
+}
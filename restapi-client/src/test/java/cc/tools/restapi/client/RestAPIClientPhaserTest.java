@@ -0,0 +1,62 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class RestAPIClientPhaserTest {
+
+  @Test
+  public void shouldNotLoseWritesAcrossSwaps() throws Exception {
+
+    RestAPIClientPhaser phaser = new RestAPIClientPhaser();
+
+    AtomicReference<AtomicLong> active = new AtomicReference<AtomicLong>(new AtomicLong());
+
+    Thread[] writers = new Thread[4];
+
+    for (int w = 0; w < writers.length; w++) {
+
+      writers[w] = new Thread(() -> {
+
+        for (int i = 0; i < 100000; i++) {
+
+          long critical = phaser.writerEnter();
+
+          active.get().incrementAndGet();
+
+          phaser.writerExit(critical);
+        }
+      });
+
+      writers[w].start();
+    }
+
+    long total = 0;
+
+    boolean running = true;
+
+    while (running) {
+
+      running = false;
+
+      for (Thread writer : writers) {
+
+        running |= writer.isAlive();
+      }
+
+      AtomicLong ended = active.getAndSet(new AtomicLong());
+
+      phaser.flipPhase();
+
+      total += ended.get();
+    }
+
+    total += active.get().get();
+
+    assertEquals(400000, total);
+  }
+}
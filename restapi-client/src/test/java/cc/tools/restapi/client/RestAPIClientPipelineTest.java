@@ -0,0 +1,170 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+public class RestAPIClientPipelineTest {
+
+  @Test(timeout = 10000)
+  public void shouldKeepInflightSendsWithinWindow() {
+
+    FakeAction action = new FakeAction(0, false);
+
+    assertTrue(pipeline(action, "-inflight", "4", "-count", "200").run());
+    assertEquals(200, action._sends.get());
+    assertEquals(4, action._maximum.get());
+    assertEquals(0, action._inflight.get());
+  }
+
+  @Test(timeout = 10000)
+  public void shouldKeepInflightSendsWithinAdaptiveLimit() {
+
+    FakeAction action = new FakeAction(0, false);
+
+    RestAPIClientConfig config = config("-inflight", "8", "-adaptive", "aimd", "-count", "500");
+
+    assertTrue(pipeline(config, action).run());
+    assertEquals(500, action._sends.get());
+    assertTrue(action._maximum.get() + "", action._maximum.get() <= 8);
+    assertEquals(0, action._inflight.get());
+  }
+
+  @Test(timeout = 10000)
+  public void shouldStopStartingSendsOnFailure() {
+
+    FakeAction action = new FakeAction(20, false);
+
+    assertFalse(pipeline(action, "-inflight", "4", "-count", "200").run());
+    assertTrue(action._sends.get() + "", action._sends.get() < 20 + 4);
+    assertEquals(0, action._inflight.get());
+  }
+
+  @Test(timeout = 10000)
+  public void shouldReleaseWindowWhenSendCompletesExceptionally() {
+
+    FakeAction action = new FakeAction(20, true);
+
+    assertFalse(pipeline(action, "-inflight", "4", "-count", "200").run());
+    assertEquals(0, action._inflight.get());
+  }
+
+  @AfterClass
+  public static void shutdown() {
+
+    _timer.shutdownNow();
+  }
+
+  private static RestAPIClientPipeline pipeline(FakeAction action, String... options) {
+
+    return pipeline(config(options), action);
+  }
+
+  private static RestAPIClientPipeline pipeline(RestAPIClientConfig config, FakeAction action) {
+
+    return new RestAPIClientPipeline(config, action, new RestAPIClientProgress(config.getCount(), false),
+        new RestAPIClientStats());
+  }
+
+  private static RestAPIClientConfig config(String... options) {
+
+    String[] base = { "-hostname", "localhost", "-url", "api", "-entity", "customer", "-action", "get", "-log", "off" };
+
+    String[] args = new String[base.length + options.length];
+
+    System.arraycopy(base, 0, args, 0, base.length);
+
+    System.arraycopy(options, 0, args, base.length, options.length);
+
+    RestAPIClientConfig config = new RestAPIClientConfig(args);
+
+    assertTrue(config.getErrors().toString(), config.isValid());
+
+    return config;
+  }
+
+  private static class FakeAction implements RestAPIClientActionI {
+
+    FakeAction(long fail, boolean exception) {
+
+      _fail = fail;
+
+      _exception = exception;
+    }
+
+    @Override
+    public boolean isValid() {
+
+      return true;
+    }
+
+    @Override
+    public boolean send(long i, RestAPIClientResult result) {
+
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> sendAsync(long i, RestAPIClientResult result) {
+
+      _sends.incrementAndGet();
+
+      _maximum.accumulateAndGet(_inflight.incrementAndGet(), Math::max);
+
+      CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+
+      _timer.schedule(() -> {
+
+        _inflight.decrementAndGet();
+
+        if (i != _fail) {
+
+          result.response(200, 0);
+
+          future.complete(true);
+
+        } else if (_exception) {
+
+          future.completeExceptionally(new IOException("connection reset"));
+
+        } else {
+
+          result.response(500, 0);
+
+          future.complete(false);
+        }
+      }, 1, TimeUnit.MILLISECONDS);
+
+      return future;
+    }
+
+    @Override
+    public String action() {
+
+      return "get";
+    }
+
+    private final long _fail;
+
+    private final boolean _exception;
+
+    private final AtomicLong _sends = new AtomicLong();
+
+    private final AtomicInteger _inflight = new AtomicInteger();
+
+    private final AtomicInteger _maximum = new AtomicInteger();
+  }
+
+  private static final ScheduledExecutorService _timer = Executors.newScheduledThreadPool(2);
+}
@@ -0,0 +1,98 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class RestAPIClientProfileTest {
+
+  @Test
+  public void shouldScheduleRampsAndPlateaus() {
+
+    List<String> errors = new ArrayList<String>();
+
+    RestAPIClientProfile profile = RestAPIClientProfile.compile("10s:0->10rps, 10s:10rps, 10s:10->0rps", errors);
+
+    assertEquals(errors.toString(), 3, profile.stages());
+    assertEquals(200, profile.count());
+
+    // ramp up from 0: n sends by t seconds is t^2 / 2
+    assertEquals(0L, profile.offset(0));
+    assertEquals(2.0e9, profile.offset(2), _DELTA);
+    assertEquals(8.0e9, profile.offset(32), _DELTA);
+
+    // plateau: one send every 100 ms
+    assertEquals(10.0e9, profile.offset(50), _DELTA);
+    assertEquals(11.0e9, profile.offset(60), _DELTA);
+
+    // ramp down to 0: the last send is sqrt(2) s before the end
+    assertEquals(20.0e9, profile.offset(150), _DELTA);
+    assertEquals(30.0e9 - Math.sqrt(2.0) * 1.0e9, profile.offset(199), _DELTA);
+
+    assertEquals(-1L, profile.offset(200));
+  }
+
+  @Test
+  public void shouldFindStageAtBoundaries() {
+
+    RestAPIClientProfile profile = RestAPIClientProfile.compile("10s:0->10rps,10s:10rps,10s:10->0rps", new ArrayList<String>());
+
+    assertEquals(0, profile.stage(49));
+    assertEquals(1, profile.stage(50));
+    assertEquals(1, profile.stage(149));
+    assertEquals(2, profile.stage(150));
+    assertEquals(2, profile.stage(199));
+    assertEquals(-1, profile.stage(200));
+    assertEquals("10s:10rps", profile.name(1));
+  }
+
+  @Test
+  public void shouldSkipIdleStages() {
+
+    RestAPIClientProfile profile = RestAPIClientProfile.compile("5s:0rps,1s:10rps", new ArrayList<String>());
+
+    assertEquals(10, profile.count());
+    assertEquals(1, profile.stage(0));
+    assertEquals(5.0e9, profile.offset(0), _DELTA);
+    assertEquals(5.9e9, profile.offset(9), _DELTA);
+  }
+
+  @Test
+  public void shouldSendConstantRateForever() {
+
+    RestAPIClientProfile profile = RestAPIClientProfile.constant(100);
+
+    assertEquals(0, profile.count());
+    assertEquals(1.0e9, profile.offset(100), _DELTA);
+    assertEquals(3600.0e9, profile.offset(360000), _DELTA * 1000);
+  }
+
+  @Test
+  public void shouldParseDurations() {
+
+    assertEquals(500000000L, RestAPIClientProfile.durationNanos("500ms"));
+    assertEquals(1500000000L, RestAPIClientProfile.durationNanos("1.5s"));
+    assertEquals(120000000000L, RestAPIClientProfile.durationNanos("2m"));
+    assertEquals(3600000000000L, RestAPIClientProfile.durationNanos("1h"));
+    assertEquals(250000000L, RestAPIClientProfile.durationNanos(" 250 "));
+    assertEquals(-1L, RestAPIClientProfile.durationNanos("-1s"));
+    assertEquals(-1L, RestAPIClientProfile.durationNanos("1d"));
+  }
+
+  @Test
+  public void shouldReportBadStages() {
+
+    List<String> errors = new ArrayList<String>();
+
+    assertNull(RestAPIClientProfile.compile("10s:fast", errors));
+    assertNull(RestAPIClientProfile.compile("0s:10rps", errors));
+    assertNull(RestAPIClientProfile.compile("10:10rps", errors));
+    assertEquals(3, errors.size());
+  }
+
+  private static final double _DELTA = 1000.0;
+}
@@ -0,0 +1,71 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.ConnectException;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RestAPIClientResultsTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldRoundTripResultsThroughCsv() throws Exception {
+
+    File file = folder.newFile("run.bin");
+
+    RestAPIClientResults results = RestAPIClientResults.open(file.getPath());
+
+    long origin = System.nanoTime();
+
+    RestAPIClientResult result = new RestAPIClientResult();
+
+    result.begin(2, origin + 5000000, origin + 5250000, 0).response(200, 57);
+    result.end(origin + 7000000);
+    results.record(result);
+
+    result.begin(1, origin + 1000000, origin + 1000000, 0).error(new ConnectException());
+    result.end(origin + 1500000);
+    results.record(result);
+
+    results.close();
+
+    StringWriter csv = new StringWriter();
+
+    assertEquals(2, RestAPIClientResultsReader.toCsv(file.toPath(), csv));
+
+    String[] lines = csv.toString().split("\n");
+
+    assertEquals("seq,intended_us,start_us,latency_us,status,bytes_in,bytes_out,error", lines[1]);
+
+    String[] first = lines[2].split(",");
+
+    assertEquals("2", first[0]);
+    assertEquals(250, Long.parseLong(first[2]) - Long.parseLong(first[1]));
+    assertEquals("2000,200,57,0,none", String.join(",", first[3], first[4], first[5], first[6], first[7]));
+
+    String[] second = lines[3].split(",");
+
+    assertEquals("1", second[0]);
+    assertEquals(4000, Long.parseLong(first[1]) - Long.parseLong(second[1]));
+    assertEquals("500,-1,-1,0,connect", String.join(",", second[3], second[4], second[5], second[6], second[7]));
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldRejectForeignFile() throws Exception {
+
+    File file = folder.newFile("other.bin");
+
+    Files.writeString(file.toPath(), "not a results file");
+
+    RestAPIClientResultsReader.toCsv(file.toPath(), new StringWriter());
+  }
+}
@@ -0,0 +1,83 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class RestAPIClientRetryTest {
+
+  @Test
+  public void shouldRetryTransientFailuresOnly() {
+
+    RestAPIClientRetry retry = new RestAPIClientRetry(2, 1000000);
+
+    assertTrue(retry.retry(status(503), 0));
+    assertTrue(retry.retry(status(429), 1));
+    assertFalse(retry.retry(status(503), 2));
+
+    assertFalse(retry.retry(status(404), 0));
+
+    RestAPIClientResult connect = new RestAPIClientResult();
+
+    connect.error(new ConnectException());
+
+    assertTrue(retry.retry(connect, 0));
+
+    RestAPIClientResult cleared = status(500);
+
+    cleared.retry();
+
+    assertEquals(RestAPIClientResult._ERROR_NONE, cleared.error());
+  }
+
+  @Test
+  public void shouldJitterBelowExponentialCeiling() {
+
+    RestAPIClientRetry retry = new RestAPIClientRetry(10, 1000000);
+
+    for (int attempt = 0; attempt < 40; attempt++) {
+
+      long ceiling = Math.min(1000000L << Math.min(attempt, 30), RestAPIClientRetry._MAXIMUM_BACKOFF_MILLIS * 1000000L);
+
+      for (int n = 0; n < 100; n++) {
+
+        long delay = retry.delayNanos(attempt);
+
+        assertTrue(delay >= 0 && delay <= ceiling);
+      }
+    }
+  }
+
+  @Test
+  public void shouldParseHedgeDelays() {
+
+    List<String> errors = new ArrayList<String>();
+
+    assertNotNull(RestAPIClientHedge.parse("50ms", errors));
+    assertNotNull(RestAPIClientHedge.parse("p95", errors));
+    assertNotNull(RestAPIClientHedge.parse("P99.9", errors));
+    assertEquals(0, errors.size());
+
+    assertNull(RestAPIClientHedge.parse("p100", errors));
+    assertNull(RestAPIClientHedge.parse("p10", errors));
+    assertNull(RestAPIClientHedge.parse("soon", errors));
+    assertEquals(3, errors.size());
+  }
+
+  private static RestAPIClientResult status(int status) {
+
+    RestAPIClientResult result = new RestAPIClientResult();
+
+    result.response(status, 0);
+
+    return result;
+  }
+}
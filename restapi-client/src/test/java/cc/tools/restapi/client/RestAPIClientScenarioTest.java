@@ -0,0 +1,55 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class RestAPIClientScenarioTest {
+
+  @Test
+  public void shouldParseEndpoints() {
+
+    List<String> errors = new ArrayList<String>();
+
+    RestAPIClientScenario scenario = RestAPIClientScenario.parse(List.of(
+        "# mix",
+        "",
+        "80 get customer/${rand}",
+        "15 POST customer {\"firstName\": \"sven\"}",
+        "5 get fraud-check/1",
+        "5 put customer/${seq} {\"firstName\": \"svenne\"}",
+        "5 delete customer/${seq}"), errors);
+
+    assertNotNull(errors.toString(), scenario);
+    assertEquals(5, scenario.count());
+    assertEquals(0.15 / 1.1, scenario.share(1), 1e-9);
+    assertEquals("post", scenario.action(1));
+    assertEquals("{\"firstName\": \"sven\"}", scenario.payload(1));
+    assertNull(scenario.payload(0));
+    assertEquals("GET customer/${rand}", scenario.name(0));
+    assertEquals("PUT customer/${seq}", scenario.name(3));
+    assertNull(scenario.payload(4));
+  }
+
+  @Test
+  public void shouldReportEveryBadLine() {
+
+    List<String> errors = new ArrayList<String>();
+
+    RestAPIClientScenario scenario = RestAPIClientScenario.parse(List.of(
+        "0 get customer",
+        "10 patch customer {}",
+        "10 delete customer {}",
+        "10 post customer",
+        "10 get Customer",
+        "10 get customer/${id}"), errors);
+
+    assertNull(scenario);
+    assertEquals(6, errors.size());
+  }
+}
@@ -0,0 +1,151 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class RestAPIClientSchedulerTest {
+
+  @Test(timeout = 10000)
+  public void shouldStartSendsOnScheduleWhateverTheLatency() {
+
+    RestAPIClientStats stats = new RestAPIClientStats();
+
+    FakeAction action = new FakeAction(20, 0);
+
+    long start = System.nanoTime();
+
+    assertTrue(scheduler(action, stats, "-rate", "200", "-count", "100").run());
+
+    long elapsed = System.nanoTime() - start;
+
+    // closed-loop sends would take 100 x 20ms
+    assertTrue(millis(elapsed), elapsed >= TimeUnit.MILLISECONDS.toNanos(490));
+    assertTrue(millis(elapsed), elapsed < TimeUnit.MILLISECONDS.toNanos(1500));
+    assertEquals(100, action._sends.get());
+    assertEquals(100, stats.latency().count());
+    assertEquals(100, stats.lag().count());
+    assertTrue(millis(stats.latency().min()), stats.latency().min() >= TimeUnit.MILLISECONDS.toNanos(20));
+    assertTrue(millis(stats.lag().percentile(50)), stats.lag().percentile(50) < TimeUnit.MILLISECONDS.toNanos(5));
+  }
+
+  @Test(timeout = 10000)
+  public void shouldStopOnFailure() {
+
+    RestAPIClientStats stats = new RestAPIClientStats();
+
+    FakeAction action = new FakeAction(0, 5);
+
+    RestAPIClientScheduler scheduler = scheduler(action, stats, "-rate", "200", "-count", "100");
+
+    assertFalse(scheduler.run());
+    assertTrue(Long.toString(scheduler.started()), scheduler.started() < 100);
+  }
+
+  @Test(timeout = 10000)
+  public void shouldCountTrialFailuresAndCarryOn() {
+
+    RestAPIClientStats stats = new RestAPIClientStats();
+
+    FakeAction action = new FakeAction(0, 50);
+
+    RestAPIClientScheduler scheduler = new RestAPIClientScheduler(action, new RestAPIClientProgress(0, false), stats,
+        200, 1, TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(400), TimeUnit.SECONDS.toNanos(1));
+
+    assertTrue(scheduler.run());
+    assertEquals(100, scheduler.started());
+    assertEquals(80, scheduler.counted());
+    assertEquals(1, scheduler.trialErrors());
+    assertEquals(79, scheduler.trial().count());
+  }
+
+  private static RestAPIClientScheduler scheduler(FakeAction action, RestAPIClientStats stats, String... options) {
+
+    String[] base = { "-hostname", "localhost", "-url", "api", "-entity", "customer", "-action", "get", "-log", "off" };
+
+    String[] args = new String[base.length + options.length];
+
+    System.arraycopy(base, 0, args, 0, base.length);
+
+    System.arraycopy(options, 0, args, base.length, options.length);
+
+    RestAPIClientConfig config = new RestAPIClientConfig(args);
+
+    assertTrue(config.getErrors().toString(), config.isValid());
+
+    return new RestAPIClientScheduler(config, action, new RestAPIClientProgress(config.getCount(), false), stats);
+  }
+
+  private static String millis(long nanos) {
+
+    return RestAPIClientStats.millis(nanos);
+  }
+
+  private static class FakeAction implements RestAPIClientActionI {
+
+    FakeAction(long latencyMillis, long fail) {
+
+      _latencyMillis = latencyMillis;
+
+      _fail = fail;
+    }
+
+    @Override
+    public boolean isValid() {
+
+      return true;
+    }
+
+    @Override
+    public boolean send(long i, RestAPIClientResult result) {
+
+      _sends.incrementAndGet();
+
+      try {
+
+        Thread.sleep(_latencyMillis);
+
+      } catch (InterruptedException e) {
+
+        Thread.currentThread().interrupt();
+
+        return false;
+      }
+
+      if (i == _fail) {
+
+        result.response(500, 0);
+
+        return false;
+      }
+
+      result.response(200, 0);
+
+      return true;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> sendAsync(long i, RestAPIClientResult result) {
+
+      return CompletableFuture.completedFuture(send(i, result));
+    }
+
+    @Override
+    public String action() {
+
+      return "get";
+    }
+
+    private final long _latencyMillis;
+
+    private final long _fail;
+
+    private final AtomicLong _sends = new AtomicLong();
+  }
+}
@@ -0,0 +1,55 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class RestAPIClientSloTest {
+
+  @Test
+  public void shouldCheckLatencyAndErrorBudget() {
+
+    List<String> errors = new ArrayList<String>();
+
+    RestAPIClientSlo slo = RestAPIClientSlo.parse("p99<200ms, p50<20ms, errors<0.5%", errors);
+
+    assertEquals(errors.toString(), 0.5, slo.errorBudget(), 0.0);
+
+    RestAPIClientHistogram latency = new RestAPIClientHistogram();
+
+    for (int n = 0; n < 1000; n++) {
+
+      latency.record((n < 995 ? 10 : 150) * 1000000L);
+    }
+
+    assertNull(slo.check(latency, 1000, 5));
+    assertEquals("errors 0.60% over budget 0.5%", slo.check(latency, 1000, 6));
+
+    for (int n = 0; n < 20; n++) {
+
+      latency.record(300 * 1000000L);
+    }
+
+    String broken = slo.check(latency, 1020, 0);
+
+    assertTrue(broken, broken.startsWith("p99 ") && broken.endsWith(" ms not under 200.000 ms"));
+  }
+
+  @Test
+  public void shouldReportBadObjectives() {
+
+    List<String> errors = new ArrayList<String>();
+
+    assertEquals(RestAPIClientSlo._DEFAULT_ERROR_BUDGET, RestAPIClientSlo.parse("p99.9<1s", errors).errorBudget(), 0.0);
+
+    assertNull(RestAPIClientSlo.parse("p99>200ms", errors));
+    assertNull(RestAPIClientSlo.parse("p100<1s", errors));
+    assertNull(RestAPIClientSlo.parse("errors<1%", errors));
+    assertEquals(3, errors.size());
+  }
+}
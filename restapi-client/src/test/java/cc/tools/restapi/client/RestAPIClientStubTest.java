@@ -0,0 +1,63 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class RestAPIClientStubTest {
+
+  @Test
+  public void shouldAnswerWithCannedResponse() throws Exception {
+
+    List<String> errors = new ArrayList<String>();
+
+    RestAPIClientStub stub = RestAPIClientStub.open(0, "api/v1/", 0, 64, 201, errors);
+
+    assertNotNull(errors.toString(), stub);
+
+    stub.start();
+
+    try {
+
+      HttpClient client = HttpClient.newHttpClient();
+
+      String base = "http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + stub.port();
+
+      HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(base + "/api/v1/customer"))
+          .POST(HttpRequest.BodyPublishers.ofString("{\"firstName\": \"sven\"}")).build(),
+          HttpResponse.BodyHandlers.ofString());
+
+      assertEquals(201, response.statusCode());
+      assertEquals("application/json", response.headers().firstValue("content-type").orElse(""));
+      assertEquals(64, response.body().getBytes(StandardCharsets.UTF_8).length);
+      assertTrue(response.body(), response.body().startsWith("{\"pad\":\"xxx") && response.body().endsWith("x\"}"));
+
+      HttpResponse<String> missing = client.send(HttpRequest.newBuilder(URI.create(base + "/other")).build(),
+          HttpResponse.BodyHandlers.ofString());
+
+      assertEquals(404, missing.statusCode());
+
+    } finally {
+
+      stub.stop();
+    }
+  }
+
+  @Test
+  public void shouldPadSmallBodiesWithoutJson() {
+
+    assertEquals("xxxxx", new String(RestAPIClientStub.body(5), StandardCharsets.UTF_8));
+    assertEquals("{\"pad\":\"\"}", new String(RestAPIClientStub.body(10), StandardCharsets.UTF_8));
+  }
+}
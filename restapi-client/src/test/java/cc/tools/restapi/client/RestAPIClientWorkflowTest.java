@@ -0,0 +1,74 @@
+package cc.tools.restapi.client;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class RestAPIClientWorkflowTest {
+
+  @Test
+  public void shouldParseSteps() {
+
+    List<String> errors = new ArrayList<String>();
+
+    RestAPIClientWorkflow workflow = RestAPIClientWorkflow.parse(List.of(
+        "# crud",
+        "post customer {\"firstName\": \"sven\"}",
+        "extract id",
+        "extract name customer",
+        "",
+        "put customer/${id} {\"id\": ${id}, \"seq\": ${seq}}",
+        "get customer/${id}",
+        "delete customer/${id}"), errors);
+
+    assertNotNull(errors.toString(), workflow);
+    assertEquals(4, workflow.count());
+    assertEquals(List.of("id", "customer"), workflow.variables());
+    assertArrayEquals(new String[] { "id", "name" }, workflow.fields(0));
+    assertArrayEquals(new int[] { 0, 1 }, workflow.targets(0));
+    assertEquals(0, workflow.fields(1).length);
+    assertNull(workflow.payloadTemplate(2));
+    assertEquals("2 PUT customer/${id}", workflow.name(1));
+    assertEquals("{\"id\": 5, \"seq\": 9}",
+        new String(workflow.payloadTemplate(1).render(9, new String[] { "5", "sven" }), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void shouldEscapeExtractedValuesInUrl() {
+
+    RestAPIClientRequestTemplate template = new RestAPIClientRequestTemplate("GET",
+        "http://localhost:8080/api/customer/${id}?seq=${seq}", null, "test", List.of("id"));
+
+    HttpRequest request = template.request(7, new String[] { "a b/c?d#\u00e9" }, HttpRequest.BodyPublishers.noBody());
+
+    assertEquals("/api/customer/a%20b%2Fc%3Fd%23%C3%A9", request.uri().getRawPath());
+    assertEquals("seq=7", request.uri().getRawQuery());
+  }
+
+  @Test
+  public void shouldReportEveryBadLine() {
+
+    List<String> errors = new ArrayList<String>();
+
+    RestAPIClientWorkflow workflow = RestAPIClientWorkflow.parse(List.of(
+        "extract id",
+        "post customer {}",
+        "extract seq",
+        "extract id",
+        "extract id",
+        "get customer/${missing}",
+        "get customer {}",
+        "patch customer"), errors);
+
+    assertNull(workflow);
+    assertEquals(6, errors.size());
+  }
+}